@@ -0,0 +1,294 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.room.Room;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteOpenHelper;
+import androidx.sqlite.db.framework.FrameworkSQLiteOpenHelperFactory;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.model.Term;
+
+/**
+ * Checks that each migration upgrades a database in place without losing its rows.
+ *
+ * <p> Version 1 was never exported, so the version 1 database is built by hand with the tables
+ * Room created for it and filled with a term, an instructor, two courses, and two assessments.
+ * Each migration is run on it in turn and checked, and the whole chain is then run by Room as it
+ * opens the database, which checks every table against the entities. </p>
+ */
+@RunWith(AndroidJUnit4.class)
+public class MigrationTest {
+    private static final String TEST_DB = "migration-test";
+    private static final int CURRENT_VERSION = 6;
+
+    // The tables as Room created them at version 1, before any indices or integer codes
+    private static final String[] VERSION_1_TABLES = {
+            "CREATE TABLE IF NOT EXISTS `term_table` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, " +
+                    "`title` TEXT, `start_date` INTEGER, `end_date` INTEGER)",
+            "CREATE TABLE IF NOT EXISTS `course_instructor_table` (" +
+                    "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `name` TEXT, " +
+                    "`phone_number` TEXT, `email` TEXT)",
+            "CREATE TABLE IF NOT EXISTS `course_table` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, " +
+                    "`title` TEXT, `start_date` INTEGER, `end_date` INTEGER, `status` TEXT, " +
+                    "`course_instructor` INTEGER NOT NULL, `note` TEXT, `term_id` INTEGER NOT NULL, " +
+                    "FOREIGN KEY(`term_id`) REFERENCES `term_table`(`id`) " +
+                    "ON UPDATE NO ACTION ON DELETE CASCADE , " +
+                    "FOREIGN KEY(`course_instructor`) REFERENCES `course_instructor_table`(`id`) " +
+                    "ON UPDATE NO ACTION ON DELETE SET NULL )",
+            "CREATE TABLE IF NOT EXISTS `assessment_table` (" +
+                    "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `title` TEXT, `type` TEXT, " +
+                    "`start_date` INTEGER, `end_date` INTEGER, `course_id` INTEGER NOT NULL, " +
+                    "FOREIGN KEY(`course_id`) REFERENCES `course_table`(`id`) " +
+                    "ON UPDATE NO ACTION ON DELETE CASCADE )",
+            "CREATE TABLE IF NOT EXISTS room_master_table (id INTEGER PRIMARY KEY,identity_hash TEXT)",
+    };
+
+    private static final LocalDate START = LocalDate.of(2021, 1, 1);
+    private static final LocalDate END = LocalDate.of(2021, 6, 30);
+
+    private Context context;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(TEST_DB);
+    }
+
+    @After
+    public void tearDown() {
+        context.deleteDatabase(TEST_DB);
+    }
+
+    @Test
+    public void migrate1To2_indexesForeignKeys() {
+        try (SupportSQLiteDatabase db = openVersion1()) {
+            ScheduleRoomDatabase.MIGRATION_1_2.migrate(db);
+
+            assertIndex(db, "course_table", "index_course_table_term_id");
+            assertIndex(db, "course_table", "index_course_table_course_instructor");
+            assertIndex(db, "assessment_table", "index_assessment_table_course_id");
+            assertVersion1Rows(db);
+
+            // The courses of a term are now found through the index
+            assertTrue(queryPlan(db, "SELECT * FROM course_table WHERE term_id = 1")
+                    .contains("index_course_table_term_id"));
+        }
+    }
+
+    @Test
+    public void migrate2To3_indexesExistingText() {
+        try (SupportSQLiteDatabase db = openVersion1()) {
+            runMigrations(db, 3);
+
+            assertEquals(1, count(db, "SELECT docid FROM course_fts WHERE course_fts MATCH 'biology'"));
+            assertEquals(1, count(db, "SELECT docid FROM assessment_fts WHERE assessment_fts MATCH 'lab'"));
+            assertEquals(1, count(db, "SELECT docid FROM term_fts WHERE term_fts MATCH 'spring'"));
+            assertEquals(1, count(db, "SELECT docid FROM course_instructor_fts " +
+                    "WHERE course_instructor_fts MATCH 'grace'"));
+
+            // The triggers keep the index up to date with later writes
+            db.execSQL("UPDATE course_table SET title = 'Chemistry' WHERE id = 1");
+            assertEquals(0, count(db, "SELECT docid FROM course_fts WHERE course_fts MATCH 'biology'"));
+            assertEquals(1, count(db, "SELECT docid FROM course_fts WHERE course_fts MATCH 'chemistry'"));
+        }
+    }
+
+    @Test
+    public void migrate3To4_rewritesEnumNamesAsCodes() {
+        try (SupportSQLiteDatabase db = openVersion1()) {
+            runMigrations(db, 4);
+
+            assertEquals(DatabaseConverter.fromStatus(Course.Status.COMPLETED).longValue(),
+                    queryLong(db, "SELECT status FROM course_table WHERE id = 1"));
+            assertEquals(DatabaseConverter.fromStatus(Course.Status.PLAN_TO_TAKE).longValue(),
+                    queryLong(db, "SELECT status FROM course_table WHERE id = 2"));
+            assertEquals(DatabaseConverter.fromType(Assessment.Type.PERFORMANCE).longValue(),
+                    queryLong(db, "SELECT type FROM assessment_table WHERE id = 1"));
+            assertEquals(DatabaseConverter.fromType(Assessment.Type.OBJECTIVE).longValue(),
+                    queryLong(db, "SELECT type FROM assessment_table WHERE id = 2"));
+
+            // Rebuilding the course table did not cascade to the assessments
+            assertVersion1Rows(db);
+            assertIndex(db, "course_table", "index_course_table_term_id");
+            assertIndex(db, "assessment_table", "index_assessment_table_course_id");
+        }
+    }
+
+    @Test
+    public void migrate4To5_indexesDates() {
+        try (SupportSQLiteDatabase db = openVersion1()) {
+            runMigrations(db, 5);
+
+            assertIndex(db, "course_table", "index_course_table_start_date");
+            assertIndex(db, "course_table", "index_course_table_end_date");
+            assertIndex(db, "assessment_table", "index_assessment_table_start_date");
+            assertIndex(db, "assessment_table", "index_assessment_table_end_date");
+            assertVersion1Rows(db);
+        }
+    }
+
+    @Test
+    public void migrate5To6_addsAlertTable() {
+        try (SupportSQLiteDatabase db = openVersion1()) {
+            runMigrations(db, 6);
+
+            assertIndex(db, "alert_table", "index_alert_table_kind_target_id");
+            assertIndex(db, "alert_table", "index_alert_table_trigger_at");
+            assertEquals(0, count(db, "SELECT * FROM alert_table"));
+            assertVersion1Rows(db);
+        }
+    }
+
+    @Test
+    public void migrate1ToCurrent_matchesEntities() {
+        openVersion1().close();
+
+        // Room runs the migrations up to the current version when it opens the database, and
+        // fails the open if a table or index does not match its entity
+        ScheduleRoomDatabase database = Room.databaseBuilder(context, ScheduleRoomDatabase.class,
+                TEST_DB).addMigrations(ScheduleRoomDatabase.MIGRATIONS).build();
+        try {
+            assertEquals(CURRENT_VERSION, database.getOpenHelper().getReadableDatabase().getVersion());
+
+            Term term = database.termDao().getTermFromId(1);
+            assertNotNull(term);
+            assertEquals("Spring 2021", term.getTitle());
+            assertEquals(START, term.getStartDate());
+            assertEquals(END, term.getEndDate());
+
+            Course course = database.courseDao().getCourseFromId(1);
+            assertEquals(Course.Status.COMPLETED, course.getStatus());
+            assertEquals(1, course.getTermId());
+            assertEquals(1, course.getCourseInstructorId());
+            assertEquals(2, database.courseDao().getCoursesForTermNotLive(1).size());
+            assertEquals(2, database.assessmentDao().getSize());
+            assertEquals(1, database.searchDao().search(SearchQuery.create("biology", 10)).size());
+        } finally {
+            database.close();
+        }
+    }
+
+    /**
+     * Creates the version 1 database and fills it with a few rows.
+     *
+     * @return The open database, at version 1
+     */
+    private SupportSQLiteDatabase openVersion1() {
+        SupportSQLiteOpenHelper.Configuration configuration =
+                SupportSQLiteOpenHelper.Configuration.builder(context)
+                        .name(TEST_DB)
+                        .callback(new SupportSQLiteOpenHelper.Callback(1) {
+                            @Override
+                            public void onCreate(@NonNull SupportSQLiteDatabase db) {
+                                for (String table : VERSION_1_TABLES)
+                                    db.execSQL(table);
+                                db.execSQL("INSERT OR REPLACE INTO room_master_table (id,identity_hash) " +
+                                        "VALUES(42, 'version 1')");
+                            }
+
+                            @Override
+                            public void onUpgrade(@NonNull SupportSQLiteDatabase db, int oldVersion,
+                                                  int newVersion) {
+                            }
+                        })
+                        .build();
+        SupportSQLiteDatabase db = new FrameworkSQLiteOpenHelperFactory().create(configuration)
+                .getWritableDatabase();
+
+        long start = DatabaseConverter.dateToTimestamp(START);
+        long end = DatabaseConverter.dateToTimestamp(END);
+        db.execSQL("INSERT INTO term_table (id, title, start_date, end_date) VALUES (?, ?, ?, ?)",
+                new Object[] {1, "Spring 2021", start, end});
+        db.execSQL("INSERT INTO course_instructor_table (id, name, phone_number, email) " +
+                "VALUES (?, ?, ?, ?)", new Object[] {1, "Grace Hopper", "555-0100", "grace@example.edu"});
+        db.execSQL("INSERT INTO course_table (id, title, start_date, end_date, status, " +
+                        "course_instructor, note, term_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                new Object[] {1, "Biology", start, end, "COMPLETED", 1, "Read chapter one", 1});
+        db.execSQL("INSERT INTO course_table (id, title, start_date, end_date, status, " +
+                        "course_instructor, note, term_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                new Object[] {2, "History", start, end, "PLAN_TO_TAKE", 1, null, 1});
+        db.execSQL("INSERT INTO assessment_table (id, title, type, start_date, end_date, course_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", new Object[] {1, "Lab report", "PERFORMANCE", start, end, 1});
+        db.execSQL("INSERT INTO assessment_table (id, title, type, start_date, end_date, course_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", new Object[] {2, "Final exam", "OBJECTIVE", end, end, 1});
+        return db;
+    }
+
+    /**
+     * Runs the migrations from version 1 up to a version, as Room would run them.
+     *
+     * @param db The version 1 database
+     * @param version The version to migrate to
+     */
+    private static void runMigrations(SupportSQLiteDatabase db, int version) {
+        // MIGRATIONS[0] migrates from version 1
+        for (int i = 0; i < version - 1; i++)
+            ScheduleRoomDatabase.MIGRATIONS[i].migrate(db);
+    }
+
+    /**
+     * Checks that the rows written at version 1 are all still there, with their IDs and links.
+     *
+     * @param db The migrated database
+     */
+    private static void assertVersion1Rows(SupportSQLiteDatabase db) {
+        assertEquals(1, count(db, "SELECT * FROM term_table WHERE id = 1 AND title = 'Spring 2021'"));
+        assertEquals(1, count(db, "SELECT * FROM course_instructor_table WHERE id = 1"));
+        assertEquals(2, count(db, "SELECT * FROM course_table WHERE term_id = 1 AND course_instructor = 1"));
+        assertEquals(2, count(db, "SELECT * FROM assessment_table WHERE course_id = 1"));
+        assertEquals(1, count(db, "SELECT * FROM course_table WHERE id = 1 AND note = 'Read chapter one'"));
+    }
+
+    private static void assertIndex(SupportSQLiteDatabase db, String table, String index) {
+        List<String> indices = new ArrayList<>();
+        try (Cursor cursor = db.query("PRAGMA index_list(`" + table + "`)")) {
+            int name = cursor.getColumnIndexOrThrow("name");
+            while (cursor.moveToNext())
+                indices.add(cursor.getString(name));
+        }
+        assertTrue(table + " has no " + index + ": " + indices, indices.contains(index));
+    }
+
+    private static String queryPlan(SupportSQLiteDatabase db, String sql) {
+        StringBuilder plan = new StringBuilder();
+        try (Cursor cursor = db.query("EXPLAIN QUERY PLAN " + sql)) {
+            int detail = cursor.getColumnIndexOrThrow("detail");
+            while (cursor.moveToNext())
+                plan.append(cursor.getString(detail)).append('\n');
+        }
+        return plan.toString();
+    }
+
+    private static int count(SupportSQLiteDatabase db, String sql) {
+        try (Cursor cursor = db.query(sql)) {
+            return cursor.getCount();
+        }
+    }
+
+    private static long queryLong(SupportSQLiteDatabase db, String sql) {
+        try (Cursor cursor = db.query(sql)) {
+            assertTrue(cursor.moveToFirst());
+            return cursor.getLong(0);
+        }
+    }
+}
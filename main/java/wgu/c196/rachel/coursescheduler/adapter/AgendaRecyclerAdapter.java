@@ -0,0 +1,145 @@
+package wgu.c196.rachel.coursescheduler.adapter;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.Objects;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.databinding.TermRowBinding;
+import wgu.c196.rachel.coursescheduler.model.AgendaItem;
+
+/**
+ * Recycler Adapter for the agenda.
+ *
+ * <p> Sets up the cards for the RecyclerView list of AgendaItems. Each card shows the title of the
+ * course or assessment, whether it starts or ends, and the date. Contains the public class
+ * ViewHolder and the interface OnContactClickListener. </p>
+ */
+public class AgendaRecyclerAdapter extends ListAdapter<AgendaItem, AgendaRecyclerAdapter.ViewHolder> {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM);
+
+    private OnContactClickListener onContactClickListener;
+
+    /**
+     * Compares AgendaItems so that only the rows that changed are rebound when the agenda changes.
+     */
+    private static final DiffUtil.ItemCallback<AgendaItem> DIFF_CALLBACK = new DiffUtil.ItemCallback<AgendaItem>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull AgendaItem oldItem, @NonNull AgendaItem newItem) {
+            return oldItem.getType() == newItem.getType() && oldItem.getId() == newItem.getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull AgendaItem oldItem, @NonNull AgendaItem newItem) {
+            return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getDate(), newItem.getDate());
+        }
+    };
+
+    /**
+     * Constructor for AgendaRecyclerAdapter.
+     *
+     * @param onContactClickListener A listener that specifies what will happen when the card is clicked in the RecyclerView
+     */
+    public AgendaRecyclerAdapter(OnContactClickListener onContactClickListener) {
+        super(DIFF_CALLBACK);
+        this.onContactClickListener = onContactClickListener;
+        setHasStableIds(true);
+    }
+
+    /**
+     * Gets the stable ID of the item at the given position.
+     *
+     * @param position The position of the item
+     * @return The item's type and id combined into one number
+     */
+    @Override
+    public long getItemId(int position) {
+        return getItem(position).getStableId();
+    }
+
+    /**
+     * Class that creates a ViewHolder.
+     *
+     * <p> This is called when the Adapter needs a new ViewHolder to represent an item. </p>
+     * @param parent The group that the ViewHolder's view will be added to.
+     * @param viewType An int specifying the type of ViewHolder to create, if there are multiple ViewHolders. (override getItemViewType())
+     * @return Returns a ViewHolder object
+     */
+    @NonNull
+    @Override
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.term_row, parent, false);
+        return new ViewHolder(view, onContactClickListener);
+    }
+
+    /**
+     * Displays the data at the given position.
+     *
+     * <p> This method populates the ViewHolder's card with the AgendaItem located at the given
+     * position. </p>
+     * @param holder The ViewHolder that contains the views where the data will be displayed
+     * @param position The position in the RecyclerView where the information will be displayed,
+     *                 also the position in the agenda
+     */
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+        AgendaItem item = getItem(position);
+
+        holder.binding.deleteCheckbox.setVisibility(View.GONE);
+        holder.binding.titleTextview.setText(item.getTitle());
+        holder.binding.startDateTextview.setText(item.getTypeName());
+        holder.binding.endDateTextview.setText(item.getDate().format(DATE_FORMAT));
+    }
+
+    /**
+     * Class that sets up the View for the Recycler Adapter to use.
+     */
+    public class ViewHolder extends RecyclerView.ViewHolder implements View.OnClickListener {
+        private OnContactClickListener onContactClickListener;
+
+        // Uses the term_row layout
+        final TermRowBinding binding;
+
+        /**
+         * Constructor for the ViewHolder class.
+         *
+         * @param itemView The view that will hold the row in the Recycler Adapter
+         * @param onContactClickListener The listener that specifies what will happen when the row is clicked
+         */
+        public ViewHolder(@NonNull View itemView, OnContactClickListener onContactClickListener) {
+            super(itemView);
+            this.onContactClickListener = onContactClickListener;
+            binding = TermRowBinding.bind(itemView);
+            itemView.setOnClickListener(this);
+        }
+
+        /**
+         * Method that passes the onClick to the onContactClickListener
+         *
+         * @param view The view (row) that was clicked on
+         */
+        @Override
+        public void onClick(View view) {
+            onContactClickListener.onContactClick(getAdapterPosition(), view);
+        }
+    }
+
+    /**
+     * Interface that specifies a listener that will tell the View in ViewHolder what to do when clicked
+     */
+    public interface OnContactClickListener {
+        void onContactClick(int position, View view);
+    }
+
+}
@@ -3,13 +3,16 @@ package wgu.c196.rachel.coursescheduler.adapter;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.CheckBox;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
-import java.util.List;
+import java.util.Objects;
 
 import wgu.c196.rachel.coursescheduler.R;
 import wgu.c196.rachel.coursescheduler.databinding.TermRowBinding;
@@ -18,22 +21,39 @@ import wgu.c196.rachel.coursescheduler.model.Assessment;
 /**
  * Recycler Adapter for the Assessment class.
  *
- * <p> Sets up the cards for the RecyclerView list of Assessments. Contains the public class
- * ViewHolder and the interface OnContactClickListener. </p>
+ * <p> Sets up the cards for the RecyclerView list of Assessments. Assessments are loaded a page
+ * at a time with the Paging library. Contains the public class ViewHolder and the interface
+ * OnContactClickListener. </p>
  */
-public class AssessmentRecyclerAdapter extends RecyclerView.Adapter<AssessmentRecyclerAdapter.ViewHolder> {
-    private List<Assessment> assessmentList;
+public class AssessmentRecyclerAdapter
+        extends SelectablePagingAdapter<Assessment, AssessmentRecyclerAdapter.ViewHolder> {
     private OnContactClickListener onContactClickListener;
-    private boolean isDelete = false;
+
+    /**
+     * Compares Assessments so that only the rows that changed are rebound when a new page is submitted.
+     */
+    private static final DiffUtil.ItemCallback<Assessment> DIFF_CALLBACK = new DiffUtil.ItemCallback<Assessment>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Assessment oldItem, @NonNull Assessment newItem) {
+            return oldItem.getId() == newItem.getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Assessment oldItem, @NonNull Assessment newItem) {
+            return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getStartDate(), newItem.getStartDate())
+                    && Objects.equals(oldItem.getEndDate(), newItem.getEndDate());
+        }
+    };
 
     /**
      * Constructor for AssessmentRecyclerAdapter.
      *
-     * @param assessmentList The list of Assessments that the RecyclerView will use
      * @param onContactClickListener A listener that specifies what will happen when the card is clicked in the RecyclerView
+     * @param selection The rows selected for deletion, kept by the screen
      */
-    public AssessmentRecyclerAdapter(List<Assessment> assessmentList, OnContactClickListener onContactClickListener) {
-        this.assessmentList = assessmentList;
+    public AssessmentRecyclerAdapter(OnContactClickListener onContactClickListener, DeleteSelection selection) {
+        super(DIFF_CALLBACK, selection);
         this.onContactClickListener = onContactClickListener;
     }
 
@@ -53,26 +73,33 @@ public class AssessmentRecyclerAdapter extends RecyclerView.Adapter<AssessmentRe
         return new ViewHolder(view, onContactClickListener);
     }
 
+    @Override
+    protected int getId(@NonNull Assessment assessment) {
+        return assessment.getId();
+    }
+
+    @NonNull
+    @Override
+    protected CheckBox getDeleteCheckbox(@NonNull ViewHolder holder) {
+        return holder.binding.deleteCheckbox;
+    }
+
     /**
-     * Displays the data at the given position.
+     * Displays a Assessment in a row, apart from its delete Checkbox.
      *
-     * <p> This method displays the data from the specified position. It populates the ViewHolder's
-     * card with the information for the Assessment located at the given position in the
-     * assessmentList. </p>
+     * <p> An Assessment that has not been loaded yet is shown as an empty card. </p>
      * @param holder The ViewHolder that contains the views where the data will be displayed
-     * @param position The position in the RecyclerView where the information will be displayed,
-     *                 also the position in the assessmentList for which Assessment to use
+     * @param assessment The Assessment at the row's position, or null if it has not been loaded
      */
     @Override
-    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        if (isDelete) {
-            holder.binding.deleteCheckbox.setVisibility(View.VISIBLE);
-        } else {
-            holder.binding.deleteCheckbox.setChecked(false);
-            holder.binding.deleteCheckbox.setVisibility(View.GONE);
+    protected void bindItem(@NonNull ViewHolder holder, @Nullable Assessment assessment) {
+        if (assessment == null) {
+            holder.binding.titleTextview.setText("");
+            holder.binding.startDateTextview.setText("");
+            holder.binding.endDateTextview.setText("");
+            return;
         }
 
-        Assessment assessment = assessmentList.get(position);
         holder.binding.titleTextview.setText(assessment.getTitle());
 
         String startDate = "Start Date: ";
@@ -86,26 +113,6 @@ public class AssessmentRecyclerAdapter extends RecyclerView.Adapter<AssessmentRe
         holder.binding.endDateTextview.setText(endDate);
     }
 
-    /**
-     * Gets the size of the list of Assessments being displayed.
-     * @return Returns the size of the list of Assessments being displayed
-     */
-    @Override
-    public int getItemCount() {
-        return assessmentList.size();
-    }
-
-    /**
-     * Sets the isDelete property.
-     *
-     * <p> This method tells the onBindViewHolder() method whether to display the delete Checkboxes.
-     * This will allow the Assessments to be selected for deletion. </p>
-     * @param isDelete True if the Assessments are being selected for deletion
-     */
-    public void setDelete(boolean isDelete) {
-        this.isDelete = isDelete;
-    }
-
     /**
      * Class that sets up the View for the Recycler Adapter to use.
      */
@@ -3,42 +3,56 @@ package wgu.c196.rachel.coursescheduler.adapter;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.CheckBox;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
-import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 
 import wgu.c196.rachel.coursescheduler.R;
 import wgu.c196.rachel.coursescheduler.databinding.CourseRowBinding;
-import wgu.c196.rachel.coursescheduler.model.Course;
-import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.CourseListItem;
 
 /**
  * Recycler Adapter for the Course class.
  *
- * <p> Sets up the cards for the RecyclerView list of courses. Contains the public class
- * ViewHolder and the interface OnContactClickListener. </p>
+ * <p> Sets up the cards for the RecyclerView list of courses. Courses are loaded a page at a time
+ * with the Paging library, as CourseListItems that already contain the instructor's name.
+ * Contains the public class ViewHolder and the interface OnContactClickListener. </p>
  */
-public class CourseRecyclerAdapter extends RecyclerView.Adapter<CourseRecyclerAdapter.ViewHolder> {
-    private List<Course> courseList;
-    private Map<Integer, CourseInstructor> instructorMap;
+public class CourseRecyclerAdapter extends SelectablePagingAdapter<CourseListItem, CourseRecyclerAdapter.ViewHolder> {
     private OnContactClickListener onContactClickListener;
-    private boolean isDelete = false;
+
+    /**
+     * Compares Courses so that only the rows that changed are rebound when a new page is submitted.
+     */
+    private static final DiffUtil.ItemCallback<CourseListItem> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<CourseListItem>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull CourseListItem oldItem, @NonNull CourseListItem newItem) {
+            return oldItem.getId() == newItem.getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull CourseListItem oldItem, @NonNull CourseListItem newItem) {
+            return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getInstructorName(), newItem.getInstructorName())
+                    && oldItem.getStatus() == newItem.getStatus();
+        }
+    };
 
     /**
      * Constructor for CourseRecyclerAdapter.
      *
-     * @param courseList The list of Courses that the RecyclerView will use
-     * @param instructorMap A list of CourseInstructors mapped to their ID, provided for fast access
      * @param onContactClickListener A listener that specifies what will happen when the card is clicked in the RecyclerView
+     * @param selection The rows selected for deletion, kept by the screen
      */
-    public CourseRecyclerAdapter(List<Course> courseList, Map<Integer, CourseInstructor> instructorMap,
-                                 OnContactClickListener onContactClickListener) {
-        this.courseList = courseList;
+    public CourseRecyclerAdapter(OnContactClickListener onContactClickListener, DeleteSelection selection) {
+        super(DIFF_CALLBACK, selection);
         this.onContactClickListener = onContactClickListener;
-        this.instructorMap = instructorMap;
     }
 
     /**
@@ -57,33 +71,38 @@ public class CourseRecyclerAdapter extends RecyclerView.Adapter<CourseRecyclerAd
         return new ViewHolder(view, onContactClickListener);
     }
 
+    @Override
+    protected int getId(@NonNull CourseListItem course) {
+        return course.getId();
+    }
+
+    @NonNull
+    @Override
+    protected CheckBox getDeleteCheckbox(@NonNull ViewHolder holder) {
+        return holder.binding.courseDeleteCheckbox;
+    }
+
     /**
-     * Displays the data at the given position.
+     * Displays a Course in a row, apart from its delete Checkbox.
      *
-     * <p> This method displays the data from the specified position. It populates the ViewHolder's
-     * card with the information for the Course located at the given position in the
-     * courseList. </p>
+     * <p> A Course that has not been loaded yet is shown as an empty card. </p>
      * @param holder The ViewHolder that contains the views where the data will be displayed
-     * @param position The position in the RecyclerView where the information will be displayed,
-     *                 also the position in the courseList for which Course to use
+     * @param course The Course at the row's position, or null if it has not been loaded
      */
     @Override
-    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        if (isDelete) {
-            holder.binding.courseDeleteCheckbox.setVisibility(View.VISIBLE);
-        } else {
-            holder.binding.courseDeleteCheckbox.setChecked(false);
-            holder.binding.courseDeleteCheckbox.setVisibility(View.GONE);
+    protected void bindItem(@NonNull ViewHolder holder, @Nullable CourseListItem course) {
+        if (course == null) {
+            holder.binding.courseTitleTextview.setText("");
+            holder.binding.courseInstructorTextview.setText("");
+            holder.binding.courseStatusTextview.setText("");
+            return;
         }
 
-        Course course = courseList.get(position);
-        CourseInstructor instructor = instructorMap.get(course.getCourseInstructorId());
-
         holder.binding.courseTitleTextview.setText(course.getTitle());
 
         String instructorName = "Instructor: ";
-        if (instructor != null && instructor.getName() != null)
-            instructorName += instructor.getName();
+        if (course.getInstructorName() != null)
+            instructorName += course.getInstructorName();
         holder.binding.courseInstructorTextview.setText(instructorName);
 
         String status = "Status: ";
@@ -92,26 +111,6 @@ public class CourseRecyclerAdapter extends RecyclerView.Adapter<CourseRecyclerAd
         holder.binding.courseStatusTextview.setText(status);
     }
 
-    /**
-     * Gets the size of the list of Courses being displayed.
-     * @return Returns the size of the list of Courses being displayed
-     */
-    @Override
-    public int getItemCount() {
-        return courseList.size();
-    }
-
-    /**
-     * Sets the isDelete property.
-     *
-     * <p> This method tells the onBindViewHolder() method whether to display the delete Checkboxes.
-     * This will allow the Courses to be selected for deletion. </p>
-     * @param isDelete True if the Courses are being selected for deletion
-     */
-    public void setDelete(boolean isDelete) {
-        this.isDelete = isDelete;
-    }
-
     /**
      * Class that sets up the View for the Recycler Adapter to use.
      */
@@ -0,0 +1,131 @@
+package wgu.c196.rachel.coursescheduler.adapter;
+
+import android.os.Bundle;
+import android.view.View;
+import android.widget.CheckBox;
+
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.util.IntHashSet;
+
+/**
+ * The rows selected for deletion in a list.
+ *
+ * <p> Each list screen keeps one of these, and its SelectablePagingAdapter uses it to know whether
+ * the list is in delete mode and the IDs of the rows that are checked. The checkboxes are set from
+ * these IDs every time a row is bound, so a row stays checked when it is scrolled away and back.
+ * The screen keeps it while its view is destroyed in the back stack, and saves it when the screen
+ * is recreated. Changing the mode or checking a row only rebinds the checkboxes,
+ * by notifying the adapter with PAYLOAD. </p>
+ */
+public class DeleteSelection {
+    /**
+     * Payload that tells an adapter only the delete checkboxes changed.
+     */
+    public static final Object PAYLOAD = new Object();
+
+    /**
+     * The ID to bind for a row that has not been loaded yet. Room IDs start at 1, so it is never
+     * selected.
+     */
+    public static final int NO_ID = -1;
+
+    private static final String IS_DELETE = "delete selection is delete";
+    private static final String SELECTED_IDS = "delete selection ids";
+
+    private boolean isDelete = false;
+    private final IntHashSet selectedIds = new IntHashSet();
+
+    public boolean isDelete() {
+        return isDelete;
+    }
+
+    /**
+     * Turns delete mode on or off. Turning it off unchecks every row.
+     *
+     * @param isDelete True if rows are being selected for deletion
+     * @return True if the mode changed, and the checkboxes need to be rebound
+     */
+    public boolean setDelete(boolean isDelete) {
+        if (!isDelete)
+            selectedIds.clear();
+        if (this.isDelete == isDelete)
+            return false;
+        this.isDelete = isDelete;
+        return true;
+    }
+
+    /**
+     * Checks a row if it is unchecked, or unchecks it if it is checked.
+     *
+     * @param id The ID of the row
+     */
+    public void toggle(int id) {
+        if (!selectedIds.remove(id))
+            selectedIds.add(id);
+    }
+
+    public IntHashSet getSelectedIds() {
+        return selectedIds;
+    }
+
+    /**
+     * Shows or hides a row's checkbox and checks it if the row is selected.
+     *
+     * @param checkBox The row's delete checkbox
+     * @param id The ID of the row, or NO_ID if the row has not been loaded
+     */
+    public void bind(CheckBox checkBox, int id) {
+        if (isDelete) {
+            checkBox.setVisibility(View.VISIBLE);
+            checkBox.setChecked(selectedIds.contains(id));
+        } else {
+            checkBox.setChecked(false);
+            checkBox.setVisibility(View.GONE);
+        }
+    }
+
+    /**
+     * Checks if a bind is only for the delete checkboxes.
+     *
+     * @param payloads The payloads passed to onBindViewHolder()
+     * @return True if every payload is PAYLOAD
+     */
+    public static boolean isSelectionOnly(List<Object> payloads) {
+        if (payloads.isEmpty())
+            return false;
+        for (Object payload : payloads) {
+            if (payload != PAYLOAD)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Saves the mode and the selected IDs.
+     *
+     * @param outState The bundle passed to onSaveInstanceState()
+     */
+    public void saveState(Bundle outState) {
+        outState.putBoolean(IS_DELETE, isDelete);
+        outState.putIntArray(SELECTED_IDS, selectedIds.toArray());
+    }
+
+    /**
+     * Restores the mode and the selected IDs saved by saveState().
+     *
+     * @param savedInstanceState The bundle passed to the screen's onCreate(), or null
+     */
+    public void restoreState(Bundle savedInstanceState) {
+        if (savedInstanceState == null)
+            return;
+
+        isDelete = savedInstanceState.getBoolean(IS_DELETE, false);
+        selectedIds.clear();
+        int[] ids = savedInstanceState.getIntArray(SELECTED_IDS);
+        if (ids != null) {
+            for (int id : ids)
+                selectedIds.add(id);
+        }
+    }
+}
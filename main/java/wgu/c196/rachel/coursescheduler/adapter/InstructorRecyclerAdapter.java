@@ -3,11 +3,14 @@ package wgu.c196.rachel.coursescheduler.adapter;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.CheckBox;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
-import java.util.List;
+import java.util.Objects;
 
 import wgu.c196.rachel.coursescheduler.R;
 import wgu.c196.rachel.coursescheduler.databinding.TermRowBinding;
@@ -16,34 +19,42 @@ import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
 /**
  * Recycler Adapter for the CourseInstructor class.
  *
- * <p> Sets up the cards for the RecyclerView list of course instructors. Contains the public class
- * ViewHolder and the interface OnContactClickListener. </p>
+ * <p> Sets up the cards for the RecyclerView list of course instructors. Course instructors are
+ * loaded a page at a time with the Paging library. Contains the public class ViewHolder and the
+ * interface OnContactClickListener. </p>
  */
-public class InstructorRecyclerAdapter extends RecyclerView.Adapter<InstructorRecyclerAdapter.ViewHolder> {
-    private List<CourseInstructor> instructorList;
+public class InstructorRecyclerAdapter
+        extends SelectablePagingAdapter<CourseInstructor, InstructorRecyclerAdapter.ViewHolder> {
     private OnContactClickListener onContactClickListener;
-    private boolean isDelete = false;
 
     /**
-     * Constructor for InstructorRecyclerAdapter.
-     *
-     * @param instructorList The list of Course Instructors that the RecyclerView will use
-     * @param onContactClickListener A listener that specifies what will happen when the card is clicked in the RecyclerView
+     * Compares Course Instructors so that only the rows that changed are rebound when a new page
+     * is submitted.
      */
-    public InstructorRecyclerAdapter(List<CourseInstructor> instructorList, OnContactClickListener onContactClickListener) {
-        this.instructorList = instructorList;
-        this.onContactClickListener = onContactClickListener;
-    }
+    private static final DiffUtil.ItemCallback<CourseInstructor> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<CourseInstructor>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull CourseInstructor oldItem, @NonNull CourseInstructor newItem) {
+            return oldItem.getId() == newItem.getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull CourseInstructor oldItem, @NonNull CourseInstructor newItem) {
+            return Objects.equals(oldItem.getName(), newItem.getName())
+                    && Objects.equals(oldItem.getPhoneNumber(), newItem.getPhoneNumber())
+                    && Objects.equals(oldItem.getEmail(), newItem.getEmail());
+        }
+    };
 
     /**
-     * Sets the isDelete property.
+     * Constructor for InstructorRecyclerAdapter.
      *
-     * <p> This method tells the onBindViewHolder() method whether to display the delete Checkboxes.
-     * This will allow the Course Instructors to be selected for deletion. </p>
-     * @param isDelete True if the Course Instructors are being selected for deletion
+     * @param onContactClickListener A listener that specifies what will happen when the card is clicked in the RecyclerView
+     * @param selection The rows selected for deletion, kept by the screen
      */
-    public void setDelete(boolean isDelete) {
-        this.isDelete = isDelete;
+    public InstructorRecyclerAdapter(OnContactClickListener onContactClickListener, DeleteSelection selection) {
+        super(DIFF_CALLBACK, selection);
+        this.onContactClickListener = onContactClickListener;
     }
 
     /**
@@ -62,41 +73,38 @@ public class InstructorRecyclerAdapter extends RecyclerView.Adapter<InstructorRe
         return new ViewHolder(view);
     }
 
+    @Override
+    protected int getId(@NonNull CourseInstructor instructor) {
+        return instructor.getId();
+    }
+
+    @NonNull
+    @Override
+    protected CheckBox getDeleteCheckbox(@NonNull ViewHolder holder) {
+        return holder.binding.deleteCheckbox;
+    }
+
     /**
-     * Displays the data at the given position.
+     * Displays a Course Instructor in a row, apart from its delete Checkbox.
      *
-     * <p> This method displays the data from the specified position. It populates the ViewHolder's
-     * card with the information for the Course Instructor located at the given position in the
-     * instructorList. </p>
+     * <p> A Course Instructor that has not been loaded yet is shown as an empty card. </p>
      * @param holder The ViewHolder that contains the views where the data will be displayed
-     * @param position The position in the RecyclerView where the information will be displayed,
-     *                 also the position in the instructorList for which Course Instructor to use
+     * @param instructor The Course Instructor at the row's position, or null if it has not been loaded
      */
     @Override
-    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        if (isDelete) {
-            holder.binding.deleteCheckbox.setVisibility(View.VISIBLE);
-        } else {
-            holder.binding.deleteCheckbox.setChecked(false);
-            holder.binding.deleteCheckbox.setVisibility(View.GONE);
+    protected void bindItem(@NonNull ViewHolder holder, @Nullable CourseInstructor instructor) {
+        if (instructor == null) {
+            holder.binding.titleTextview.setText("");
+            holder.binding.startDateTextview.setText("");
+            holder.binding.endDateTextview.setText("");
+            return;
         }
 
-        CourseInstructor instructor = instructorList.get(position);
         holder.binding.titleTextview.setText(instructor.getName());
         holder.binding.startDateTextview.setText("Phone Number: " + instructor.getPhoneNumber());
         holder.binding.endDateTextview.setText("Email: " + instructor.getEmail());
     }
 
-    /**
-     * Gets the size of the list of Course Instructors being displayed.
-     *
-     * @return Returns the size of the list of Course Instructors being displayed
-     */
-    @Override
-    public int getItemCount() {
-        return instructorList.size();
-    }
-
     /**
      * Class that sets up the View for the Recycler Adapter to use.
      */
@@ -0,0 +1,167 @@
+package wgu.c196.rachel.coursescheduler.adapter;
+
+import android.text.Html;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.Objects;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.databinding.TermRowBinding;
+import wgu.c196.rachel.coursescheduler.model.SearchResult;
+
+/**
+ * Recycler Adapter for search results.
+ *
+ * <p> Sets up the cards for the RecyclerView list of SearchResults. Each card shows the title of
+ * the match, what kind of row it is, and the matching part of its text. Contains the public class
+ * ViewHolder and the interface OnContactClickListener. </p>
+ */
+public class SearchRecyclerAdapter extends ListAdapter<SearchResult, SearchRecyclerAdapter.ViewHolder> {
+    private OnContactClickListener onContactClickListener;
+
+    /**
+     * Compares SearchResults so that only the rows that changed are rebound when the results change.
+     */
+    private static final DiffUtil.ItemCallback<SearchResult> DIFF_CALLBACK = new DiffUtil.ItemCallback<SearchResult>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull SearchResult oldItem, @NonNull SearchResult newItem) {
+            return oldItem.getKind() == newItem.getKind() && oldItem.getId() == newItem.getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull SearchResult oldItem, @NonNull SearchResult newItem) {
+            return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getSnippet(), newItem.getSnippet());
+        }
+    };
+
+    /**
+     * Constructor for SearchRecyclerAdapter.
+     *
+     * @param onContactClickListener A listener that specifies what will happen when the card is clicked in the RecyclerView
+     */
+    public SearchRecyclerAdapter(OnContactClickListener onContactClickListener) {
+        super(DIFF_CALLBACK);
+        this.onContactClickListener = onContactClickListener;
+        setHasStableIds(true);
+    }
+
+    /**
+     * Gets the stable ID of the result at the given position.
+     *
+     * <p> With stable IDs the RecyclerView keeps a result's card when the results are reordered. </p>
+     * @param position The position of the result
+     * @return The result's kind and id combined into one number
+     */
+    @Override
+    public long getItemId(int position) {
+        return getItem(position).getStableId();
+    }
+
+    /**
+     * Class that creates a ViewHolder.
+     *
+     * <p> This is called when the Adapter needs a new ViewHolder to represent an item. </p>
+     * @param parent The group that the ViewHolder's view will be added to.
+     * @param viewType An int specifying the type of ViewHolder to create, if there are multiple ViewHolders. (override getItemViewType())
+     * @return Returns a ViewHolder object
+     */
+    @NonNull
+    @Override
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.term_row, parent, false);
+        return new ViewHolder(view, onContactClickListener);
+    }
+
+    /**
+     * Displays the data at the given position.
+     *
+     * <p> This method populates the ViewHolder's card with the SearchResult located at the given
+     * position. The matching words in the snippet are shown in bold. </p>
+     * @param holder The ViewHolder that contains the views where the data will be displayed
+     * @param position The position in the RecyclerView where the information will be displayed,
+     *                 also the position in the list of results
+     */
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+        SearchResult result = getItem(position);
+
+        holder.binding.deleteCheckbox.setVisibility(View.GONE);
+        holder.binding.titleTextview.setText(result.getTitle());
+        holder.binding.startDateTextview.setText(getKindName(result.getKind()));
+
+        if (result.getSnippet() != null)
+            holder.binding.endDateTextview.setText(
+                    Html.fromHtml(result.getSnippet(), Html.FROM_HTML_MODE_LEGACY));
+        else
+            holder.binding.endDateTextview.setText("");
+    }
+
+    /**
+     * Gets the name of a kind of search result.
+     *
+     * @param kind One of the SearchResult KIND constants
+     * @return The string resource for the kind's name
+     */
+    private static int getKindName(int kind) {
+        switch (kind) {
+            case SearchResult.KIND_COURSE:
+                return R.string.search_kind_course;
+            case SearchResult.KIND_ASSESSMENT:
+                return R.string.search_kind_assessment;
+            case SearchResult.KIND_INSTRUCTOR:
+                return R.string.search_kind_instructor;
+            default:
+                return R.string.search_kind_term;
+        }
+    }
+
+    /**
+     * Class that sets up the View for the Recycler Adapter to use.
+     */
+    public class ViewHolder extends RecyclerView.ViewHolder implements View.OnClickListener {
+        private OnContactClickListener onContactClickListener;
+
+        // Uses the term_row layout
+        final TermRowBinding binding;
+
+        /**
+         * Constructor for the ViewHolder class.
+         *
+         * @param itemView The view that will hold the row in the Recycler Adapter
+         * @param onContactClickListener The listener that specifies what will happen when the row is clicked
+         */
+        public ViewHolder(@NonNull View itemView, OnContactClickListener onContactClickListener) {
+            super(itemView);
+            this.onContactClickListener = onContactClickListener;
+            binding = TermRowBinding.bind(itemView);
+            itemView.setOnClickListener(this);
+        }
+
+        /**
+         * Method that passes the onClick to the onContactClickListener
+         *
+         * @param view The view (row) that was clicked on
+         */
+        @Override
+        public void onClick(View view) {
+            onContactClickListener.onContactClick(getAdapterPosition(), view);
+        }
+    }
+
+    /**
+     * Interface that specifies a listener that will tell the View in ViewHolder what to do when clicked
+     */
+    public interface OnContactClickListener {
+        void onContactClick(int position, View view);
+    }
+
+}
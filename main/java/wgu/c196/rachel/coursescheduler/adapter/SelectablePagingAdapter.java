@@ -0,0 +1,144 @@
+package wgu.c196.rachel.coursescheduler.adapter;
+
+import android.widget.CheckBox;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.paging.PagingDataAdapter;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.util.IntHashSet;
+
+/**
+ * Paged Recycler Adapter whose rows can be selected for deletion.
+ *
+ * <p> The term, course, assessment, and course instructor lists all let the user check rows and
+ * delete them. This class binds each row's delete Checkbox from the screen's DeleteSelection,
+ * so a subclass only gives the ID of an item, the Checkbox of a row, and how to display the rest of
+ * the row. Changing delete mode or checking a row only rebinds the Checkboxes, see
+ * DeleteSelection. The screen keeps the selection, so it outlives the adapter when the screen's
+ * view is destroyed in the back stack. </p>
+ * @param <T> The type of item in the list
+ * @param <VH> The type of ViewHolder
+ */
+public abstract class SelectablePagingAdapter<T, VH extends RecyclerView.ViewHolder>
+        extends PagingDataAdapter<T, VH> {
+    private final DeleteSelection selection;
+
+    /**
+     * Constructor for SelectablePagingAdapter.
+     *
+     * @param diffCallback Compares items so that only the rows that changed are rebound
+     * @param selection The rows selected for deletion, kept by the screen
+     */
+    protected SelectablePagingAdapter(@NonNull DiffUtil.ItemCallback<T> diffCallback,
+                                      @NonNull DeleteSelection selection) {
+        super(diffCallback);
+        this.selection = selection;
+    }
+
+    /**
+     * Gets the ID of an item, which is what is selected for deletion.
+     *
+     * @param item The item
+     * @return The item's Room ID
+     */
+    protected abstract int getId(@NonNull T item);
+
+    /**
+     * Gets the delete Checkbox of a row.
+     *
+     * @param holder The ViewHolder of the row
+     * @return The row's delete Checkbox
+     */
+    @NonNull
+    protected abstract CheckBox getDeleteCheckbox(@NonNull VH holder);
+
+    /**
+     * Displays an item in a row, apart from its delete Checkbox.
+     *
+     * @param holder The ViewHolder that contains the views where the data will be displayed
+     * @param item The item, or null if it has not been loaded yet and the row should be empty
+     */
+    protected abstract void bindItem(@NonNull VH holder, @Nullable T item);
+
+    /**
+     * Displays the data at the given position.
+     *
+     * <p> The delete Checkbox is set from the selection, then bindItem() displays the rest of the
+     * row. An item that has not been loaded yet is shown as an empty card. </p>
+     * @param holder The ViewHolder that contains the views where the data will be displayed
+     * @param position The position in the RecyclerView where the information will be displayed,
+     *                 also the position in the paged list for which item to use
+     */
+    @Override
+    public void onBindViewHolder(@NonNull VH holder, int position) {
+        T item = getItem(position);
+        bindCheckbox(holder, item);
+        bindItem(holder, item);
+    }
+
+    /**
+     * Displays the data at the given position, or only its delete Checkbox.
+     *
+     * <p> When the only payload is DeleteSelection.PAYLOAD, just the delete Checkbox is updated.
+     * Otherwise the whole card is displayed. </p>
+     * @param holder The ViewHolder that contains the views where the data will be displayed
+     * @param position The position in the RecyclerView where the information will be displayed
+     * @param payloads What changed in the row, or an empty list if the whole row should be displayed
+     */
+    @Override
+    public void onBindViewHolder(@NonNull VH holder, int position, @NonNull List<Object> payloads) {
+        if (DeleteSelection.isSelectionOnly(payloads))
+            bindCheckbox(holder, peek(position));
+        else
+            super.onBindViewHolder(holder, position, payloads);
+    }
+
+    private void bindCheckbox(VH holder, T item) {
+        selection.bind(getDeleteCheckbox(holder), item == null ? DeleteSelection.NO_ID : getId(item));
+    }
+
+    /**
+     * Turns delete mode on or off.
+     *
+     * <p> This method tells the adapter whether to display the delete Checkboxes, which will allow
+     * the rows to be selected for deletion. Turning delete mode off unchecks every row. Only the
+     * Checkboxes of the rows are rebound. </p>
+     * @param isDelete True if the rows are being selected for deletion
+     */
+    public void setDelete(boolean isDelete) {
+        if (selection.setDelete(isDelete))
+            notifyItemRangeChanged(0, getItemCount(), DeleteSelection.PAYLOAD);
+    }
+
+    public boolean isDelete() {
+        return selection.isDelete();
+    }
+
+    /**
+     * Checks or unchecks the row at the given position as being selected for deletion.
+     *
+     * @param position The position of the row that was clicked
+     */
+    public void toggleSelected(int position) {
+        T item = peek(position);
+        if (item == null)
+            return;
+
+        selection.toggle(getId(item));
+        notifyItemChanged(position, DeleteSelection.PAYLOAD);
+    }
+
+    /**
+     * Gets the IDs of the rows selected for deletion.
+     *
+     * @return The selected IDs, which are cleared when delete mode is turned off
+     */
+    public IntHashSet getSelectedIds() {
+        return selection.getSelectedIds();
+    }
+}
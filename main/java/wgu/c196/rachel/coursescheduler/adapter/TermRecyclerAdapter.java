@@ -3,38 +3,57 @@ package wgu.c196.rachel.coursescheduler.adapter;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.CheckBox;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
-import java.util.List;
+import java.util.Objects;
 
 import wgu.c196.rachel.coursescheduler.R;
 import wgu.c196.rachel.coursescheduler.databinding.TermRowBinding;
 import wgu.c196.rachel.coursescheduler.model.Term;
+import wgu.c196.rachel.coursescheduler.util.StartupTrace;
 
 /**
  * Recycler Adapter for the Term class.
  *
- * <p> Sets up the cards for the RecyclerView list of Terms. Contains the public class
- * ViewHolder and the interface OnContactClickListener. </p>
+ * <p> Sets up the cards for the RecyclerView list of Terms. Terms are loaded a page at a time
+ * with the Paging library. Contains the public class ViewHolder and the interface
+ * OnContactClickListener. </p>
  */
-public class TermRecyclerAdapter extends RecyclerView.Adapter<TermRecyclerAdapter.ViewHolder> {
-    private List<Term> termList;
+public class TermRecyclerAdapter extends SelectablePagingAdapter<Term, TermRecyclerAdapter.ViewHolder> {
     private OnContactClickListener onContactClickListener;
-    private boolean isDelete = false;  // if true then delete terms selected
 
     /**
-     * Constructor for AssessmentRecyclerAdapter.
+     * Compares Terms so that only the rows that changed are rebound when a new page is submitted.
+     */
+    private static final DiffUtil.ItemCallback<Term> DIFF_CALLBACK = new DiffUtil.ItemCallback<Term>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Term oldItem, @NonNull Term newItem) {
+            return oldItem.getId() == newItem.getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Term oldItem, @NonNull Term newItem) {
+            return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getStartDate(), newItem.getStartDate())
+                    && Objects.equals(oldItem.getEndDate(), newItem.getEndDate());
+        }
+    };
+
+    /**
+     * Constructor for TermRecyclerAdapter.
      *
-     * @param termList The list of Terms that the RecyclerView will use
      * @param onContactClickListener A listener that specifies what will happen when the card is clicked in the RecyclerView
+     * @param selection The rows selected for deletion, kept by the screen
      */
-    public TermRecyclerAdapter(List<Term> termList,
-                               OnContactClickListener onContactClickListener) {
-        this.termList = termList;
+    public TermRecyclerAdapter(OnContactClickListener onContactClickListener, DeleteSelection selection) {
+        super(DIFF_CALLBACK, selection);
         this.onContactClickListener = onContactClickListener;
     }
 
@@ -57,23 +76,48 @@ public class TermRecyclerAdapter extends RecyclerView.Adapter<TermRecyclerAdapte
     /**
      * Displays the data at the given position.
      *
-     * <p> This method displays the data from the specified position. It populates the ViewHolder's
-     * card with the information for the Term located at the given position in the
-     * termList. </p>
+     * <p> The first row bound in the app is timed as the end of the startup trace. </p>
      * @param holder The ViewHolder that contains the views where the data will be displayed
      * @param position The position in the RecyclerView where the information will be displayed,
-     *                 also the position in the termList for which Term to use
+     *                 also the position in the paged list for which Term to use
      */
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        if (isDelete) {
-            holder.binding.deleteCheckbox.setVisibility(View.VISIBLE);
-        } else {
-            holder.binding.deleteCheckbox.setChecked(false);
-            holder.binding.deleteCheckbox.setVisibility(View.GONE);
+        // Only the first row bound in the app is traced, every later row is bound directly
+        if (StartupTrace.isFirstBindRecorded()) {
+            super.onBindViewHolder(holder, position);
+            return;
         }
 
-        Term term = termList.get(position);
+        StartupTrace.section(StartupTrace.FIRST_BIND, () -> super.onBindViewHolder(holder, position));
+    }
+
+    @Override
+    protected int getId(@NonNull Term term) {
+        return term.getId();
+    }
+
+    @NonNull
+    @Override
+    protected CheckBox getDeleteCheckbox(@NonNull ViewHolder holder) {
+        return holder.binding.deleteCheckbox;
+    }
+
+    /**
+     * Displays a Term in a row, apart from its delete Checkbox.
+     *
+     * <p> A Term that has not been loaded yet is shown as an empty card. </p>
+     * @param holder The ViewHolder that contains the views where the data will be displayed
+     * @param term The Term at the row's position, or null if it has not been loaded
+     */
+    @Override
+    protected void bindItem(@NonNull ViewHolder holder, @Nullable Term term) {
+        if (term == null) {
+            holder.binding.titleTextview.setText("");
+            holder.binding.startDateTextview.setText("");
+            holder.binding.endDateTextview.setText("");
+            return;
+        }
 
         holder.binding.titleTextview.setText(term.getTitle());
 
@@ -88,26 +132,6 @@ public class TermRecyclerAdapter extends RecyclerView.Adapter<TermRecyclerAdapte
         holder.binding.endDateTextview.setText(endDate);
     }
 
-    /**
-     * Gets the size of the list of Terms being displayed.
-     * @return Returns the size of the list of Terms being displayed
-     */
-    @Override
-    public int getItemCount() {
-        return termList.size();
-    }
-
-    /**
-     * Sets the isDelete property.
-     *
-     * <p> This method tells the onBindViewHolder() method whether to display the delete Checkboxes.
-     * This will allow the Terms to be selected for deletion. </p>
-     * @param isDelete True if the Terms are being selected for deletion
-     */
-    public void setDelete(boolean isDelete) {
-        this.isDelete = isDelete;
-    }
-
     /**
      * Class that sets up the View for the Recycler Adapter to use.
      */
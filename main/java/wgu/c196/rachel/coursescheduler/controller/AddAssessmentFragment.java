@@ -1,17 +1,22 @@
 package wgu.c196.rachel.coursescheduler.controller;
 
 import androidx.annotation.NonNull;
-import androidx.appcompat.app.AppCompatActivity;
+import androidx.annotation.Nullable;
+import androidx.core.view.MenuProvider;
 import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.Observer;
 import androidx.lifecycle.ViewModelProvider;
+import androidx.navigation.fragment.NavHostFragment;
 
-import android.content.Intent;
 import android.os.Bundle;
+import android.view.LayoutInflater;
 import android.view.Menu;
 import android.view.MenuInflater;
 import android.view.MenuItem;
 import android.view.View;
+import android.view.ViewGroup;
 import android.widget.AdapterView;
 import android.widget.ArrayAdapter;
 import android.widget.CalendarView;
@@ -23,60 +28,82 @@ import java.util.List;
 
 import wgu.c196.rachel.coursescheduler.R;
 import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
-import wgu.c196.rachel.coursescheduler.databinding.ActivityAddAssessmentBinding;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentAddAssessmentBinding;
 import wgu.c196.rachel.coursescheduler.model.Assessment;
 import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.BackStack;
 import wgu.c196.rachel.coursescheduler.util.InformationDialog;
+import wgu.c196.rachel.coursescheduler.util.Spinners;
 
 /**
  * Controller for adding an assessment.
  *
- * <p> This activity lets the user add an assessment or edit an existing assessment. </p>
+ * <p> This screen lets the user add an assessment or edit an existing assessment. </p>
  */
-public class AddAssessmentActivity extends AppCompatActivity implements AdapterView.OnItemSelectedListener {
+public class AddAssessmentFragment extends Fragment implements MenuProvider, AdapterView.OnItemSelectedListener {
     /**
-     * Tag for passing an assessment ID through an intent. Used for editing an assessment.
+     * Argument for passing an assessment ID. Used for editing an assessment.
      */
-    public static final String ASSESSMENT_ID = "assessment id";
+    public static final String ASSESSMENT_ID = "assessment_id";
 
-    private ActivityAddAssessmentBinding binding;
+    private FragmentAddAssessmentBinding binding;
     private ScheduleViewModel scheduleViewModel;
     private ArrayAdapter<Course> courseAdapter;
     private ArrayAdapter<Assessment.Type> typeAdapter;
-    private boolean isEdit = false;
     private Assessment userAssessment;
     private LocalDate startDate;
     private LocalDate endDate;
 
     private static final String NEW_COURSE = "New Course";
+    // The ID of a row that has not been saved or selected yet
+    private static final int NO_ID = -1;
+
+    // Course added from the course spinner, selected once the spinner shows it
+    private int savedCourseId = NO_ID;
 
     /**
-     * Method that runs when the activity is created.
+     * Inflates the layout of the screen.
      *
-     * <p> This method initializes the views in the layout. It checks whether information was
-     * supplied through an Intent. If so, an assessment is being edited instead of added. So it
-     * loads that assessment's information into the screen for editing. </p>
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
      * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
      */
     @Override
-    protected void onCreate(Bundle savedInstanceState) {
-        super.onCreate(savedInstanceState);
-//        setContentView(R.layout.activity_add_assessment);
-        binding = DataBindingUtil.setContentView(this, R.layout.activity_add_assessment);
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_add_assessment, container, false);
+        return binding.getRoot();
+    }
 
-        scheduleViewModel = new ViewModelProvider.AndroidViewModelFactory(this.getApplication())
-                .create(ScheduleViewModel.class);
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. It checks whether an assessment ID was
+     * supplied in the arguments. If so, an assessment is being edited instead of added. So it
+     * loads that assessment's information into the screen for editing. The view is created again
+     * when the user comes back from adding a course, and then the assessment is not loaded
+     * again, so what the user entered is kept. </p>
+     * @param view The root view of the layout
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
 
         // Set up Calendars
         binding.startDateCalendar.setVisibility(View.GONE);
         binding.endDateCalendar.setVisibility(View.GONE);
 
-        binding.selectStartDateButton.setOnClickListener(view -> {
+        binding.selectStartDateButton.setOnClickListener(button -> {
             binding.startDateCalendar.setVisibility(View.VISIBLE);
             binding.endDateCalendar.setVisibility(View.GONE);
         });
 
-        binding.selectEndDateButton.setOnClickListener(view -> {
+        binding.selectEndDateButton.setOnClickListener(button -> {
             binding.startDateCalendar.setVisibility(View.GONE);
             binding.endDateCalendar.setVisibility(View.VISIBLE);
         });
@@ -101,56 +128,75 @@ public class AddAssessmentActivity extends AppCompatActivity implements AdapterV
             }
         });
 
-        // Set up spinners
-        scheduleViewModel.getAllCourses().observe(this, new Observer<List<Course>>() {
+        // Dates picked before another form was opened are kept, but the buttons are new
+        showDates();
+
+        // Set up spinners. The course adapter is created once and refilled when the courses change.
+        courseAdapter = Spinners.attachAdapter(requireContext(), binding.courseSpinner);
+        scheduleViewModel.getAllCourses().observe(getViewLifecycleOwner(), new Observer<List<Course>>() {
             @Override
             public void onChanged(List<Course> courseList) {
                 // Add an option to make a new course to end of list
                 Course course = new Course();
                 course.setTitle(NEW_COURSE);
-                courseList.add(course);
-
-                courseAdapter = new ArrayAdapter<>(AddAssessmentActivity.this,
-                        android.R.layout.simple_spinner_item, courseList);
-                courseAdapter.setDropDownViewResource(android.R.layout.simple_spinner_dropdown_item);
-                binding.courseSpinner.setAdapter(courseAdapter);
+                Spinners.replaceItems(binding.courseSpinner, courseAdapter, courseList, course);
+                selectSavedCourse();
             }
         });
 
         List<Assessment.Type> typeList = Assessment.Type.typeList;
-        typeAdapter = new ArrayAdapter<>(this,
+        typeAdapter = new ArrayAdapter<>(requireContext(),
                 android.R.layout.simple_spinner_item, typeList);
         typeAdapter.setDropDownViewResource(android.R.layout.simple_spinner_dropdown_item);
         binding.typeSpinner.setAdapter(typeAdapter);
 
+        // The course saved by the form opened from the course spinner, see BackStack
+        getParentFragmentManager().setFragmentResultListener(AddCourseFragment.SAVED_COURSE_ID,
+                getViewLifecycleOwner(), (key, result) -> {
+                    savedCourseId = result.getInt(AddCourseFragment.SAVED_COURSE_ID, NO_ID);
+                    selectSavedCourse();
+                });
+
         // Populate information if editing an assessment
-        Bundle intentData = getIntent().getExtras();
-        if (intentData != null) {
-            isEdit = true;
-            scheduleViewModel.getAssessmentFromId(intentData.getInt(ASSESSMENT_ID))
-                    .observe(this, new Observer<Assessment>() {
-                @Override
-                public void onChanged(Assessment assessment) {
-                    userAssessment = assessment;
-                    populateInformation();
-                }
-            });
-        } else {
-            userAssessment = new Assessment();
+        if (userAssessment == null) {
+            int assessmentId = requireArguments().getInt(ASSESSMENT_ID, NO_ID);
+            if (assessmentId != NO_ID) {
+                scheduleViewModel.getAssessmentFromId(assessmentId)
+                        .observe(getViewLifecycleOwner(), new Observer<Assessment>() {
+                    @Override
+                    public void onChanged(Assessment assessment) {
+                        userAssessment = assessment;
+                        populateInformation();
+                    }
+                });
+            } else {
+                userAssessment = new Assessment();
+            }
         }
 
-        binding.saveButton.setOnClickListener(view -> {
+        binding.saveButton.setOnClickListener(button -> {
             saveAssessment();
         });
 
         // Set onItemSelectedListener for selecting new course
         binding.courseSpinner.setOnItemSelectedListener(this);
+
+        requireActivity().addMenuProvider(this, getViewLifecycleOwner(), Lifecycle.State.RESUMED);
+    }
+
+    /**
+     * Releases the views while a course is added, or once the form is left.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding = null;
     }
 
     /**
      * Loads the information from a user selected assessment.
      *
-     * <p> If the user is editing an assessment (indicated through passing an Intent), the information
+     * <p> If the user is editing an assessment (indicated through passing its ID), the information
      * from the indicated assessment is loaded into the form. </p>
      */
     private void populateInformation() {
@@ -158,20 +204,14 @@ public class AddAssessmentActivity extends AppCompatActivity implements AdapterV
         binding.assessmentTitleEdittext.setText(userAssessment.getTitle());
 
         startDate = userAssessment.getStartDate();
-        if (startDate != null) {
-            binding.selectStartDateButton.setText(startDate.format(DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT)));
-        }
-
         endDate = userAssessment.getEndDate();
-        if (endDate != null) {
-            binding.selectEndDateButton.setText(endDate.format(DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT)));
-        }
+        showDates();
 
         // Set spinners
         binding.typeSpinner.setSelection(typeAdapter.getPosition(userAssessment.getType()));
 
         scheduleViewModel.getLiveCourse(userAssessment.getCourseId())
-                .observe(this, new Observer<Course>() {
+                .observe(getViewLifecycleOwner(), new Observer<Course>() {
                     @Override
                     public void onChanged(Course course) {
                         int position = courseAdapter.getPosition(course);
@@ -180,6 +220,19 @@ public class AddAssessmentActivity extends AppCompatActivity implements AdapterV
                 });
     }
 
+    /**
+     * Shows the start and end dates on their select buttons, if they are set.
+     */
+    private void showDates() {
+        if (startDate != null) {
+            binding.selectStartDateButton.setText(startDate.format(DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT)));
+        }
+
+        if (endDate != null) {
+            binding.selectEndDateButton.setText(endDate.format(DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT)));
+        }
+    }
+
     /**
      * Saves an assessment in the database.
      *
@@ -188,6 +241,10 @@ public class AddAssessmentActivity extends AppCompatActivity implements AdapterV
      * user is returned to viewing all assessments. </p>
      */
     private void saveAssessment() {
+        // The assessment being edited has not been loaded yet
+        if (userAssessment == null)
+            return;
+
         String title = binding.assessmentTitleEdittext.getText().toString().trim();
         if (title.isEmpty()) {
             showRequiredDialog(getString(R.string.assessment_title_required));
@@ -208,21 +265,33 @@ public class AddAssessmentActivity extends AppCompatActivity implements AdapterV
         userAssessment.setType(type);
         userAssessment.setCourseId(course.getId());
 
-        if (isEdit) {
-            scheduleViewModel.update(userAssessment);
-        } else {
-            scheduleViewModel.insert(userAssessment);
-        }
+        // Inserts a new assessment or updates the edited one in one write. Go to
+        // AssessmentsFragment once the assessment is saved.
+        AppExecutors.getInstance().whenDone(getViewLifecycleOwner(), scheduleViewModel.upsert(userAssessment), assessmentId ->
+                BackStack.returnTo(this, R.id.assessmentsFragment,
+                        R.id.action_addAssessmentFragment_to_assessmentsFragment, null),
+                error -> showSaveFailedDialog());
+    }
 
-        // Go to AssessmentsActivity
-        startActivity(new Intent(AddAssessmentActivity.this, AssessmentsActivity.class));
+    /**
+     * Selects the course added from the course spinner, once the spinner shows it.
+     */
+    private void selectSavedCourse() {
+        if (savedCourseId == NO_ID)
+            return;
+
+        Course course = new Course();
+        course.setId(savedCourseId);
+        if (Spinners.select(binding.courseSpinner, courseAdapter, course))
+            savedCourseId = NO_ID;
     }
 
     /**
-     * Tells the activity what to do when an item is selected in the spinner.
+     * Tells the screen what to do when an item is selected in the spinner.
      *
      * <p> When an item is selected in the spinner, this method checks the item selected. If that item
-     * is "New Course" then the user is directed to the activity that adds a new course. </p>
+     * is "New Course" then the user is directed to the screen that adds a new course, and the new
+     * course is selected when the user comes back. </p>
      * @param parent The AdapterView (in this case spinner) where the item was selected
      * @param view The view calling the method
      * @param position The position of the AdapterView (spinner)
@@ -235,7 +304,7 @@ public class AddAssessmentActivity extends AppCompatActivity implements AdapterV
         if (spinnerId == R.id.course_spinner) {
             Course course = (Course) parent.getSelectedItem();
             if (course.getTitle().equals(NEW_COURSE)) {
-                startActivity(new Intent(AddAssessmentActivity.this, AddCourseActivity.class));
+                NavHostFragment.findNavController(this).navigate(R.id.action_addAssessmentFragment_to_addCourseFragment);
                 parent.setSelection(0);
             }
         }
@@ -255,31 +324,29 @@ public class AddAssessmentActivity extends AppCompatActivity implements AdapterV
      * Inflates the menu using the specified layout.
      *
      * @param menu The menu to be created
-     * @return Returns true to indicate that a menu was created
+     * @param menuInflater Inflates the menu
      */
     @Override
-    public boolean onCreateOptionsMenu(Menu menu) {
-        MenuInflater inflater = getMenuInflater();
-        inflater.inflate(R.menu.edit_item_menu, menu);
-        return true;
+    public void onCreateMenu(@NonNull Menu menu, @NonNull MenuInflater menuInflater) {
+        menuInflater.inflate(R.menu.edit_item_menu, menu);
     }
 
     /**
-     * Tells the activity what to do when the user clicks a menu item.
+     * Tells the screen what to do when the user clicks a menu item.
      *
      * @param item The menu item that the user clicked on
      * @return Returns true if the menu item matches a listed item and the indicated action was performed
      */
     @Override
-    public boolean onOptionsItemSelected(@NonNull MenuItem item) {
+    public boolean onMenuItemSelected(@NonNull MenuItem item) {
         int id = item.getItemId();
 
         if (id == R.id.edit_home_item) {
-            startActivity(new Intent(AddAssessmentActivity.this, HomePageActivity.class));
+            BackStack.goHome(this);
             return true;
         }
 
-        return super.onOptionsItemSelected(item);
+        return false;
     }
 
     /**
@@ -294,6 +361,14 @@ public class AddAssessmentActivity extends AppCompatActivity implements AdapterV
 
         InformationDialog informationDialog = new InformationDialog();
         informationDialog.setArguments(bundle);
-        informationDialog.show(getSupportFragmentManager(), "InformationDialog");
+        informationDialog.show(getChildFragmentManager(), "InformationDialog");
+    }
+
+    /**
+     * Shows a message informing the user that the assessment could not be saved.
+     * The form keeps what they entered, so they can try again.
+     */
+    private void showSaveFailedDialog() {
+        showRequiredDialog(getString(R.string.save_failed));
     }
 }
\ No newline at end of file
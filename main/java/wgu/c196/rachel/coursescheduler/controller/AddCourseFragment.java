@@ -0,0 +1,479 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.MenuProvider;
+import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.Observer;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.navigation.fragment.NavHostFragment;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.AdapterView;
+import android.widget.ArrayAdapter;
+import android.widget.CalendarView;
+import android.widget.Toast;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentAddCourseBinding;
+import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.Term;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.BackStack;
+import wgu.c196.rachel.coursescheduler.util.InformationDialog;
+import wgu.c196.rachel.coursescheduler.util.Spinners;
+
+/**
+ * Controller for adding a course.
+ *
+ * <p> This screen lets the user add a course or edit an existing course. </p>
+ */
+public class AddCourseFragment extends Fragment implements MenuProvider, AdapterView.OnItemSelectedListener {
+    /**
+     * Argument for passing a course ID. Used for editing a course.
+     */
+    public static final String COURSE_ID = "course_id";
+    /**
+     * Key of the fragment result that gives the ID of the saved course to a form that opened this
+     * one for a result, see BackStack.
+     */
+    public static final String SAVED_COURSE_ID = "saved_course_id";
+
+    private FragmentAddCourseBinding binding;
+    private ScheduleViewModel scheduleViewModel;
+    private Course editCourse;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private ArrayAdapter<CourseInstructor> instructorAdapter;
+    private ArrayAdapter<Course.Status> statusAdapter;
+    private ArrayAdapter<Term> termAdapter;
+    private static final String NEW_COURSE_INSTRUCTOR = "New Course Instructor";
+    private static final String NEW_TERM = "New Term";
+    // The ID of a row that has not been saved or selected yet
+    private static final int NO_ID = -1;
+
+    // Term and instructor added from the spinners, selected once the spinners show them
+    private int savedTermId = NO_ID;
+    private int savedInstructorId = NO_ID;
+
+    /**
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_add_course, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. It checks whether a course ID was
+     * supplied in the arguments. If so, a course is being edited instead of added. So it
+     * loads that course's information into the screen for editing. The view is created again
+     * when the user comes back from adding a term or instructor, and then the course is not
+     * loaded again, so what the user entered is kept. </p>
+     * @param view The root view of the layout
+     * @param savedInstanceState Contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
+
+        binding.endDateCalendarview2.setVisibility(View.GONE);
+        binding.startDateCalendarview2.setVisibility(View.GONE);
+
+        // Set up calendar views to match their select buttons
+        binding.startDateButton.setOnClickListener(button -> {
+            binding.startDateCalendarview2.setVisibility(View.VISIBLE);
+            binding.endDateCalendarview2.setVisibility(View.GONE);
+        });
+
+        binding.endDateButton.setOnClickListener(button -> {
+            binding.startDateCalendarview2.setVisibility(View.GONE);
+            binding.endDateCalendarview2.setVisibility(View.VISIBLE);
+        });
+
+        //Set up Calendars
+        binding.startDateCalendarview2.setOnDateChangeListener(new CalendarView.OnDateChangeListener() {
+            @Override
+            public void onSelectedDayChange(@NonNull CalendarView view, int year, int month, int dayOfMonth) {
+                // The Calendar class stores months as 0 to 11, but LocalDate accepts them as 1 to 12
+                month++;
+                startDate = LocalDate.of(year, month, dayOfMonth);
+                binding.startDateButton.setText(startDate.format(DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT)));
+            }
+        });
+
+        binding.endDateCalendarview2.setOnDateChangeListener(new CalendarView.OnDateChangeListener() {
+            @Override
+            public void onSelectedDayChange(@NonNull CalendarView view, int year, int month, int dayOfMonth) {
+                // The Calendar class stores months as 0 to 11, but LocalDate accepts them as 1 to 12
+                month++;
+                endDate = LocalDate.of(year, month, dayOfMonth);
+                binding.endDateButton.setText(endDate.format(DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT)));
+            }
+        });
+
+        // Dates picked before another form was opened are kept, but the buttons are new
+        showDates();
+
+        // Set up spinners. The adapters are created once and refilled when the rows change.
+        instructorAdapter = Spinners.attachAdapter(requireContext(), binding.instructorSpinner);
+        termAdapter = Spinners.attachAdapter(requireContext(), binding.termSpinner);
+
+        scheduleViewModel.getAllInstructors().observe(getViewLifecycleOwner(), new Observer<List<CourseInstructor>>() {
+            @Override
+            public void onChanged(List<CourseInstructor> instructorList) {
+                CourseInstructor instructor = new CourseInstructor();
+                instructor.setName(NEW_COURSE_INSTRUCTOR);
+                Spinners.replaceItems(binding.instructorSpinner, instructorAdapter, instructorList, instructor);
+                selectSavedInstructor();
+            }
+        });
+
+        List<Course.Status> statusList = Course.Status.statusList;
+        statusAdapter = new ArrayAdapter<>(requireContext(),
+                android.R.layout.simple_spinner_item, statusList);
+        statusAdapter.setDropDownViewResource(android.R.layout.simple_spinner_dropdown_item);
+        binding.courseStatusSpinner.setAdapter(statusAdapter);
+
+        scheduleViewModel.getAllTerms().observe(getViewLifecycleOwner(), new Observer<List<Term>>() {
+            @Override
+            public void onChanged(List<Term> termList) {
+                Term term = new Term();
+                term.setTitle(NEW_TERM);
+                Spinners.replaceItems(binding.termSpinner, termAdapter, termList, term);
+                selectSavedTerm();
+            }
+        });
+
+        // The term or instructor saved by the form opened from a spinner, see BackStack
+        getParentFragmentManager().setFragmentResultListener(AddTermFragment.SAVED_TERM_ID,
+                getViewLifecycleOwner(), (key, result) -> {
+                    savedTermId = result.getInt(AddTermFragment.SAVED_TERM_ID, NO_ID);
+                    selectSavedTerm();
+                });
+        getParentFragmentManager().setFragmentResultListener(AddCourseInstructorFragment.SAVED_INSTRUCTOR_ID,
+                getViewLifecycleOwner(), (key, result) -> {
+                    savedInstructorId = result.getInt(AddCourseInstructorFragment.SAVED_INSTRUCTOR_ID, NO_ID);
+                    selectSavedInstructor();
+                });
+
+        // Set onItemSelectedListener for instructor and term spinners
+        binding.termSpinner.setOnItemSelectedListener(this);
+        binding.instructorSpinner.setOnItemSelectedListener(this);
+
+        binding.saveButton2.setOnClickListener(button -> {
+            saveCourse();
+        });
+
+        if (editCourse == null) {
+            int courseId = requireArguments().getInt(COURSE_ID, NO_ID);
+            if (courseId != NO_ID) {
+                // run in background thread and update course info
+                startEditCourseTask(courseId);
+            } else {
+                editCourse = new Course();
+            }
+        }
+
+        requireActivity().addMenuProvider(this, getViewLifecycleOwner(), Lifecycle.State.RESUMED);
+    }
+
+    /**
+     * Releases the views while a term or instructor is added, or once the form is left.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding = null;
+    }
+
+    /**
+     * Loads the information from a user selected course.
+     *
+     * <p> if the user is editing a course (indicated through passing its ID), the
+     * information from the indicated course is loaded into the form. If the course was deleted
+     * while the form was in the back stack, the user is told and returned to the previous
+     * screen. </p>
+     * @param courseId The ID of the course that is being edited
+     */
+    private void startEditCourseTask(int courseId) {
+        AppExecutors.getInstance().load(getViewLifecycleOwner(), () -> {
+            // do in background
+            EditCourseData data = new EditCourseData();
+            data.instructorList = scheduleViewModel.getAllInstructorsNonLive();
+            data.termList = scheduleViewModel.getAllTermsNonLive();
+
+            // Obtain the edit course
+            data.course = scheduleViewModel.getCourseFromId(courseId);
+            if (data.course == null)
+                return data;
+            data.instructor = scheduleViewModel.getInstructorFromId(data.course.getCourseInstructorId());
+            data.term = scheduleViewModel.getTermFromId(data.course.getTermId());
+            return data;
+        }, data -> {
+            // On post execute
+            if (data.course == null) {
+                Toast.makeText(requireContext(), R.string.course_not_found, Toast.LENGTH_LONG).show();
+                NavHostFragment.findNavController(this).popBackStack();
+                return;
+            }
+
+            editCourse = data.course;
+            CourseInstructor instructor = data.instructor;
+            Term term = data.term;
+
+            // Set up Spinners
+            CourseInstructor newInstructor = new CourseInstructor();
+            newInstructor.setName(NEW_COURSE_INSTRUCTOR);
+            Spinners.replaceItems(binding.instructorSpinner, instructorAdapter, data.instructorList, newInstructor);
+
+            // Term spinner
+            Term newTerm = new Term();
+            newTerm.setTitle(NEW_TERM);
+            Spinners.replaceItems(binding.termSpinner, termAdapter, data.termList, newTerm);
+
+            binding.addCourseTextview.setText(getString(R.string.edit_course));
+
+            // Populate course information
+            startDate = editCourse.getStartDate();
+            endDate = editCourse.getEndDate();
+            showDates();
+
+            binding.courseNameEdittext.setText(editCourse.getTitle());
+            binding.editNoteText.setText(editCourse.getNote());
+
+            // Set spinners
+            int position = statusAdapter.getPosition(editCourse.getStatus());
+            binding.courseStatusSpinner.setSelection(position);
+
+            position = instructorAdapter.getPosition(instructor);
+            binding.instructorSpinner.setSelection(position);
+
+            position = termAdapter.getPosition(term);
+            binding.termSpinner.setSelection(position);
+        });
+    }
+
+    /**
+     * Shows the start and end dates on their select buttons, if they are set.
+     */
+    private void showDates() {
+        if (startDate != null)
+            binding.startDateButton.setText(startDate.format(DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT)));
+
+        if (endDate != null)
+            binding.endDateButton.setText(endDate.format(DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT)));
+    }
+
+    /**
+     * Saves a course in the database.
+     *
+     * <p> Creates a course with the user supplied information and saves it in the database.
+     * A course title, instructor, and term is required. After saving the course, the
+     * user is returned to viewing all courses, or to the form that opened this one for a
+     * result, which is given the course's ID. </p>
+     */
+    private void saveCourse() {
+        // The course being edited has not been loaded yet
+        if (editCourse == null)
+            return;
+
+        String title = binding.courseNameEdittext.getText().toString().trim();
+        if (title.isEmpty()) {
+            showRequiredDialog(getString(R.string.course_name_required));
+            return;
+        }
+
+        CourseInstructor instructor = (CourseInstructor) binding.instructorSpinner.getSelectedItem();
+        if (instructor == null) {
+            showRequiredDialog(getString(R.string.instructor_required));
+            return;
+        }
+
+        Term term = (Term) binding.termSpinner.getSelectedItem();
+        if (term == null) {
+            showRequiredDialog(getString(R.string.term_required));
+            return;
+        }
+
+        Course.Status status = (Course.Status) binding.courseStatusSpinner.getSelectedItem();
+        String note = binding.editNoteText.getText().toString().trim();
+
+        Course userCourse = new Course();
+        userCourse.setTitle(title);
+        userCourse.setStartDate(startDate);
+        userCourse.setEndDate(endDate);
+        userCourse.setStatus(status);
+        userCourse.setCourseInstructorId(instructor.getId());
+        userCourse.setNote(note);
+        userCourse.setTermId(term.getId());
+
+        // A new course keeps the ID 0, so the upsert inserts it
+        userCourse.setId(editCourse.getId());
+        AppExecutors.getInstance().whenDone(getViewLifecycleOwner(), scheduleViewModel.upsert(userCourse), courseId -> {
+            if (BackStack.isForResult(this)) {
+                BackStack.returnResult(this, SAVED_COURSE_ID, (int) courseId);
+            } else {
+                BackStack.returnTo(this, R.id.courseFragment,
+                        R.id.action_addCourseFragment_to_courseFragment, null);
+            }
+        }, error -> showSaveFailedDialog());
+    }
+
+    /**
+     * Selects the term added from the term spinner, once the spinner shows it.
+     */
+    private void selectSavedTerm() {
+        if (savedTermId == NO_ID)
+            return;
+
+        Term term = new Term();
+        term.setId(savedTermId);
+        if (Spinners.select(binding.termSpinner, termAdapter, term))
+            savedTermId = NO_ID;
+    }
+
+    /**
+     * Selects the course instructor added from the instructor spinner, once the spinner shows it.
+     */
+    private void selectSavedInstructor() {
+        if (savedInstructorId == NO_ID)
+            return;
+
+        CourseInstructor instructor = new CourseInstructor();
+        instructor.setId(savedInstructorId);
+        if (Spinners.select(binding.instructorSpinner, instructorAdapter, instructor))
+            savedInstructorId = NO_ID;
+    }
+
+    /**
+     * Tells the screen what to do when an item is selected in the spinner.
+     *
+     * <p> When an item is selected in the spinner, this method checks the item selected. If that item
+     * is "New Term" or "New Course Instructor" then the user is directed to the screen that adds
+     * a new term or instructor, and the new row is selected when the user comes back. </p>
+     * @param parent The AdapterView (in this case spinner) where the item was selected
+     * @param view The view calling the method
+     * @param position The position of the AdapterView (spinner)
+     * @param id The ID of the item selected
+     */
+    @Override
+    public void onItemSelected(AdapterView<?> parent, View view, int position, long id) {
+        int spinnerId = parent.getId();
+
+        if (spinnerId == R.id.term_spinner) {
+            Term term = (Term) parent.getSelectedItem();
+            if (term.getTitle().equals(NEW_TERM)) {
+                NavHostFragment.findNavController(this).navigate(R.id.action_addCourseFragment_to_addTermFragment);
+                parent.setSelection(0);
+            }
+        }
+        else if (spinnerId == R.id.instructor_spinner) {
+            CourseInstructor instructor = (CourseInstructor) parent.getSelectedItem();
+            if (instructor.getName().equals(NEW_COURSE_INSTRUCTOR)) {
+                NavHostFragment.findNavController(this).navigate(R.id.action_addCourseFragment_to_addCourseInstructorFragment);
+                parent.setSelection(0);
+            }
+        }
+    }
+
+    /**
+     * Defines what happens when nothing is selected in the AdapterView. In this case, do nothing.
+     *
+     * @param parent The AdapterView where nothing was selected
+     */
+    @Override
+    public void onNothingSelected(AdapterView<?> parent) {
+        // do nothing
+    }
+
+    /**
+     * Inflates the menu using the specified layout.
+     *
+     * @param menu The menu to be created
+     * @param menuInflater Inflates the menu
+     */
+    @Override
+    public void onCreateMenu(@NonNull Menu menu, @NonNull MenuInflater menuInflater) {
+        menuInflater.inflate(R.menu.edit_item_menu, menu);
+    }
+
+    /**
+     * Tells the screen what to do when the user clicks a menu item.
+     *
+     * @param item The menu item that the user clicked on
+     * @return Returns true if the menu item matches a listed item and the indicated action was performed
+     */
+    @Override
+    public boolean onMenuItemSelected(@NonNull MenuItem item) {
+        int id = item.getItemId();
+
+        if (id == R.id.edit_home_item) {
+            BackStack.goHome(this);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Shows a message informing the user that the information in message is required in order to
+     * save the course.
+     *
+     * @param message The message about the required information
+     */
+    private void showRequiredDialog(String message) {
+        Bundle bundle = new Bundle();
+        bundle.putString(InformationDialog.MESSAGE, message);
+
+        InformationDialog informationDialog = new InformationDialog();
+        informationDialog.setArguments(bundle);
+        informationDialog.show(getChildFragmentManager(), "InformationDialog");
+    }
+
+    /**
+     * Shows a message informing the user that the course could not be saved.
+     * The form keeps what they entered, so they can try again.
+     */
+    private void showSaveFailedDialog() {
+        showRequiredDialog(getString(R.string.save_failed));
+    }
+
+    /**
+     * Holds what is read from the database when editing a course, so it can be passed from the
+     * background thread to the main thread.
+     */
+    private static class EditCourseData {
+        Course course;
+        CourseInstructor instructor;
+        Term term;
+        List<CourseInstructor> instructorList;
+        List<Term> termList;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,215 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.MenuProvider;
+import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.Observer;
+import androidx.lifecycle.ViewModelProvider;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
+import android.view.View;
+import android.view.ViewGroup;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentAddCourseInstructorBinding;
+import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.BackStack;
+import wgu.c196.rachel.coursescheduler.util.InformationDialog;
+
+/**
+ * Controller for adding a course instructor.
+ *
+ * <p> This screen lets the user add a course instructor or edit an existing course instructor. </p>
+ */
+public class AddCourseInstructorFragment extends Fragment implements MenuProvider {
+    /**
+     * Argument for passing a course instructor ID. Used for editing a course instructor.
+     */
+    public final static String INSTRUCTOR_ID = "instructor_id";
+    /**
+     * Key of the fragment result that gives the ID of the saved course instructor to a form that
+     * opened this one for a result, see BackStack.
+     */
+    public final static String SAVED_INSTRUCTOR_ID = "saved instructor id";
+
+    // The instructor ID when a new course instructor is added, the default in the navigation graph
+    private static final int NO_ID = -1;
+
+    private FragmentAddCourseInstructorBinding binding;
+    private ScheduleViewModel scheduleViewModel;
+    private CourseInstructor userInstructor;
+
+    /**
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_add_course_instructor, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. It checks whether a course instructor ID
+     * was supplied in the arguments. If so, a course instructor is being edited instead of added. So
+     * it loads that course instructor's information into the screen for editing. </p>
+     * @param view The root view of the layout
+     * @param savedInstanceState Contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
+
+        // Populate information if editing course instructor
+        int instructorId = requireArguments().getInt(INSTRUCTOR_ID, NO_ID);
+        if (instructorId != NO_ID) {
+            scheduleViewModel.getLiveInstructor(instructorId)
+                    .observe(getViewLifecycleOwner(), new Observer<CourseInstructor>() {
+                @Override
+                public void onChanged(CourseInstructor courseInstructor) {
+                    userInstructor = courseInstructor;
+                    populateInformation();
+                }
+            });
+        } else {
+            userInstructor = new CourseInstructor();
+        }
+
+        binding.saveButton3.setOnClickListener(button -> {
+            saveInstructor();
+        });
+
+        requireActivity().addMenuProvider(this, getViewLifecycleOwner(), Lifecycle.State.RESUMED);
+    }
+
+    /**
+     * Releases the views once the form is left.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding = null;
+    }
+
+    /**
+     * Goes to the screen that shows all course instructors.
+     */
+    private void goInstructorsFragment() {
+        BackStack.returnTo(this, R.id.instructorsFragment,
+                R.id.action_addCourseInstructorFragment_to_instructorsFragment, null);
+    }
+
+    /**
+     * Loads the information from a user selected course instructor.
+     *
+     * <p> if the user is editing a course instructor (indicated through passing its ID), the
+     * information from the indicated course instructor is loaded into the form. </p>
+     */
+    private void populateInformation() {
+        binding.addInstructorTextview.setText(R.string.edit_course_instructor);
+        binding.nameEdittext.setText(userInstructor.getName());
+        binding.editTextPhone.setText(userInstructor.getPhoneNumber());
+        binding.editTextEmail.setText(userInstructor.getEmail());
+    }
+
+    /**
+     * Saves a course instructor in the database.
+     *
+     * <p> Creates a course instructor with the user supplied information and saves it in the database.
+     * A name is required. After saving the course instructor, the user is returned to viewing
+     * all courses instructors, or to the form that opened this one for a result, which is
+     * given the course instructor's ID. </p>
+     */
+    private void saveInstructor() {
+        String name = binding.nameEdittext.getText().toString().trim();
+
+        if (name.isEmpty()) {
+            showRequiredDialog(getString(R.string.instructor_name_required));
+            return;
+        }
+
+        userInstructor.setName(name);
+        userInstructor.setPhoneNumber(binding.editTextPhone.getText().toString().trim());
+        userInstructor.setEmail(binding.editTextEmail.getText().toString().trim());
+
+        // Inserts a new instructor or updates the edited one, and returns its ID in the same write
+        AppExecutors.getInstance().whenDone(getViewLifecycleOwner(), scheduleViewModel.upsert(userInstructor), instructorId -> {
+            if (BackStack.isForResult(this)) {
+                BackStack.returnResult(this, SAVED_INSTRUCTOR_ID, (int) instructorId);
+            } else {
+                goInstructorsFragment();
+            }
+        }, error -> showSaveFailedDialog());
+    }
+
+    /**
+     * Inflates the menu using the specified layout.
+     *
+     * @param menu The menu to be created
+     * @param menuInflater Inflates the menu
+     */
+    @Override
+    public void onCreateMenu(@NonNull Menu menu, @NonNull MenuInflater menuInflater) {
+        menuInflater.inflate(R.menu.edit_item_menu, menu);
+    }
+
+    /**
+     * Tells the screen what to do when the user clicks a menu item.
+     *
+     * @param item The menu item that the user clicked on
+     * @return Returns true if the menu item matches a listed item and the indicated action was performed
+     */
+    @Override
+    public boolean onMenuItemSelected(@NonNull MenuItem item) {
+        int id = item.getItemId();
+
+        if (id == R.id.edit_home_item) {
+            BackStack.goHome(this);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Shows a message informing the user that the information in message is required in order to
+     * save the course.
+     *
+     * @param message The message about the required information
+     */
+    private void showRequiredDialog(String message) {
+        Bundle bundle = new Bundle();
+        bundle.putString(InformationDialog.MESSAGE, message);
+
+        InformationDialog informationDialog = new InformationDialog();
+        informationDialog.setArguments(bundle);
+        informationDialog.show(getChildFragmentManager(), "InformationDialog");
+    }
+
+    /**
+     * Shows a message informing the user that the instructor could not be saved.
+     * The form keeps what they entered, so they can try again.
+     */
+    private void showSaveFailedDialog() {
+        showRequiredDialog(getString(R.string.save_failed));
+    }
+
+}
\ No newline at end of file
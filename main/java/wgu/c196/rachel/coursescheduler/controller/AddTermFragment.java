@@ -1,17 +1,21 @@
 package wgu.c196.rachel.coursescheduler.controller;
 
 import androidx.annotation.NonNull;
-import androidx.appcompat.app.AppCompatActivity;
+import androidx.annotation.Nullable;
+import androidx.core.view.MenuProvider;
 import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.Observer;
 import androidx.lifecycle.ViewModelProvider;
 
-import android.content.Intent;
 import android.os.Bundle;
+import android.view.LayoutInflater;
 import android.view.Menu;
 import android.view.MenuInflater;
 import android.view.MenuItem;
 import android.view.View;
+import android.view.ViewGroup;
 import android.widget.CalendarView;
 
 import java.time.LocalDate;
@@ -20,49 +24,71 @@ import java.time.format.FormatStyle;
 
 import wgu.c196.rachel.coursescheduler.R;
 import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
-import wgu.c196.rachel.coursescheduler.databinding.ActivityAddTermBinding;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentAddTermBinding;
 import wgu.c196.rachel.coursescheduler.model.Term;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.BackStack;
 import wgu.c196.rachel.coursescheduler.util.InformationDialog;
 
 /**
  * Controller for adding a term.
  *
- * <p> This activity lets the user add a term or edit an existing term. </p>
+ * <p> This screen lets the user add a term or edit an existing term. </p>
  */
-public class AddTermActivity extends AppCompatActivity {
-    private ActivityAddTermBinding binding;
-    private boolean isEditTerm = false;
+public class AddTermFragment extends Fragment implements MenuProvider {
+    /**
+     * Key of the fragment result that gives the ID of the saved term to a form that opened this
+     * one for a result, see BackStack.
+     */
+    public static final String SAVED_TERM_ID = "saved_term_id";
+
+    // The term ID when a new term is added, the default in the navigation graph
+    private static final int NO_ID = -1;
+
+    private FragmentAddTermBinding binding;
     private Term userTerm;
     private ScheduleViewModel scheduleViewModel;
     private LocalDate startDate;
     private LocalDate endDate;
 
     /**
-     * Method that runs when the activity is created.
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_add_term, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
      *
-     * <p> This method initializes the views in the layout. It checks whether information was
-     * supplied through an Intent. If so, a course is being edited instead of added. So it
-     * loads that course's information into the screen for editing. </p>
+     * <p> This method initializes the views in the layout. It checks whether a term ID was
+     * supplied in the arguments. If so, a term is being edited instead of added. So it
+     * loads that term's information into the screen for editing. </p>
+     * @param view The root view of the layout
      * @param savedInstanceState Contains data supplied to onSaveInstanceState() or null
      */
     @Override
-    protected void onCreate(Bundle savedInstanceState) {
-        super.onCreate(savedInstanceState);
-//        setContentView(R.layout.activity_add_term);
-        binding = DataBindingUtil.setContentView(this, R.layout.activity_add_term);
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
 
-        scheduleViewModel = new ViewModelProvider.AndroidViewModelFactory(this.getApplication())
-                .create(ScheduleViewModel.class);
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
 
         binding.endDateCalendarview.setVisibility(View.GONE);
         binding.startDateCalendarview.setVisibility(View.GONE);
 
 
-        Bundle intentData = getIntent().getExtras();
-        if (intentData != null) {
-            isEditTerm = true;
-            scheduleViewModel.getLiveTerm(intentData.getInt(TermsActivity.TERM_ID))
-                    .observe(this, new Observer<Term>() {
+        int termId = requireArguments().getInt(TermsFragment.TERM_ID, NO_ID);
+        if (termId != NO_ID) {
+            scheduleViewModel.getLiveTerm(termId)
+                    .observe(getViewLifecycleOwner(), new Observer<Term>() {
                 @Override
                 public void onChanged(Term term) {
                     userTerm = term;
@@ -74,12 +100,12 @@ public class AddTermActivity extends AppCompatActivity {
         }
 
         // Set up the calenderViews to match their select buttons
-        binding.selectStartDate.setOnClickListener(view -> {
+        binding.selectStartDate.setOnClickListener(button -> {
             binding.startDateCalendarview.setVisibility(View.VISIBLE);
             binding.endDateCalendarview.setVisibility(View.GONE);
         });
 
-        binding.selectEndDate.setOnClickListener(view -> {
+        binding.selectEndDate.setOnClickListener(button -> {
             binding.startDateCalendarview.setVisibility(View.GONE);
             binding.endDateCalendarview.setVisibility(View.VISIBLE);
         });
@@ -104,16 +130,28 @@ public class AddTermActivity extends AppCompatActivity {
             }
         });
 
-        binding.termSaveButton.setOnClickListener(view -> {
+        binding.termSaveButton.setOnClickListener(button -> {
             saveTerm();
         });
+
+        requireActivity().addMenuProvider(this, getViewLifecycleOwner(), Lifecycle.State.RESUMED);
+    }
+
+    /**
+     * Releases the views once the form is left.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding = null;
     }
 
     /**
      * Saves a term in the database.
      *
      * <p> Creates a term with the user supplied information and saves it in the database.
-     * A term title is required. After saving the term, the user is returned to viewing all terms. </p>
+     * A term title is required. After saving the term, the user is returned to viewing all terms,
+     * or to the form that opened this one for a result, which is given the term's ID. </p>
      */
     private void saveTerm() {
         String title = binding.termNameEdittext.getText().toString().trim();
@@ -127,20 +165,21 @@ public class AddTermActivity extends AppCompatActivity {
         userTerm.setStartDate(startDate);
         userTerm.setEndDate(endDate);
 
-        if (isEditTerm) {
-            scheduleViewModel.update(userTerm);
-        } else {
-            scheduleViewModel.insert(userTerm);
-        }
-
-        // Move to view term list
-        goTermsActivity();
+        // Inserts a new term or updates the edited one, and returns its ID in the same write
+        AppExecutors.getInstance().whenDone(getViewLifecycleOwner(), scheduleViewModel.upsert(userTerm), termId -> {
+            if (BackStack.isForResult(this)) {
+                BackStack.returnResult(this, SAVED_TERM_ID, (int) termId);
+            } else {
+                // Move to view term list once the term is saved, so the list shows it
+                goTermsFragment();
+            }
+        }, error -> showSaveFailedDialog());
     }
 
     /**
      * Loads the information from a user selected term.
      *
-     * <p> if the user is editing a term (indicated through passing an Intent), the
+     * <p> if the user is editing a term (indicated through passing its ID), the
      * information from the indicated term is loaded into the form. </p>
      */
     private void populateInformation() {
@@ -157,41 +196,39 @@ public class AddTermActivity extends AppCompatActivity {
     }
 
     /**
-     * Sends the user to the activity to view all terms.
+     * Sends the user to the screen to view all terms.
      */
-    private void goTermsActivity() {
-        startActivity(new Intent(AddTermActivity.this, TermsActivity.class));
+    private void goTermsFragment() {
+        BackStack.returnTo(this, R.id.termsFragment, R.id.action_addTermFragment_to_termsFragment, null);
     }
 
     /**
      * Inflates the menu using the specified layout.
      *
      * @param menu The menu to be created
-     * @return Returns true to indicate that a menu was created
+     * @param menuInflater Inflates the menu
      */
     @Override
-    public boolean onCreateOptionsMenu(Menu menu) {
-        MenuInflater inflater = getMenuInflater();
-        inflater.inflate(R.menu.edit_item_menu, menu);
-        return true;
+    public void onCreateMenu(@NonNull Menu menu, @NonNull MenuInflater menuInflater) {
+        menuInflater.inflate(R.menu.edit_item_menu, menu);
     }
 
     /**
-     * Tells the activity what to do when the user clicks a menu item.
+     * Tells the screen what to do when the user clicks a menu item.
      *
      * @param item The menu item that the user clicked on
      * @return Returns true if the menu item matches a listed item and the indicated action was performed
      */
     @Override
-    public boolean onOptionsItemSelected(@NonNull MenuItem item) {
+    public boolean onMenuItemSelected(@NonNull MenuItem item) {
         int id = item.getItemId();
 
         if (id == R.id.edit_home_item) {
-            startActivity(new Intent(AddTermActivity.this, HomePageActivity.class));
+            BackStack.goHome(this);
             return true;
         }
 
-        return super.onOptionsItemSelected(item);
+        return false;
     }
 
     /**
@@ -206,6 +243,14 @@ public class AddTermActivity extends AppCompatActivity {
 
         InformationDialog informationDialog = new InformationDialog();
         informationDialog.setArguments(bundle);
-        informationDialog.show(getSupportFragmentManager(), "InformationDialog");
+        informationDialog.show(getChildFragmentManager(), "InformationDialog");
+    }
+
+    /**
+     * Shows a message informing the user that the term could not be saved.
+     * The form keeps what they entered, so they can try again.
+     */
+    private void showSaveFailedDialog() {
+        showRequiredDialog(getString(R.string.save_failed));
     }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.navigation.fragment.NavHostFragment;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.adapter.AgendaRecyclerAdapter;
+import wgu.c196.rachel.coursescheduler.database.AgendaLiveData;
+import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentAgendaBinding;
+import wgu.c196.rachel.coursescheduler.model.AgendaItem;
+
+/**
+ * Controller for the agenda.
+ *
+ * <p> This class shows the days courses and assessments start and end over the next
+ * AGENDA_DAYS days, in date order, so the user can see what is coming up without opening each
+ * term and course. Clicking an item opens the course or assessment. </p>
+ */
+public class AgendaFragment extends Fragment {
+    // The number of days shown, starting today
+    private static final int AGENDA_DAYS = 30;
+    // How close to the end of the list the user scrolls before the next page is read
+    private static final int LOAD_MORE_THRESHOLD = 10;
+
+    private FragmentAgendaBinding binding;
+    private ScheduleViewModel scheduleViewModel;
+    private AgendaRecyclerAdapter recyclerAdapter;
+    private AgendaLiveData agenda;
+
+    /**
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_agenda, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. The agenda is read a page at a time,
+     * and the next page is read as the user scrolls near the end of the list. </p>
+     * @param view The root view of the layout
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
+        agenda = scheduleViewModel.getAgenda(AGENDA_DAYS);
+
+        // Set up recycler adapter
+        LinearLayoutManager layoutManager = new LinearLayoutManager(requireContext());
+        binding.agendaRecyclerview.setHasFixedSize(true);
+        binding.agendaRecyclerview.setLayoutManager(layoutManager);
+
+        recyclerAdapter = new AgendaRecyclerAdapter((position, row) -> {
+            // OnContactClickListener
+            openItem(recyclerAdapter.getCurrentList().get(position));
+        });
+        binding.agendaRecyclerview.setAdapter(recyclerAdapter);
+
+        binding.agendaRecyclerview.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                int last = layoutManager.findLastVisibleItemPosition();
+                if (last >= recyclerAdapter.getItemCount() - LOAD_MORE_THRESHOLD)
+                    agenda.loadMore();
+            }
+        });
+
+        agenda.observe(getViewLifecycleOwner(), items -> {
+            recyclerAdapter.submitList(items);
+        });
+    }
+
+    /**
+     * Releases the views while an item is open. The adapter is detached so it does not keep
+     * the old RecyclerView.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding.agendaRecyclerview.setAdapter(null);
+        binding = null;
+    }
+
+    /**
+     * Opens the view of the course or assessment of an agenda item.
+     *
+     * @param item The agenda item that was clicked on
+     */
+    private void openItem(AgendaItem item) {
+        Bundle args = new Bundle();
+
+        if (item.isCourse()) {
+            args.putInt(CourseViewFragment.COURSE_ID, item.getId());
+            NavHostFragment.findNavController(this).navigate(R.id.action_agendaFragment_to_courseViewFragment, args);
+        } else {
+            args.putInt(AssessmentViewFragment.ASSESSMENT_ID, item.getId());
+            NavHostFragment.findNavController(this).navigate(R.id.action_agendaFragment_to_assessmentViewFragment, args);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,345 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.MenuProvider;
+import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.DialogFragment;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.Observer;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.navigation.fragment.NavHostFragment;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.CompoundButton;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentAssessmentViewBinding;
+import wgu.c196.rachel.coursescheduler.model.Alert;
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.BackStack;
+import wgu.c196.rachel.coursescheduler.util.DeleteDialog;
+import wgu.c196.rachel.coursescheduler.util.InformationDialog;
+
+/**
+ * Controller for viewing an assessment.
+ *
+ * <p> This class lets the user view information about a selected assessment. </p>
+ */
+public class AssessmentViewFragment extends Fragment implements MenuProvider, DeleteDialog.DeleteDialogListener {
+    /**
+     * Argument for passing an assessment ID of the user select assessment.
+     */
+    public static final String ASSESSMENT_ID = "assessment_id";
+
+    private FragmentAssessmentViewBinding binding;
+    private ScheduleViewModel scheduleViewModel;
+    private Assessment userAssessment;
+
+    // The alerts set for the assessment, as last shown on the switches
+    private boolean hasStartAlert = false;
+    private boolean hasEndAlert = false;
+
+    /**
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_assessment_view, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. It checks for the assessment ID provided
+     * in the arguments, finds that assessment, and loads the information into the views. The
+     * navigation graph requires the assessment ID. </p>
+     * @param view The root view of the layout
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        int assessmentId = requireArguments().getInt(ASSESSMENT_ID);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
+
+        binding.assessmentStartDateSwitch.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
+            @Override
+            public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+                setAlerts(buttonView, isChecked);
+            }
+        });
+
+        binding.assessmentEndDateSwitch.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
+            @Override
+            public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+                setAlerts(buttonView, isChecked);
+            }
+        });
+
+        // Load assessment information
+        scheduleViewModel.getAssessmentFromId(assessmentId).observe(getViewLifecycleOwner(), new Observer<Assessment>() {
+            @Override
+            public void onChanged(Assessment assessment) {
+                if (assessment == null)
+                    return;
+
+                userAssessment = assessment;
+
+                binding.assessmentTitleTextview.setText(assessment.getTitle());
+                binding.assessmentTypeInfo.setText(assessment.getType().toString());
+                binding.startDateInfo.setText(assessment.getStartDate()
+                        .format(DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM)));
+                binding.endDateInfo.setText(assessment.getEndDate()
+                        .format(DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM)));
+
+                setCourseNameTask();
+            }
+        });
+
+        // The alert switches show the alerts in the alert table
+        scheduleViewModel.getAssessmentAlerts(assessmentId).observe(getViewLifecycleOwner(), new Observer<List<Alert>>() {
+            @Override
+            public void onChanged(List<Alert> alerts) {
+                showAlerts(alerts);
+            }
+        });
+
+        requireActivity().addMenuProvider(this, getViewLifecycleOwner(), Lifecycle.State.RESUMED);
+    }
+
+    /**
+     * Releases the views while the screen is in the back stack.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding = null;
+    }
+
+    /**
+     * Loads information on the assessment's course.
+     *
+     * <p> This method finds the assessment's course in the database and loads the information. </p>
+     */
+    private void setCourseNameTask() {
+        int courseId = userAssessment.getCourseId();
+
+        AppExecutors.getInstance().load(getViewLifecycleOwner(), () -> scheduleViewModel.getCourseFromId(courseId), course -> {
+            binding.courseNameInfo.setText(course.getTitle());
+        });
+    }
+
+    /**
+     * Inflates the menu using the specified layout.
+     *
+     * @param menu The menu to be created
+     * @param menuInflater Inflates the menu
+     */
+    @Override
+    public void onCreateMenu(@NonNull Menu menu, @NonNull MenuInflater menuInflater) {
+        menuInflater.inflate(R.menu.view_item_menu, menu);
+    }
+
+    /**
+     * Tells the screen what to do when the user clicks a menu item.
+     *
+     * @param item The menu item that the user clicked on
+     * @return Returns true if the menu item matches a listed item and the indicated action was performed
+     */
+    @Override
+    public boolean onMenuItemSelected(@NonNull MenuItem item) {
+        int id = item.getItemId();
+
+        if (id == R.id.view_home_item) {
+            BackStack.goHome(this);
+            return true;
+        } else if (id == R.id.view_edit_item) {
+            Bundle args = new Bundle();
+            args.putInt(AddAssessmentFragment.ASSESSMENT_ID, userAssessment.getId());
+            NavHostFragment.findNavController(this)
+                    .navigate(R.id.action_assessmentViewFragment_to_addAssessmentFragment, args);
+            return true;
+        } else if (id == R.id.view_delete_item) {
+            showDeleteDialog();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Deletes the assessment from the database.
+     *
+     * <p> This method deletes the user selected assessment from the database. Once the delete has
+     * committed, it goes back to the view of the deleted assessment's course, which shows all of
+     * its assessments. If the delete fails, the user stays on the assessment and is told. </p>
+     */
+    private void deleteAssessment() {
+        Bundle args = new Bundle();
+        args.putInt(CourseViewFragment.COURSE_ID, userAssessment.getCourseId());
+
+        AppExecutors.getInstance().whenDone(getViewLifecycleOwner(), scheduleViewModel.delete(userAssessment),
+                done -> BackStack.returnTo(this, R.id.courseViewFragment,
+                        R.id.action_assessmentViewFragment_to_courseViewFragment, args),
+                error -> showDeleteFailedDialog());
+    }
+
+    /**
+     * Shows a message asking for confirmation to delete the assessment.
+     */
+    private void showDeleteDialog() {
+        Bundle bundle = new Bundle();
+        bundle.putString(DeleteDialog.MESSAGE, getString(R.string.delete_assessment));
+
+        DeleteDialog dialog = new DeleteDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "DeleteDialog");
+    }
+
+    /**
+     * Tells the screen what to do when the user confirms deletion.
+     *
+     * @param dialog The dialog that was clicked on
+     */
+    @Override
+    public void onDeleteDialogPositive(DialogFragment dialog) {
+        deleteAssessment();
+    }
+
+    /**
+     * Tells the screen what to do when the user cancels deletion. In this case, do nothing.
+     *
+     * @param dialog The dialog that was clicked on
+     */
+    @Override
+    public void onDeleteDialogNegative(DialogFragment dialog) {
+        // do nothing
+    }
+
+    /**
+     * Shows a message informing the user that a date is required in order to create an alert.
+     */
+    private void showNullDateDialog() {
+        Bundle bundle = new Bundle();
+        bundle.putString(InformationDialog.MESSAGE, getString(R.string.date_cannot_be_null));
+
+        InformationDialog dialog = new InformationDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "NullDateDialog");
+
+    }
+
+    /**
+     * Shows which alerts are set for the assessment.
+     *
+     * <p> The switches are set from the alert table. Setting a switch calls setAlerts(), which
+     * does nothing when the switch already matches the table. </p>
+     * @param alerts The assessment's alerts
+     */
+    private void showAlerts(List<Alert> alerts) {
+        hasStartAlert = false;
+        hasEndAlert = false;
+        for (Alert alert : alerts) {
+            if (alert.getKind() == Alert.KIND_ASSESSMENT_START)
+                hasStartAlert = true;
+            else if (alert.getKind() == Alert.KIND_ASSESSMENT_END)
+                hasEndAlert = true;
+        }
+
+        binding.assessmentStartDateSwitch.setChecked(hasStartAlert);
+        binding.assessmentEndDateSwitch.setChecked(hasEndAlert);
+    }
+
+    /**
+     * Sets or cancels an alert depending on a user toggled switch.
+     *
+     * <p> A user can choose to set a reminder about the start or end date of the assessment. A start
+     * or end date is required in order to set their alerts. This method will determine which
+     * switch was clicked and whether to set up or cancel an alert. The alert is saved in the
+     * alert table, which schedules it. </p>
+     * @param buttonView The switch that was clicked
+     * @param isChecked True if the switch was clicked on, false if the switch was clicked off
+     */
+    private void setAlerts(CompoundButton buttonView, boolean isChecked) {
+        boolean isStart = buttonView.getId() == R.id.assessment_start_date_switch;
+
+        // The switch was set to match the alert table
+        if (isChecked == (isStart ? hasStartAlert : hasEndAlert))
+            return;
+
+        int kind = isStart ? Alert.KIND_ASSESSMENT_START : Alert.KIND_ASSESSMENT_END;
+
+        if (!isChecked) {
+            setHasAlert(isStart, false);
+            scheduleViewModel.cancelAlert(kind, userAssessment.getId());
+            return;
+        }
+
+        LocalDate date = isStart ? userAssessment.getStartDate() : userAssessment.getEndDate();
+        if (date == null) {
+            showNullDateDialog();
+            buttonView.setChecked(false);
+            return;
+        }
+
+        String message = "Assessment " + userAssessment.getTitle() +
+                (isStart ? " is starting today" : " is ending today");
+
+        // AlarmManager uses time in Milliseconds
+        Instant dateInstant = date.atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+        setHasAlert(isStart, true);
+        scheduleViewModel.setAlert(new Alert(kind, userAssessment.getId(), dateInstant.toEpochMilli(), message));
+    }
+
+    /**
+     * Records a switch change before the alert table catches up, so switching it back straight
+     * away is not mistaken for the table being shown.
+     *
+     * @param isStart True for the start date alert, false for the end date alert
+     * @param hasAlert True if the alert is set
+     */
+    private void setHasAlert(boolean isStart, boolean hasAlert) {
+        if (isStart)
+            hasStartAlert = hasAlert;
+        else
+            hasEndAlert = hasAlert;
+    }
+    /**
+     * Shows a message informing the user that the assessment could not be deleted.
+     */
+    private void showDeleteFailedDialog() {
+        Bundle bundle = new Bundle();
+        bundle.putString(InformationDialog.MESSAGE, getString(R.string.delete_failed));
+
+        InformationDialog dialog = new InformationDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "InformationDialog");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,266 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.MenuProvider;
+import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.DialogFragment;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.Observer;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.navigation.fragment.NavHostFragment;
+import androidx.paging.PagingData;
+import androidx.recyclerview.widget.LinearLayoutManager;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
+import android.view.View;
+import android.view.ViewGroup;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.adapter.DeleteSelection;
+import wgu.c196.rachel.coursescheduler.adapter.AssessmentRecyclerAdapter;
+import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentAssessmentsBinding;
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.BackStack;
+import wgu.c196.rachel.coursescheduler.util.DeleteDialog;
+import wgu.c196.rachel.coursescheduler.util.InformationDialog;
+
+/**
+ * Controller for viewing all assessments.
+ *
+ * <p> This class lets the user view information about the assessments in the database. </p>
+ */
+public class AssessmentsFragment extends Fragment implements MenuProvider, DeleteDialog.DeleteDialogListener {
+    private FragmentAssessmentsBinding binding;
+    private ScheduleViewModel scheduleViewModel;
+    private AssessmentRecyclerAdapter recyclerAdapter;
+    // The rows checked for deletion, kept while the view is destroyed in the back stack
+    private final DeleteSelection selection = new DeleteSelection();
+
+    /**
+     * Restores delete mode and the rows checked for deletion if the screen was recreated.
+     *
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        selection.restoreState(savedInstanceState);
+    }
+
+    /**
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_assessments, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. It gets a list of all assessments
+     * in the database and loads the Recycler Adapter with the list. Clicking on an assessment will
+     * bring the user to a view of that assessment.</p>
+     * @param view The root view of the layout
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
+
+        binding.deleteAssessmentFab.setVisibility(View.GONE);
+
+        binding.deleteAssessmentFab.setOnClickListener(button -> {
+            showDeleteDialog();
+        });
+
+        // Set up recycler adapter
+        binding.assessmentsRecyclerview.setHasFixedSize(true);
+        binding.assessmentsRecyclerview.setLayoutManager(new LinearLayoutManager(requireContext()));
+
+        recyclerAdapter = new AssessmentRecyclerAdapter((position, row) -> {
+            // OnContactClickListener
+            Assessment assessment = recyclerAdapter.peek(position);
+            if (assessment == null)
+                return;
+
+            if (recyclerAdapter.isDelete()) {
+                recyclerAdapter.toggleSelected(position);
+            } else {
+                Bundle args = new Bundle();
+                args.putInt(AssessmentViewFragment.ASSESSMENT_ID, assessment.getId());
+                NavHostFragment.findNavController(this)
+                        .navigate(R.id.action_assessmentsFragment_to_assessmentViewFragment, args);
+            }
+        }, selection);
+        binding.assessmentsRecyclerview.setAdapter(recyclerAdapter);
+        // The selection outlives the adapter, so a new view shows delete mode and the checked rows
+        showDeleteButtons(recyclerAdapter.isDelete());
+
+        scheduleViewModel.getPagedAssessments().observe(getViewLifecycleOwner(), new Observer<PagingData<Assessment>>() {
+            @Override
+            public void onChanged(PagingData<Assessment> assessments) {
+                recyclerAdapter.submitData(getViewLifecycleOwner().getLifecycle(), assessments);
+            }
+        });
+
+        requireActivity().addMenuProvider(this, getViewLifecycleOwner(), Lifecycle.State.RESUMED);
+    }
+
+    /**
+     * Releases the views while the screen is in the back stack. The adapter is detached so it
+     * does not keep the old RecyclerView.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding.assessmentsRecyclerview.setAdapter(null);
+        binding = null;
+    }
+
+    /**
+     * Deletes the assessments in the delete list from the database.
+     *
+     * <p> The rows stay checked until the delete has committed, so the user can try again if it
+     * fails. </p>
+     */
+    private void deleteAssessments() {
+        AppExecutors.getInstance().whenDone(getViewLifecycleOwner(),
+                scheduleViewModel.deleteAssessments(recyclerAdapter.getSelectedIds().toList()),
+                done -> showDeleteButtons(false), error -> showDeleteFailedDialog());
+    }
+
+    /**
+     * Saves delete mode and the rows checked for deletion when the screen is being recreated.
+     *
+     * @param outState The bundle to save the state in
+     */
+    @Override
+    public void onSaveInstanceState(@NonNull Bundle outState) {
+        super.onSaveInstanceState(outState);
+        selection.saveState(outState);
+    }
+
+    /**
+     * Tells the recycler adapter to show or hide the delete checkboxes in the ViewHolders, and
+     * shows or hides the delete FAB.
+     *
+     * @param isDelete True if items are being selected for deletion
+     */
+    private void showDeleteButtons(boolean isDelete) {
+        if (isDelete) {
+            binding.deleteAssessmentFab.setVisibility(View.VISIBLE);
+        } else {
+            binding.deleteAssessmentFab.setVisibility(View.GONE);
+        }
+
+        recyclerAdapter.setDelete(isDelete);
+    }
+
+    /**
+     * Inflates the menu using the specified layout.
+     *
+     * @param menu The menu to be created
+     * @param menuInflater Inflates the menu
+     */
+    @Override
+    public void onCreateMenu(@NonNull Menu menu, @NonNull MenuInflater menuInflater) {
+        menuInflater.inflate(R.menu.term_list_menu, menu);
+    }
+
+    /**
+     * Tells the screen what to do when the user clicks a menu item.
+     *
+     * @param item The menu item that the user clicked on
+     * @return Returns true if the menu item matches a listed item and the indicated action was performed
+     */
+    @Override
+    public boolean onMenuItemSelected(@NonNull MenuItem item) {
+        int itemId = item.getItemId();
+
+        if (itemId == R.id.home_item) {
+            BackStack.goHome(this);
+            return true;
+        } else if (itemId == R.id.add_item) {
+            NavHostFragment.findNavController(this).navigate(R.id.action_assessmentsFragment_to_addAssessmentFragment);
+            return true;
+        } else if (itemId == R.id.delete_item) {
+            showDeleteButtons(true);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Shows a message asking for confirmation to delete the selected assessments.
+     */
+    private void showDeleteDialog() {
+        int deleteSize = recyclerAdapter.getSelectedIds().size();
+
+        if (deleteSize == 0) {
+            showDeleteButtons(false);
+            return;
+        }
+
+        Bundle bundle = new Bundle();
+
+        if (deleteSize == 1) {
+            bundle.putString(DeleteDialog.MESSAGE, getString(R.string.delete_assessment));
+        } else {
+            bundle.putString(DeleteDialog.MESSAGE, getString(R.string.delete_multiple_assessments));
+        }
+
+        DeleteDialog dialog = new DeleteDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "DeleteDialog");
+    }
+
+    /**
+     * Deletes the selected assessments from the database when the user confirms deletion.
+     *
+     * @param dialog The dialog that was clicked on
+     */
+    @Override
+    public void onDeleteDialogPositive(DialogFragment dialog) {
+        deleteAssessments();
+    }
+
+    /**
+     * Tells the screen to clear the deletion list and buttons when the user cancels deletion.
+     *
+     * @param dialog The dialog that was clicked on
+     */
+    @Override
+    public void onDeleteDialogNegative(DialogFragment dialog) {
+        showDeleteButtons(false);
+    }
+    /**
+     * Shows a message informing the user that the selected assessments could not be deleted.
+     */
+    private void showDeleteFailedDialog() {
+        Bundle bundle = new Bundle();
+        bundle.putString(InformationDialog.MESSAGE, getString(R.string.delete_failed));
+
+        InformationDialog dialog = new InformationDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "InformationDialog");
+    }
+}
@@ -0,0 +1,297 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.MenuProvider;
+import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.DialogFragment;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.navigation.fragment.NavHostFragment;
+import androidx.paging.PagingData;
+import androidx.recyclerview.widget.LinearLayoutManager;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
+import android.view.View;
+import android.view.ViewGroup;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.adapter.DeleteSelection;
+import wgu.c196.rachel.coursescheduler.adapter.CourseRecyclerAdapter;
+import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentCourseBinding;
+import wgu.c196.rachel.coursescheduler.model.CourseListItem;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.BackStack;
+import wgu.c196.rachel.coursescheduler.util.DeleteDialog;
+import wgu.c196.rachel.coursescheduler.util.InformationDialog;
+
+/**
+ * Controller for viewing all courses.
+ *
+ * <p> This class lets the user view information about the courses in the database. </p>
+ */
+public class CourseFragment extends Fragment implements MenuProvider, DeleteDialog.DeleteDialogListener {
+    /**
+     * Argument for passing a term ID. If it is given, the screen will only load courses for the
+     * indicated term.
+     */
+    public static final String TERM_ID = "term_id";
+
+    // The term ID when every course is shown, the default in the navigation graph
+    private static final int NO_ID = -1;
+
+    private FragmentCourseBinding binding;
+    private ScheduleViewModel scheduleViewModel;
+    private CourseRecyclerAdapter courseRecyclerAdapter;
+    // The rows checked for deletion, kept while the view is destroyed in the back stack
+    private final DeleteSelection selection = new DeleteSelection();
+    private LiveData<PagingData<CourseListItem>> courseList;
+
+    /**
+     * Restores delete mode and the rows checked for deletion if the screen was recreated.
+     *
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        selection.restoreState(savedInstanceState);
+    }
+
+    /**
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_course, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. It gets a list of all courses
+     * in the database and loads the Recycler Adapter with the list. Or, if a term ID was passed,
+     * it will load the courses that have the indicated term ID. Clicking on a course will bring
+     * the user to a view of that course.</p>
+     * @param view The root view of the layout
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
+
+        binding.deleteCourseFab.setVisibility(View.GONE);
+        binding.courseRecyclerView.setHasFixedSize(true);
+        binding.courseRecyclerView.setLayoutManager(new LinearLayoutManager(requireContext()));
+
+        int termId = requireArguments().getInt(TERM_ID, NO_ID);
+        if (termId != NO_ID) {
+            courseList = scheduleViewModel.getPagedCoursesForTerm(termId);
+        } else {
+            courseList = scheduleViewModel.getPagedCourses();
+        }
+
+        courseListAdapterSetup(savedInstanceState);
+
+        binding.deleteCourseFab.setOnClickListener(button -> {
+            showDeleteDialog();
+        });
+
+        requireActivity().addMenuProvider(this, getViewLifecycleOwner(), Lifecycle.State.RESUMED);
+    }
+
+    /**
+     * Releases the views while the screen is in the back stack. The adapter is detached so it
+     * does not keep the old RecyclerView.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding.courseRecyclerView.setAdapter(null);
+        binding = null;
+    }
+
+    /**
+     * Sets up the Recycler Adapter for the list of courses.
+     *
+     * <p> The adapter is created with the view, and each new page of courses is diffed into it.
+     * Each course row is loaded together with its instructor's name, so the instructors do not
+     * need to be observed separately. </p>
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    private void courseListAdapterSetup(Bundle savedInstanceState) {
+        courseRecyclerAdapter = new CourseRecyclerAdapter(new CourseRecyclerAdapter.OnContactClickListener() {
+            @Override
+            public void onContactClick(int position, View view) {
+                CourseListItem course = courseRecyclerAdapter.peek(position);
+                if (course == null)
+                    return;
+
+                if (courseRecyclerAdapter.isDelete()) {
+                    courseRecyclerAdapter.toggleSelected(position);
+                } else {
+                    Bundle args = new Bundle();
+                    args.putInt(CourseViewFragment.COURSE_ID, course.getId());
+                    NavHostFragment.findNavController(CourseFragment.this)
+                            .navigate(R.id.action_courseFragment_to_courseViewFragment, args);
+                }
+            }
+        }, selection);
+        binding.courseRecyclerView.setAdapter(courseRecyclerAdapter);
+        // The selection outlives the adapter, so a new view shows delete mode and the checked rows
+        showDeleteButtons(courseRecyclerAdapter.isDelete());
+
+        courseList.observe(getViewLifecycleOwner(), new Observer<PagingData<CourseListItem>>() {
+            @Override
+            public void onChanged(PagingData<CourseListItem> courses) {
+                courseRecyclerAdapter.submitData(getViewLifecycleOwner().getLifecycle(), courses);
+            }
+        });
+    }
+
+    /**
+     * Inflates the menu using the specified layout.
+     *
+     * @param menu The menu to be created
+     * @param menuInflater Inflates the menu
+     */
+    @Override
+    public void onCreateMenu(@NonNull Menu menu, @NonNull MenuInflater menuInflater) {
+        menuInflater.inflate(R.menu.term_list_menu, menu);
+    }
+
+    /**
+     * Tells the screen what to do when the user clicks a menu item.
+     *
+     * @param item The menu item that the user clicked on
+     * @return Returns true if the menu item matches a listed item and the indicated action was performed
+     */
+    @Override
+    public boolean onMenuItemSelected(@NonNull MenuItem item) {
+        int itemId = item.getItemId();
+
+        if (itemId == R.id.home_item) {
+            BackStack.goHome(this);
+            return true;
+        } else if (itemId == R.id.add_item) {
+            NavHostFragment.findNavController(this).navigate(R.id.action_courseFragment_to_addCourseFragment);
+            return true;
+        } else if (itemId == R.id.delete_item) {
+            showDeleteButtons(true);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Saves delete mode and the rows checked for deletion when the screen is being recreated.
+     *
+     * @param outState The bundle to save the state in
+     */
+    @Override
+    public void onSaveInstanceState(@NonNull Bundle outState) {
+        super.onSaveInstanceState(outState);
+        selection.saveState(outState);
+    }
+
+    /**
+     * Tells the recycler adapter to show or hide the delete checkboxes in the ViewHolders, and
+     * shows or hides the delete FAB.
+     *
+     * @param isDelete True if items are being selected for deletion
+     */
+    private void showDeleteButtons(boolean isDelete) {
+        if (isDelete)
+            binding.deleteCourseFab.setVisibility(View.VISIBLE);
+        else
+            binding.deleteCourseFab.setVisibility(View.GONE);
+
+        courseRecyclerAdapter.setDelete(isDelete);
+    }
+
+    /**
+     * Deletes the courses in the delete list from the database.
+     *
+     * <p> The rows stay checked until the delete has committed, so the user can try again if it
+     * fails. </p>
+     */
+    private void deleteCourses() {
+        //Delete courses from database in a single transaction, then hide delete buttons and reset adapter
+        AppExecutors.getInstance().whenDone(getViewLifecycleOwner(),
+                scheduleViewModel.deleteCourses(courseRecyclerAdapter.getSelectedIds().toList()),
+                done -> showDeleteButtons(false), error -> showDeleteFailedDialog());
+    }
+
+    /**
+     * Shows a message asking for confirmation to delete the selected courses.
+     */
+    private void showDeleteDialog() {
+        int deleteSize = courseRecyclerAdapter.getSelectedIds().size();
+
+        if (deleteSize == 0) {
+            showDeleteButtons(false);
+            return;
+        }
+
+        Bundle bundle = new Bundle();
+
+        if (deleteSize == 1) {
+            bundle.putString(DeleteDialog.MESSAGE, getString(R.string.delete_course));
+        } else {
+            bundle.putString(DeleteDialog.MESSAGE, getString(R.string.delete_multiple_courses));
+        }
+
+        DeleteDialog dialog = new DeleteDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "DeleteDialog");
+    }
+
+    /**
+     * Deletes the selected courses from the database when the user confirms deletion.
+     *
+     * @param dialog The dialog that was clicked on
+     */
+    @Override
+    public void onDeleteDialogPositive(DialogFragment dialog) {
+        deleteCourses();
+    }
+
+    /**
+     * Tells the screen to clear the deletion list and buttons when the user cancels deletion.
+     *
+     * @param dialog The dialog that was clicked on
+     */
+    @Override
+    public void onDeleteDialogNegative(DialogFragment dialog) {
+        showDeleteButtons(false);
+    }
+    /**
+     * Shows a message informing the user that the selected courses could not be deleted.
+     */
+    private void showDeleteFailedDialog() {
+        Bundle bundle = new Bundle();
+        bundle.putString(InformationDialog.MESSAGE, getString(R.string.delete_failed));
+
+        InformationDialog dialog = new InformationDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "InformationDialog");
+    }
+}
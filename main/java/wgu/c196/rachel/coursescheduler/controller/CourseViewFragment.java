@@ -0,0 +1,403 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.MenuProvider;
+import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.DialogFragment;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.Observer;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.navigation.fragment.NavHostFragment;
+import androidx.paging.PagingData;
+import androidx.recyclerview.widget.LinearLayoutManager;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.CompoundButton;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.adapter.AssessmentRecyclerAdapter;
+import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentCourseViewBinding;
+import wgu.c196.rachel.coursescheduler.model.Alert;
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.CourseWithInstructor;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.BackStack;
+import wgu.c196.rachel.coursescheduler.util.DeleteDialog;
+import wgu.c196.rachel.coursescheduler.util.InformationDialog;
+
+/**
+ * Controller for viewing a course.
+ *
+ * <p> This class lets the user view information about a selected course. </p>
+ */
+public class CourseViewFragment extends Fragment implements MenuProvider, DeleteDialog.DeleteDialogListener {
+    /**
+     * Argument for passing a course ID of the user selected course.
+     */
+    public static final String COURSE_ID = "course_id";
+
+    private FragmentCourseViewBinding binding;
+    private Course course;
+    private CourseInstructor instructor;
+    private ScheduleViewModel scheduleViewModel;
+    private AssessmentRecyclerAdapter assessmentRecyclerAdapter;
+
+    // The alerts set for the course, as last shown on the switches
+    private boolean hasStartAlert = false;
+    private boolean hasEndAlert = false;
+
+    /**
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_course_view, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. It checks for the course ID provided in
+     * the arguments, finds that course, and loads the information into the views. The navigation
+     * graph requires the course ID. It also loads a recycler view to view all assessments that are
+     * associated with the given course. Clicking on an assessment will allow the user to view
+     * information on that assessment. </p>
+     * @param view The root view of the layout
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        int courseId = requireArguments().getInt(COURSE_ID);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
+
+        binding.alertStartDateSwitch.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
+            @Override
+            public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+                setAlerts(buttonView, isChecked);
+            }
+        });
+
+        binding.alertEndDateSwitch.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
+            @Override
+            public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+                setAlerts(buttonView, isChecked);
+            }
+        });
+
+        // Load course information
+        // Updated whenever the course or its instructor changes
+        scheduleViewModel.getCourseWithInstructor(courseId).observe(getViewLifecycleOwner(), new Observer<CourseWithInstructor>() {
+            @Override
+            public void onChanged(CourseWithInstructor courseWithInstructor) {
+                populateCourse(courseWithInstructor);
+            }
+        });
+
+        // The alert switches show the alerts in the alert table
+        scheduleViewModel.getCourseAlerts(courseId).observe(getViewLifecycleOwner(), new Observer<List<Alert>>() {
+            @Override
+            public void onChanged(List<Alert> alerts) {
+                showAlerts(alerts);
+            }
+        });
+
+        // Load assessments recyclerview
+        binding.courseAssessmentsRecyclerview.setHasFixedSize(true);
+        binding.courseAssessmentsRecyclerview.setLayoutManager(new LinearLayoutManager(requireContext()));
+
+        assessmentRecyclerAdapter = new AssessmentRecyclerAdapter((position, row) -> {  //OnContactClickListener
+            Assessment assessment = assessmentRecyclerAdapter.peek(position);
+            if (assessment == null)
+                return;
+
+            Bundle args = new Bundle();
+            args.putInt(AssessmentViewFragment.ASSESSMENT_ID, assessment.getId());
+            NavHostFragment.findNavController(this)
+                    .navigate(R.id.action_courseViewFragment_to_assessmentViewFragment, args);
+        });
+        binding.courseAssessmentsRecyclerview.setAdapter(assessmentRecyclerAdapter);
+
+        scheduleViewModel.getPagedAssessmentsForCourse(courseId).observe(getViewLifecycleOwner(), new Observer<PagingData<Assessment>>() {
+            @Override
+            public void onChanged(PagingData<Assessment> assessments) {
+                assessmentRecyclerAdapter.submitData(getViewLifecycleOwner().getLifecycle(), assessments);
+            }
+        });
+
+        requireActivity().addMenuProvider(this, getViewLifecycleOwner(), Lifecycle.State.RESUMED);
+    }
+
+    /**
+     * Releases the views while the screen is in the back stack, detaching the adapter of
+     * assessments from the old RecyclerView.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding.courseAssessmentsRecyclerview.setAdapter(null);
+        binding = null;
+    }
+
+
+    /**
+     * Shows the information of the user selected course.
+     *
+     * <p> This method loads the course and instructor information into the views. </p>
+     * @param loaded The course and its instructor
+     */
+    private void populateCourse(CourseWithInstructor loaded) {
+        course = loaded.getCourse();
+        instructor = loaded.getInstructor();
+
+        // Populate the course information
+        binding.courseViewTitle.setText(course.getTitle());
+
+        if (course.getStatus() != null)
+            binding.statusTextview.setText(course.getStatus().toString());
+
+        if (course.getStartDate() != null)
+            binding.startDateTextview2.setText(course.getStartDate()
+                    .format(DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM)));
+
+        if (course.getEndDate() != null)
+            binding.endDateTextview2.setText(course.getEndDate()
+                    .format(DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM)));
+
+        binding.noteTextview.setText(course.getNote());
+
+        if (instructor != null) {
+            binding.instructorNameTextview.setText(instructor.getName());
+            binding.instructorNumberTextview.setText(instructor.getPhoneNumber());
+            binding.instructorEmailTextview.setText(instructor.getEmail());
+        } else {
+            binding.instructorNameTextview.setText("");
+            binding.instructorNumberTextview.setText("");
+            binding.instructorEmailTextview.setText("");
+        }
+    }
+
+    /**
+     * Inflates the menu using the specified layout.
+     *
+     * @param menu The menu to be created
+     * @param menuInflater Inflates the menu
+     */
+    @Override
+    public void onCreateMenu(@NonNull Menu menu, @NonNull MenuInflater menuInflater) {
+        menuInflater.inflate(R.menu.course_view_menu, menu);
+    }
+
+    /**
+     * Tells the screen what to do when the user clicks a menu item.
+     *
+     * @param item The menu item that the user clicked on
+     * @return Returns true if the menu item matches a listed item and the indicated action was performed
+     */
+    @Override
+    public boolean onMenuItemSelected(@NonNull MenuItem item) {
+        int id = item.getItemId();
+
+        if (id == R.id.course_home_menuItem) {
+            BackStack.goHome(this);
+            return true;
+        } else if (id == R.id.course_edit_menuItem) {
+            Bundle args = new Bundle();
+            args.putInt(AddCourseFragment.COURSE_ID, course.getId());
+            NavHostFragment.findNavController(this)
+                    .navigate(R.id.action_courseViewFragment_to_addCourseFragment, args);
+            return true;
+        } else if (id == R.id.course_delete_menuItem) {
+            showDeleteDialog();
+            return true;
+        } else if (id == R.id.course_share_menuItem) {
+            Intent intent = new Intent(Intent.ACTION_SEND);
+            intent.setType("text/plain");
+            intent.putExtra(Intent.EXTRA_TEXT, course.getNote());
+            intent.putExtra(Intent.EXTRA_SUBJECT, "Note from course " + course.getTitle());
+            startActivity(intent);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Deletes the course from the database.
+     *
+     * <p> This method deletes the user selected course from the database. Once the delete has
+     * committed, it goes back to the list of courses, or to the courses in the deleted course's
+     * term if there is no list in the back stack. If the delete fails, the user stays on the
+     * course and is told. </p>
+     */
+    private void deleteCourse() {
+        Bundle args = new Bundle();
+        args.putInt(CourseFragment.TERM_ID, course.getTermId());
+
+        AppExecutors.getInstance().whenDone(getViewLifecycleOwner(), scheduleViewModel.delete(course),
+                done -> BackStack.returnTo(this, R.id.courseFragment,
+                        R.id.action_courseViewFragment_to_courseFragment, args),
+                error -> showDeleteFailedDialog());
+    }
+
+    /**
+     * Shows a message asking for confirmation to delete the course.
+     */
+    private void showDeleteDialog() {
+        Bundle bundle = new Bundle();
+        bundle.putString(DeleteDialog.MESSAGE, getString(R.string.delete_course));
+
+        DeleteDialog dialog = new DeleteDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "DeleteDialog");
+    }
+
+    /**
+     * Tells the screen what to do when the user confirms deletion.
+     *
+     * @param dialog The dialog that was clicked on
+     */
+    @Override
+    public void onDeleteDialogPositive(DialogFragment dialog) {
+        deleteCourse();
+    }
+
+    /**
+     * Tells the screen what to do when the user cancels deletion. In this case, do nothing.
+     *
+     * @param dialog The dialog that was clicked on
+     */
+    @Override
+    public void onDeleteDialogNegative(DialogFragment dialog) {
+        // do nothing
+    }
+
+    /**
+     * Shows a message informing the user that a date is required in order to create an alert.
+     */
+    private void showNullDateDialog() {
+        Bundle bundle = new Bundle();
+        bundle.putString(InformationDialog.MESSAGE, getString(R.string.date_cannot_be_null));
+
+        InformationDialog dialog = new InformationDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "NullDateDialog");
+    }
+
+    /**
+     * Shows which alerts are set for the course.
+     *
+     * <p> The switches are set from the alert table. Setting a switch calls setAlerts(), which
+     * does nothing when the switch already matches the table. </p>
+     * @param alerts The course's alerts
+     */
+    private void showAlerts(List<Alert> alerts) {
+        hasStartAlert = false;
+        hasEndAlert = false;
+        for (Alert alert : alerts) {
+            if (alert.getKind() == Alert.KIND_COURSE_START)
+                hasStartAlert = true;
+            else if (alert.getKind() == Alert.KIND_COURSE_END)
+                hasEndAlert = true;
+        }
+
+        binding.alertStartDateSwitch.setChecked(hasStartAlert);
+        binding.alertEndDateSwitch.setChecked(hasEndAlert);
+    }
+
+    /**
+     * Sets or cancels an alert depending on a user toggled switch.
+     *
+     * <p> A user can choose to set a reminder about the start or end date of the course. A start
+     * or end date is required in order to set their alerts. This method will determine which
+     * switch was clicked and whether to set up or cancel an alert. The alert is saved in the
+     * alert table, which schedules it. </p>
+     * @param buttonView The switch that was clicked
+     * @param isChecked True if the switch was clicked on, false if the switch was clicked off
+     */
+    private void setAlerts(CompoundButton buttonView, boolean isChecked) {
+        boolean isStart = buttonView.getId() == R.id.alert_start_date_switch;
+
+        // The switch was set to match the alert table
+        if (isChecked == (isStart ? hasStartAlert : hasEndAlert))
+            return;
+
+        int kind = isStart ? Alert.KIND_COURSE_START : Alert.KIND_COURSE_END;
+
+        if (!isChecked) {
+            setHasAlert(isStart, false);
+            scheduleViewModel.cancelAlert(kind, course.getId());
+            return;
+        }
+
+        LocalDate date = isStart ? course.getStartDate() : course.getEndDate();
+        if (date == null) {
+            showNullDateDialog();
+            buttonView.setChecked(false);
+            return;
+        }
+
+        String message = "Course " + course.getTitle() +
+                (isStart ? " is starting today" : " is ending today");
+
+        // AlarmManager uses time in Milliseconds
+        Instant dateInstant = date.atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+        setHasAlert(isStart, true);
+        scheduleViewModel.setAlert(new Alert(kind, course.getId(), dateInstant.toEpochMilli(), message));
+    }
+
+    /**
+     * Records a switch change before the alert table catches up, so switching it back straight
+     * away is not mistaken for the table being shown.
+     *
+     * @param isStart True for the start date alert, false for the end date alert
+     * @param hasAlert True if the alert is set
+     */
+    private void setHasAlert(boolean isStart, boolean hasAlert) {
+        if (isStart)
+            hasStartAlert = hasAlert;
+        else
+            hasEndAlert = hasAlert;
+    }
+
+    /**
+     * Shows a message informing the user that the course could not be deleted.
+     */
+    private void showDeleteFailedDialog() {
+        Bundle bundle = new Bundle();
+        bundle.putString(InformationDialog.MESSAGE, getString(R.string.delete_failed));
+
+        InformationDialog dialog = new InformationDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "InformationDialog");
+    }
+}
\ No newline at end of file
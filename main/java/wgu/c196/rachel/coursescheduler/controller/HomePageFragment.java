@@ -0,0 +1,214 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.FileProvider;
+import androidx.core.view.MenuProvider;
+import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.navigation.NavController;
+import androidx.navigation.fragment.NavHostFragment;
+
+import android.content.Intent;
+import android.net.Uri;
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.io.File;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentHomePageBinding;
+import wgu.c196.rachel.coursescheduler.util.DigestWorker;
+import wgu.c196.rachel.coursescheduler.util.InformationDialog;
+import wgu.c196.rachel.coursescheduler.util.StartupTrace;
+
+/**
+ * The home page for Course Scheduler.
+ *
+ * <p> This class acts as the home page. It lets the user select to view all terms, courses,
+ * assessments, or course instructors, or to search all of them. The menu also turns the daily
+ * digest of notifications on and off, and exports the schedule as a calendar file. </p>
+ */
+public class HomePageFragment extends Fragment implements MenuProvider {
+    // Where the calendar export is written, in the cache directory named in res/xml/file_paths
+    private static final String EXPORT_DIRECTORY = "exports";
+    private static final String EXPORT_FILE = "course_schedule.ics";
+
+    private FragmentHomePageBinding binding;
+    private ScheduleViewModel scheduleViewModel;
+
+    /**
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_home_page, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. It sets up the onClickListeners for
+     * the buttons. </p>
+     * @param view The root view of the layout
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
+        NavController navController = NavHostFragment.findNavController(this);
+
+        binding.viewTermsButton.setOnClickListener(button -> {
+            navController.navigate(R.id.action_homePageFragment_to_termsFragment);
+        });
+
+        binding.viewCoursesButton.setOnClickListener(button -> {
+            navController.navigate(R.id.action_homePageFragment_to_courseFragment);
+        });
+
+        binding.viewAssessmentsButton.setOnClickListener(button -> {
+            navController.navigate(R.id.action_homePageFragment_to_assessmentsFragment);
+        });
+
+        binding.viewInstructorsButton.setOnClickListener(button -> {
+            navController.navigate(R.id.action_homePageFragment_to_instructorsFragment);
+        });
+
+        // The export's result is kept by the view model, so one that finishes while the screen
+        // is recreated is still shown
+        scheduleViewModel.getExportState().observe(getViewLifecycleOwner(), this::onExportState);
+
+        requireActivity().addMenuProvider(this, getViewLifecycleOwner(), Lifecycle.State.RESUMED);
+
+        StartupTrace.mark(StartupTrace.HOME_CREATED);
+    }
+
+    /**
+     * Releases the views, which are inflated again when the user returns to the home page.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding = null;
+    }
+
+    /**
+     * Inflates the menu using the specified layout.
+     *
+     * @param menu The menu to be created
+     * @param menuInflater Inflates the menu
+     */
+    @Override
+    public void onCreateMenu(@NonNull Menu menu, @NonNull MenuInflater menuInflater) {
+        menuInflater.inflate(R.menu.home_page_menu, menu);
+        menu.findItem(R.id.digest_item).setChecked(DigestWorker.isEnabled(requireContext()));
+    }
+
+    /**
+     * Tells the screen what to do when the user clicks a menu item.
+     *
+     * @param item The menu item that the user clicked on
+     * @return Returns true if the menu item matches a listed item and the indicated action was performed
+     */
+    @Override
+    public boolean onMenuItemSelected(@NonNull MenuItem item) {
+        if (item.getItemId() == R.id.search_item) {
+            NavHostFragment.findNavController(this).navigate(R.id.action_homePageFragment_to_searchFragment);
+            return true;
+        }
+
+        if (item.getItemId() == R.id.agenda_item) {
+            NavHostFragment.findNavController(this).navigate(R.id.action_homePageFragment_to_agendaFragment);
+            return true;
+        }
+
+        if (item.getItemId() == R.id.export_item) {
+            exportCalendar();
+            return true;
+        }
+
+        if (item.getItemId() == R.id.digest_item) {
+            boolean enabled = !item.isChecked();
+            item.setChecked(enabled);
+            DigestWorker.setEnabled(requireContext(), enabled);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Exports every dated term, course, and assessment as an iCalendar file.
+     *
+     * <p> The file is written in the background, to the app's cache where FileProvider can share
+     * it. It is replaced each time, so only the latest export is kept. onExportState() shares it
+     * once it is written. </p>
+     */
+    private void exportCalendar() {
+        scheduleViewModel.exportCalendar(getExportFile());
+    }
+
+    /**
+     * Shares the calendar once the export is done, or tells the user that it failed.
+     *
+     * @param state The state of the export
+     */
+    private void onExportState(ScheduleViewModel.ExportState state) {
+        if (state == ScheduleViewModel.ExportState.DONE) {
+            scheduleViewModel.onExportHandled();
+            shareCalendar(getExportFile());
+        } else if (state == ScheduleViewModel.ExportState.FAILED) {
+            scheduleViewModel.onExportHandled();
+            showExportFailedDialog();
+        }
+    }
+
+    private File getExportFile() {
+        return new File(new File(requireContext().getCacheDir(), EXPORT_DIRECTORY), EXPORT_FILE);
+    }
+
+    /**
+     * Lets the user pick an app to send the exported calendar to.
+     *
+     * @param file The exported calendar
+     */
+    private void shareCalendar(File file) {
+        Uri uri = FileProvider.getUriForFile(requireContext(),
+                requireContext().getPackageName() + ".fileprovider", file);
+
+        Intent intent = new Intent(Intent.ACTION_SEND);
+        intent.setType("text/calendar");
+        intent.putExtra(Intent.EXTRA_STREAM, uri);
+        intent.addFlags(Intent.FLAG_GRANT_READ_URI_PERMISSION);
+        startActivity(Intent.createChooser(intent, getString(R.string.export_calendar)));
+    }
+
+    /**
+     * Shows a message informing the user that the calendar could not be exported.
+     */
+    private void showExportFailedDialog() {
+        Bundle bundle = new Bundle();
+        bundle.putString(InformationDialog.MESSAGE, getString(R.string.export_failed));
+
+        InformationDialog informationDialog = new InformationDialog();
+        informationDialog.setArguments(bundle);
+        informationDialog.show(getChildFragmentManager(), "InformationDialog");
+    }
+}
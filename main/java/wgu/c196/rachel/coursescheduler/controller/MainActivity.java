@@ -0,0 +1,50 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.navigation.NavController;
+import androidx.navigation.fragment.NavHostFragment;
+import androidx.navigation.ui.NavigationUI;
+
+import android.os.Bundle;
+
+import wgu.c196.rachel.coursescheduler.R;
+
+/**
+ * The only activity of Course Scheduler.
+ *
+ * <p> Every screen is a fragment in the navigation graph, res/navigation/nav_graph.xml, which
+ * this activity shows in a NavHostFragment. Moving between screens replaces the fragment instead
+ * of starting another activity, see BackStack. The action bar shows the label of the current
+ * screen, and an up button on every screen but the home page. </p>
+ */
+public class MainActivity extends AppCompatActivity {
+    private NavController navController;
+
+    /**
+     * Method that runs when the activity is created.
+     *
+     * <p> This method sets up the NavHostFragment, which shows the home page the first time and
+     * restores the back stack of screens when the activity is recreated. </p>
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_main);
+
+        NavHostFragment navHostFragment = (NavHostFragment) getSupportFragmentManager()
+                .findFragmentById(R.id.nav_host_fragment);
+        navController = navHostFragment.getNavController();
+        NavigationUI.setupActionBarWithNavController(this, navController);
+    }
+
+    /**
+     * Goes back one screen when the user clicks the up button.
+     *
+     * @return Returns true if a screen was popped
+     */
+    @Override
+    public boolean onSupportNavigateUp() {
+        return navController.navigateUp() || super.onSupportNavigateUp();
+    }
+}
@@ -0,0 +1,138 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.navigation.fragment.NavHostFragment;
+import androidx.recyclerview.widget.LinearLayoutManager;
+
+import android.os.Bundle;
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.adapter.SearchRecyclerAdapter;
+import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentSearchBinding;
+import wgu.c196.rachel.coursescheduler.model.SearchResult;
+
+/**
+ * Controller for searching the whole schedule.
+ *
+ * <p> This class lets the user search the terms, courses, course notes, assessments, and course
+ * instructors from one place. Results update as the user types, and clicking a result opens
+ * the same screen the matching row would open from its own list. </p>
+ */
+public class SearchFragment extends Fragment {
+    private FragmentSearchBinding binding;
+    private ScheduleViewModel scheduleViewModel;
+    private SearchRecyclerAdapter recyclerAdapter;
+
+    /**
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_search, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. Each change to the search text is
+     * passed to the view model, which runs the search once the user stops typing. </p>
+     * @param view The root view of the layout
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
+
+        // Set up recycler adapter
+        binding.searchRecyclerview.setHasFixedSize(true);
+        binding.searchRecyclerview.setLayoutManager(new LinearLayoutManager(requireContext()));
+
+        recyclerAdapter = new SearchRecyclerAdapter((position, row) -> {
+            // OnContactClickListener
+            openResult(recyclerAdapter.getCurrentList().get(position));
+        });
+        binding.searchRecyclerview.setAdapter(recyclerAdapter);
+
+        scheduleViewModel.getSearchResults().observe(getViewLifecycleOwner(), results -> {
+            recyclerAdapter.submitList(results);
+        });
+
+        binding.searchEdittext.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                scheduleViewModel.setSearchQuery(s.toString());
+            }
+        });
+    }
+
+    /**
+     * Releases the views while a result is open. The adapter is detached so it does not keep
+     * the old RecyclerView.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding.searchRecyclerview.setAdapter(null);
+        binding = null;
+    }
+
+    /**
+     * Opens the screen for a search result.
+     *
+     * <p> A term opens its list of courses, a course or assessment opens its view, and a course
+     * instructor opens the screen for editing the instructor. </p>
+     * @param result The search result that was clicked on
+     */
+    private void openResult(SearchResult result) {
+        Bundle args = new Bundle();
+        int actionId;
+
+        switch (result.getKind()) {
+            case SearchResult.KIND_COURSE:
+                actionId = R.id.action_searchFragment_to_courseViewFragment;
+                args.putInt(CourseViewFragment.COURSE_ID, result.getId());
+                break;
+            case SearchResult.KIND_ASSESSMENT:
+                actionId = R.id.action_searchFragment_to_assessmentViewFragment;
+                args.putInt(AssessmentViewFragment.ASSESSMENT_ID, result.getId());
+                break;
+            case SearchResult.KIND_INSTRUCTOR:
+                actionId = R.id.action_searchFragment_to_addCourseInstructorFragment;
+                args.putInt(AddCourseInstructorFragment.INSTRUCTOR_ID, result.getId());
+                break;
+            default:
+                actionId = R.id.action_searchFragment_to_courseFragment;
+                args.putInt(CourseFragment.TERM_ID, result.getId());
+                break;
+        }
+
+        NavHostFragment.findNavController(this).navigate(actionId, args);
+    }
+}
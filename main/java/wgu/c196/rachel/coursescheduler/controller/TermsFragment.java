@@ -0,0 +1,395 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.MenuProvider;
+import androidx.databinding.DataBindingUtil;
+import androidx.fragment.app.DialogFragment;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.Observer;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.navigation.fragment.NavHostFragment;
+import androidx.paging.PagingData;
+import androidx.recyclerview.widget.LinearLayoutManager;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.adapter.DeleteSelection;
+import wgu.c196.rachel.coursescheduler.adapter.TermRecyclerAdapter;
+import wgu.c196.rachel.coursescheduler.database.ScheduleViewModel;
+import wgu.c196.rachel.coursescheduler.databinding.FragmentTermsBinding;
+import wgu.c196.rachel.coursescheduler.model.Term;
+import wgu.c196.rachel.coursescheduler.model.TermWithCourses;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.BackStack;
+import wgu.c196.rachel.coursescheduler.util.DeleteDialog;
+import wgu.c196.rachel.coursescheduler.util.InformationDialog;
+import wgu.c196.rachel.coursescheduler.util.StartupTrace;
+
+/**
+ * Controller for viewing all terms.
+ *
+ * <p> This class lets the user view information about the terms in the database. </p>
+ */
+public class TermsFragment extends Fragment implements MenuProvider, DeleteDialog.DeleteDialogListener {
+    /**
+     * Argument used by AddTermFragment to pass the term's ID if editing a term.
+     */
+    public static final String TERM_ID = "term_id";
+
+    private FragmentTermsBinding binding;
+    private ScheduleViewModel scheduleViewModel;
+    private TermRecyclerAdapter termRecyclerAdapter;
+    // The rows checked for deletion, kept while the view is destroyed in the back stack
+    private final DeleteSelection selection = new DeleteSelection();
+    private static final String ASSOCIATED_COURSES = "associated courses";
+    // Arguments of the delete dialogs. They are restored with the dialog, so a confirmation after
+    // the screen is recreated still knows which terms it is for.
+    private static final String DELETE_TERM_IDS = "delete term ids";
+    private static final String BLOCKED_TERM_ID = "blocked term id";
+
+    /**
+     * Restores delete mode and the rows checked for deletion if the screen was recreated.
+     *
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        selection.restoreState(savedInstanceState);
+    }
+
+    /**
+     * Inflates the layout of the screen.
+     *
+     * @param inflater Inflates the layout
+     * @param container The view of the NavHostFragment the layout is shown in
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     * @return The root view of the layout
+     */
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        binding = DataBindingUtil.inflate(inflater, R.layout.fragment_terms, container, false);
+        return binding.getRoot();
+    }
+
+    /**
+     * Method that runs when the view is created.
+     *
+     * <p> This method initializes the views in the layout. It gets a list of all terms in the
+     * database and loads the Recycler Adapter with the list. Clicking on a term will bring the
+     * user to a list of that term's courses. </p>
+     * @param view The root view of the layout
+     * @param savedInstanceState contains data supplied to onSaveInstanceState() or null
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        scheduleViewModel = new ViewModelProvider(this).get(ScheduleViewModel.class);
+
+        binding.deleteFab.setVisibility(View.GONE);
+        binding.termRecyclerView.setHasFixedSize(true);
+        binding.termRecyclerView.setLayoutManager(new LinearLayoutManager(requireContext()));
+
+        binding.deleteFab.setOnClickListener(button -> deleteTerms());
+
+        termRecyclerAdapter = new TermRecyclerAdapter((position, row) -> {  // onClick listener
+            Term term = termRecyclerAdapter.peek(position);
+            if (term == null)
+                return;
+
+            if (termRecyclerAdapter.isDelete()) {
+                termRecyclerAdapter.toggleSelected(position);
+            } else {
+                showCourses(term.getId());
+            }
+        }, selection);
+        binding.termRecyclerView.setAdapter(termRecyclerAdapter);
+        // The selection outlives the adapter, so a new view shows delete mode and the checked rows
+        showDeleteButtons(termRecyclerAdapter.isDelete());
+
+        // The adapter is kept while the view is, and each new page of terms is diffed into it
+        scheduleViewModel.getPagedTerms().observe(getViewLifecycleOwner(), new Observer<PagingData<Term>>() {
+            @Override
+            public void onChanged(PagingData<Term> terms) {
+                termRecyclerAdapter.submitData(getViewLifecycleOwner().getLifecycle(), terms);
+            }
+        });
+
+        requireActivity().addMenuProvider(this, getViewLifecycleOwner(), Lifecycle.State.RESUMED);
+
+        StartupTrace.mark(StartupTrace.TERMS_CREATED);
+    }
+
+    /**
+     * Releases the views while the screen is in the back stack. The adapter is detached so it
+     * does not keep the old RecyclerView.
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        binding.termRecyclerView.setAdapter(null);
+        binding = null;
+    }
+
+    /**
+     * Inflates the menu using the specified layout.
+     *
+     * @param menu The menu to be created
+     * @param menuInflater Inflates the menu
+     */
+    @Override
+    public void onCreateMenu(@NonNull Menu menu, @NonNull MenuInflater menuInflater) {
+        menuInflater.inflate(R.menu.term_list_menu, menu);
+    }
+
+    /**
+     * Tells the screen what to do when the user clicks a menu item.
+     *
+     * @param item The menu item that the user clicked on
+     * @return Returns true if the menu item matches a listed item and the indicated action was performed
+     */
+    @Override
+    public boolean onMenuItemSelected(@NonNull MenuItem item) {
+        int itemId = item.getItemId();
+        if (itemId == R.id.home_item) {
+            BackStack.goHome(this);
+            return true;
+        } else if (itemId == R.id.add_item) {
+            NavHostFragment.findNavController(this).navigate(R.id.action_termsFragment_to_addTermFragment);
+            return true;
+        } else if (itemId == R.id.delete_item) {
+            showDeleteButtons(true);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Shows the list of courses of a term.
+     *
+     * @param termId The ID of the term
+     */
+    private void showCourses(int termId) {
+        Bundle args = new Bundle();
+        args.putInt(CourseFragment.TERM_ID, termId);
+        NavHostFragment.findNavController(this).navigate(R.id.action_termsFragment_to_courseFragment, args);
+    }
+
+    /**
+     *  Checks the terms selected for deletion for associated courses.
+     *
+     *  <p> This method is called when the delete FAB is clicked. It loads every selected term
+     *  with the titles of its courses in one query on a background thread, then hands the result
+     *  to the UI thread. It shows the correct dialog for if there are associated courses or not. </p>
+     */
+    private void deleteTerms() {
+        // Check that there is a term selected
+        if (termRecyclerAdapter.getSelectedIds().isEmpty()) {
+            clearDelete();
+            return;
+        }
+
+        List<Integer> termIds = termRecyclerAdapter.getSelectedIds().toList();
+
+        AppExecutors.getInstance().load(getViewLifecycleOwner(), () -> scheduleViewModel.getTermsWithCourses(termIds), plan -> {
+            List<TermWithCourses> blocked = new ArrayList<>();
+            for (TermWithCourses termWithCourses : plan) {
+                if (termWithCourses.hasCourses())
+                    blocked.add(termWithCourses);
+            }
+
+            if (blocked.size() == 0) {
+                showDeleteDialog(plan);
+            } else {
+                // There are associated courses that need to be deleted first
+                showDeleteDialogCourses(blocked);
+            }
+        });
+    }
+
+    /**
+     * Saves delete mode and the rows checked for deletion when the screen is being recreated.
+     *
+     * @param outState The bundle to save the state in
+     */
+    @Override
+    public void onSaveInstanceState(@NonNull Bundle outState) {
+        super.onSaveInstanceState(outState);
+        selection.saveState(outState);
+    }
+
+    /**
+     * Tells the recycler adapter to show or hide the delete checkboxes in the ViewHolders, and
+     * shows or hides the delete FAB.
+     *
+     * @param isDelete True if items are being selected for deletion
+     */
+    private void showDeleteButtons(boolean isDelete) {
+        if (isDelete) {
+            binding.deleteFab.setVisibility(View.VISIBLE);
+        } else {
+            binding.deleteFab.setVisibility(View.GONE);
+        }
+        termRecyclerAdapter.setDelete(isDelete);
+    }
+
+    /**
+     * Shows a message asking for confirmation to delete the selected terms.
+     *
+     * @param deletePlan The selected terms, none of which have courses
+     */
+    private void showDeleteDialog(List<TermWithCourses> deletePlan) {
+        StringBuilder message = new StringBuilder();
+        Bundle bundle = new Bundle();
+
+        if (deletePlan.size() == 1) {
+            message.append(getString(R.string.delete_term, deletePlan.get(0).getTerm().getTitle()));
+        } else {
+            message.append(getString(R.string.delete_multiple_terms));
+
+            for (int i = 0; i < deletePlan.size(); i++) {
+                message.append(deletePlan.get(i).getTerm().getTitle());
+
+                if (i == deletePlan.size() - 1)
+                    message.append("?");
+                else
+                    message.append(", ");
+            }
+        }
+
+        bundle.putString(DeleteDialog.MESSAGE, message.toString());
+
+        int[] termIds = new int[deletePlan.size()];
+        for (int i = 0; i < termIds.length; i++)
+            termIds[i] = deletePlan.get(i).getTerm().getId();
+        bundle.putIntArray(DELETE_TERM_IDS, termIds);
+
+        DeleteDialog dialog = new DeleteDialog();
+        dialog.setArguments(bundle);
+        dialog.showNow(getChildFragmentManager(), "DeleteDialog_term");
+    }
+
+    /**
+     * Informs the user they cannot delete a term with associated courses.
+     *
+     * <p> Shows a message informing the user that there are courses associated with at least one
+     * of the terms they selected for deletion. A term cannot be deleted if it has associated
+     * courses. Confirming the deletion will bring the user to a list of courses for the first
+     * term that has associated courses which they can then delete. </p>
+     * @param blockedTerms The selected terms that have courses, and so cannot be deleted yet
+     */
+    private void showDeleteDialogCourses(List<TermWithCourses> blockedTerms) {
+        StringBuilder message = new StringBuilder();
+
+        int size = blockedTerms.size();
+        if (size == 1) {
+            message.append(": ").append(blockedTerms.get(0).getTerm().getTitle());
+        } else {
+            message.append("s: ");
+            for (int i = 0; i < size; i++) {
+                message.append(blockedTerms.get(i).getTerm().getTitle());
+
+                if (i < size - 1)
+                    message.append(", ");
+            }
+        }
+
+        message = new StringBuilder(getString(R.string.delete_term_with_course, message));
+
+        List<String> courseTitles = new ArrayList<>();
+        for (TermWithCourses termWithCourses : blockedTerms)
+            courseTitles.addAll(termWithCourses.getCourseTitles());
+
+        for (int i = 0; i < courseTitles.size(); i++) {
+            message.append(courseTitles.get(i));
+
+            if (i == (courseTitles.size() - 1)) {
+                message.append(".");
+            } else {
+                message.append(", ");
+            }
+        }
+
+        Bundle bundle = new Bundle();
+        bundle.putString(DeleteDialog.MESSAGE, message.toString());
+        bundle.putInt(BLOCKED_TERM_ID, blockedTerms.get(0).getTerm().getId());
+
+        DeleteDialog dialog = new DeleteDialog();
+        dialog.setArguments(bundle);
+        dialog.showNow(getChildFragmentManager(), ASSOCIATED_COURSES);
+    }
+
+    /**
+     * Deletes the selected terms from the database if there are no associated courses.
+     *
+     * <p> This method checks which dialog was confirmed. If it was the one about associated
+     * courses, it moves the user to the list of courses for the first selected term with
+     * associated courses. Otherwise, it deletes the terms named in the dialog from the
+     * database. </p>
+     * @param dialog The dialog that was clicked on
+     */
+    @Override
+    public void onDeleteDialogPositive(DialogFragment dialog) {
+        Bundle args = dialog.requireArguments();
+
+        if (ASSOCIATED_COURSES.equals(dialog.getTag())) {
+            // Move to view courses for first term with courses
+            int termId = args.getInt(BLOCKED_TERM_ID);
+
+            clearDelete();
+
+            showCourses(termId);
+        } else {
+            // There are no associated courses
+            List<Integer> termIds = new ArrayList<>();
+            for (int termId : args.getIntArray(DELETE_TERM_IDS))
+                termIds.add(termId);
+            // The rows stay checked until the delete has committed, so the user can try again
+            AppExecutors.getInstance().whenDone(getViewLifecycleOwner(), scheduleViewModel.deleteTerms(termIds),
+                    done -> clearDelete(), error -> showDeleteFailedDialog());
+        }
+    }
+
+    /**
+     * Tells the screen to clear the deletion list and buttons when the user cancels deletion.
+     *
+     * @param dialog The dialog that was clicked on
+     */
+    @Override
+    public void onDeleteDialogNegative(DialogFragment dialog) {
+        clearDelete();
+    }
+
+    /**
+     * Clears the selection and hides the deletion buttons
+     */
+    private void clearDelete() {
+        showDeleteButtons(false);
+    }
+    /**
+     * Shows a message informing the user that the selected terms could not be deleted.
+     */
+    private void showDeleteFailedDialog() {
+        Bundle bundle = new Bundle();
+        bundle.putString(InformationDialog.MESSAGE, getString(R.string.delete_failed));
+
+        InformationDialog dialog = new InformationDialog();
+        dialog.setArguments(bundle);
+        dialog.show(getChildFragmentManager(), "InformationDialog");
+    }
+}
@@ -0,0 +1,44 @@
+package wgu.c196.rachel.coursescheduler.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.model.AgendaItem;
+
+/**
+ * Sets up the agenda query over the start and end dates of the course and assessment tables.
+ */
+@Dao
+public interface AgendaDao {
+
+    // Each date column is read through its own index, in (date, id) order, starting after the
+    // last item of the previous page and stopping at :until, and at most :limit rows are taken
+    // from each. Only those few rows are merged and sorted, so a page costs four index range
+    // scans whatever the size of the tables. The first page passes the first day with
+    // afterType = -1, so every item on that day is included.
+    @Query("SELECT * FROM (SELECT 0 AS type, id, title, start_date AS date FROM course_table " +
+            "WHERE start_date >= :afterDate AND start_date < :until " +
+            "AND (start_date > :afterDate OR :afterType < 0 OR (:afterType = 0 AND id > :afterId)) " +
+            "ORDER BY start_date, id LIMIT :limit) " +
+            "UNION ALL " +
+            "SELECT * FROM (SELECT 1, id, title, end_date FROM course_table " +
+            "WHERE end_date >= :afterDate AND end_date < :until " +
+            "AND (end_date > :afterDate OR :afterType < 1 OR (:afterType = 1 AND id > :afterId)) " +
+            "ORDER BY end_date, id LIMIT :limit) " +
+            "UNION ALL " +
+            "SELECT * FROM (SELECT 2, id, title, start_date FROM assessment_table " +
+            "WHERE start_date >= :afterDate AND start_date < :until " +
+            "AND (start_date > :afterDate OR :afterType < 2 OR (:afterType = 2 AND id > :afterId)) " +
+            "ORDER BY start_date, id LIMIT :limit) " +
+            "UNION ALL " +
+            "SELECT * FROM (SELECT 3, id, title, end_date FROM assessment_table " +
+            "WHERE end_date >= :afterDate AND end_date < :until " +
+            "AND (end_date > :afterDate OR :afterType < 3 OR (:afterType = 3 AND id > :afterId)) " +
+            "ORDER BY end_date, id LIMIT :limit) " +
+            "ORDER BY date, type, id LIMIT :limit")
+    List<AgendaItem> getAgendaPage(LocalDate afterDate, int afterType, int afterId,
+                                   LocalDate until, int limit);
+}
@@ -0,0 +1,49 @@
+package wgu.c196.rachel.coursescheduler.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.model.Alert;
+
+/**
+ * Sets up CRUD operations for the Alert table in the database.
+ */
+@Dao
+public interface AlertDao {
+
+    // Setting an alert that already exists for the same course or assessment replaces it
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    long insert(Alert alert);
+
+    @Query("DELETE FROM alert_table WHERE kind = :kind AND target_id = :targetId")
+    void delete(int kind, int targetId);
+
+    @Query("SELECT * FROM alert_table ORDER BY trigger_at LIMIT 1")
+    Alert getNextAlert();
+
+    @Query("SELECT * FROM alert_table WHERE trigger_at <= :now ORDER BY trigger_at")
+    List<Alert> getDueAlerts(long now);
+
+    @Query("DELETE FROM alert_table WHERE trigger_at <= :now")
+    void deleteDueAlerts(long now);
+
+    // Alerts whose course or assessment was deleted, including by a cascade
+    @Query("DELETE FROM alert_table WHERE (kind IN (" + Alert.KIND_COURSE_START + ", " +
+            Alert.KIND_COURSE_END + ") AND target_id NOT IN (SELECT id FROM course_table)) " +
+            "OR (kind IN (" + Alert.KIND_ASSESSMENT_START + ", " + Alert.KIND_ASSESSMENT_END + ") " +
+            "AND target_id NOT IN (SELECT id FROM assessment_table))")
+    void deleteOrphanedAlerts();
+
+    @Query("SELECT * FROM alert_table WHERE target_id = :courseId AND kind IN (" +
+            Alert.KIND_COURSE_START + ", " + Alert.KIND_COURSE_END + ")")
+    LiveData<List<Alert>> getCourseAlerts(int courseId);
+
+    @Query("SELECT * FROM alert_table WHERE target_id = :assessmentId AND kind IN (" +
+            Alert.KIND_ASSESSMENT_START + ", " + Alert.KIND_ASSESSMENT_END + ")")
+    LiveData<List<Alert>> getAssessmentAlerts(int assessmentId);
+}
@@ -1,12 +1,15 @@
 package wgu.c196.rachel.coursescheduler.dao;
 
 import androidx.lifecycle.LiveData;
+import androidx.paging.PagingSource;
 import androidx.room.Dao;
 import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
+import androidx.room.Upsert;
 
 import java.util.List;
 
@@ -19,7 +22,11 @@ import wgu.c196.rachel.coursescheduler.model.Assessment;
 public interface AssessmentDao {
 
     @Insert(onConflict = OnConflictStrategy.IGNORE)
-    void insert(Assessment assessment);
+    long insert(Assessment assessment);
+
+    // Inserts the row, or updates it if its ID is taken. Returns -1 when it updates.
+    @Upsert
+    long upsert(Assessment assessment);
 
     @Update
     void update(Assessment assessment);
@@ -30,12 +37,30 @@ public interface AssessmentDao {
     @Query("DELETE FROM assessment_table")
     void deleteAll();
 
+    @Transaction
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    long[] insertAll(List<Assessment> assessments);
+
+    @Transaction
+    @Update
+    void updateAll(List<Assessment> assessments);
+
+    @Transaction
+    @Query("DELETE FROM assessment_table WHERE id IN (:assessmentIds)")
+    void deleteAll(List<Integer> assessmentIds);
+
     @Query("SELECT * FROM assessment_table")
     LiveData<List<Assessment>> getAllAssessments();
 
     @Query("SELECT * FROM assessment_table WHERE course_id = :courseId")
     LiveData<List<Assessment>> getAssessmentsForCourse(int courseId);
 
+    @Query("SELECT * FROM assessment_table ORDER BY id")
+    PagingSource<Integer, Assessment> getPagedAssessments();
+
+    @Query("SELECT * FROM assessment_table WHERE course_id = :courseId ORDER BY id")
+    PagingSource<Integer, Assessment> getPagedAssessmentsForCourse(int courseId);
+
     @Query("SELECT * FROM assessment_table WHERE id = :assessmentId")
     LiveData<Assessment> getAssessmentFromId(int assessmentId);
 
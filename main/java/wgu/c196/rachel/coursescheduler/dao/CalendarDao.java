@@ -0,0 +1,30 @@
+package wgu.c196.rachel.coursescheduler.dao;
+
+import android.database.Cursor;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+
+/**
+ * Sets up the query that reads every dated term, course, and assessment for a calendar export.
+ */
+@Dao
+public interface CalendarDao {
+
+    // The kinds of event, in the kind column
+    int KIND_TERM = 0;
+    int KIND_COURSE = 1;
+    int KIND_ASSESSMENT = 2;
+
+    // Returns a Cursor instead of a list so the rows can be written out as they are read, however
+    // many there are. The caller must close it. Rows without a start date have no day to show on.
+    @Query("SELECT " + KIND_TERM + " AS kind, id, title, start_date, end_date FROM term_table " +
+            "WHERE start_date IS NOT NULL " +
+            "UNION ALL " +
+            "SELECT " + KIND_COURSE + ", id, title, start_date, end_date FROM course_table " +
+            "WHERE start_date IS NOT NULL " +
+            "UNION ALL " +
+            "SELECT " + KIND_ASSESSMENT + ", id, title, start_date, end_date FROM assessment_table " +
+            "WHERE start_date IS NOT NULL")
+    Cursor getEvents();
+}
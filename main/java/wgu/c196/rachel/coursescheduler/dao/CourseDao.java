@@ -1,16 +1,20 @@
 package wgu.c196.rachel.coursescheduler.dao;
 
 import androidx.lifecycle.LiveData;
+import androidx.paging.PagingSource;
 import androidx.room.Dao;
 import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
+import androidx.room.Upsert;
 
 import java.util.List;
 
 import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.model.CourseListItem;
 
 /**
  * Sets up CRUD operations for the Course table in the database.
@@ -19,7 +23,11 @@ import wgu.c196.rachel.coursescheduler.model.Course;
 public interface CourseDao {
 
     @Insert(onConflict = OnConflictStrategy.IGNORE)
-    void insert(Course course);
+    long insert(Course course);
+
+    // Inserts the row, or updates it if its ID is taken. Returns -1 when it updates.
+    @Upsert
+    long upsert(Course course);
 
     @Update
     void update(Course course);
@@ -30,6 +38,18 @@ public interface CourseDao {
     @Query("DELETE FROM course_table")
     void deleteAll();
 
+    @Transaction
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    long[] insertAll(List<Course> courses);
+
+    @Transaction
+    @Update
+    void updateAll(List<Course> courses);
+
+    @Transaction
+    @Query("DELETE FROM course_table WHERE id IN (:courseIds)")
+    void deleteAll(List<Integer> courseIds);
+
     @Query("SELECT * FROM course_table")
     LiveData<List<Course>> getAllCourses();
 
@@ -39,6 +59,22 @@ public interface CourseDao {
     @Query("SELECT * FROM course_table WHERE term_id = :termId")
     List<Course> getCoursesForTermNotLive(int termId);
 
+    // The course list only shows each course's title, status, and instructor name, so it loads
+    // those columns with the instructor joined in instead of full Courses and CourseInstructors.
+    @Query("SELECT course_table.id, course_table.title, course_table.status, " +
+            "course_instructor_table.name AS instructor_name FROM course_table " +
+            "LEFT JOIN course_instructor_table " +
+            "ON course_instructor_table.id = course_table.course_instructor " +
+            "ORDER BY course_table.id")
+    PagingSource<Integer, CourseListItem> getPagedCourses();
+
+    @Query("SELECT course_table.id, course_table.title, course_table.status, " +
+            "course_instructor_table.name AS instructor_name FROM course_table " +
+            "LEFT JOIN course_instructor_table " +
+            "ON course_instructor_table.id = course_table.course_instructor " +
+            "WHERE course_table.term_id = :termId ORDER BY course_table.id")
+    PagingSource<Integer, CourseListItem> getPagedCoursesForTerm(int termId);
+
     @Query("SELECT * FROM course_table WHERE course_instructor = :instructorId")
     LiveData<List<Course>> getCoursesForInstructor(int instructorId);
 
@@ -1,12 +1,15 @@
 package wgu.c196.rachel.coursescheduler.dao;
 
 import androidx.lifecycle.LiveData;
+import androidx.paging.PagingSource;
 import androidx.room.Dao;
 import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
+import androidx.room.Upsert;
 
 import java.util.List;
 
@@ -19,7 +22,11 @@ import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
 public interface CourseInstructorDao {
 
     @Insert(onConflict = OnConflictStrategy.IGNORE)
-    void insert(CourseInstructor courseInstructor);
+    long insert(CourseInstructor courseInstructor);
+
+    // Inserts the row, or updates it if its ID is taken. Returns -1 when it updates.
+    @Upsert
+    long upsert(CourseInstructor courseInstructor);
 
     @Update
     void update(CourseInstructor courseInstructor);
@@ -30,9 +37,24 @@ public interface CourseInstructorDao {
     @Query("DELETE FROM course_instructor_table")
     void deleteAll();
 
+    @Transaction
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    long[] insertAll(List<CourseInstructor> courseInstructors);
+
+    @Transaction
+    @Update
+    void updateAll(List<CourseInstructor> courseInstructors);
+
+    @Transaction
+    @Query("DELETE FROM course_instructor_table WHERE id IN (:instructorIds)")
+    void deleteAll(List<Integer> instructorIds);
+
     @Query("SELECT * FROM course_instructor_table")
     LiveData<List<CourseInstructor>> getAllInstructors();
 
+    @Query("SELECT * FROM course_instructor_table ORDER BY id")
+    PagingSource<Integer, CourseInstructor> getPagedInstructors();
+
     @Query("SELECT * FROM course_instructor_table WHERE id = :instructorId")
     CourseInstructor getInstructorFromId(int instructorId);
 
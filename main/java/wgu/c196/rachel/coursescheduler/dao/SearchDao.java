@@ -0,0 +1,21 @@
+package wgu.c196.rachel.coursescheduler.dao;
+
+import androidx.room.Dao;
+import androidx.room.RawQuery;
+import androidx.sqlite.db.SupportSQLiteQuery;
+
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.model.SearchResult;
+
+/**
+ * Sets up the full-text search over the term, course, assessment, and course instructor tables.
+ */
+@Dao
+public interface SearchDao {
+
+    // The SQL has one score term for each word of the search, so it is built by SearchQuery
+    // instead of being fixed here. It ranks the matches and applies the limit itself.
+    @RawQuery
+    List<SearchResult> search(SupportSQLiteQuery query);
+}
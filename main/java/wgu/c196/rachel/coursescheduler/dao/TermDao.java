@@ -1,16 +1,20 @@
 package wgu.c196.rachel.coursescheduler.dao;
 
 import androidx.lifecycle.LiveData;
+import androidx.paging.PagingSource;
 import androidx.room.Dao;
 import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
+import androidx.room.Upsert;
 
 import java.util.List;
 
 import wgu.c196.rachel.coursescheduler.model.Term;
+import wgu.c196.rachel.coursescheduler.model.TermWithCourses;
 
 /**
  * Sets up CRUD operations for the Term table in the database.
@@ -19,7 +23,11 @@ import wgu.c196.rachel.coursescheduler.model.Term;
 public interface TermDao {
 
     @Insert(onConflict = OnConflictStrategy.IGNORE)
-    void insert(Term term);
+    long insert(Term term);
+
+    // Inserts the row, or updates it if its ID is taken. Returns -1 when it updates.
+    @Upsert
+    long upsert(Term term);
 
     @Update
     void update(Term term);
@@ -30,9 +38,24 @@ public interface TermDao {
     @Query("DELETE FROM term_table")
     void deleteAll();
 
+    @Transaction
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    long[] insertAll(List<Term> terms);
+
+    @Transaction
+    @Update
+    void updateAll(List<Term> terms);
+
+    @Transaction
+    @Query("DELETE FROM term_table WHERE id IN (:termIds)")
+    void deleteAll(List<Integer> termIds);
+
     @Query("SELECT * FROM term_table")
     LiveData<List<Term>> getAllTerms();
 
+    @Query("SELECT * FROM term_table ORDER BY id")
+    PagingSource<Integer, Term> getPagedTerms();
+
     @Query("SELECT COUNT(*) FROM term_table")
     int getSize();
 
@@ -44,4 +67,8 @@ public interface TermDao {
 
     @Query("SELECT * FROM term_table")
     List<Term> getAllTermsNonLive();
+
+    @Transaction
+    @Query("SELECT * FROM term_table WHERE id IN (:termIds)")
+    List<TermWithCourses> getTermsWithCourses(List<Integer> termIds);
 }
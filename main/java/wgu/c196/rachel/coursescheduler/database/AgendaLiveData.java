@@ -0,0 +1,143 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+import androidx.room.InvalidationTracker;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+import wgu.c196.rachel.coursescheduler.dao.AgendaDao;
+import wgu.c196.rachel.coursescheduler.model.AgendaItem;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+
+/**
+ * LiveData of the agenda for a range of days.
+ *
+ * <p> The agenda is read a page at a time. Each page is read after the date, type, and ID of the
+ * last item already loaded, rather than at an offset, so reading a page never skips rows the
+ * earlier pages read, and its cost does not grow with how far down the user has scrolled. The
+ * screen calls loadMore() as the user nears the end of the list. </p>
+ *
+ * <p> While observed, this watches the course and assessment tables. When either changes, the
+ * items loaded so far are read again in one query. Changes made while nothing is observing are
+ * picked up when an observer comes back. </p>
+ */
+public class AgendaLiveData extends LiveData<List<AgendaItem>> {
+    private static final String COURSE_TABLE = "course_table";
+    private static final String ASSESSMENT_TABLE = "assessment_table";
+
+    // The type to read after for the first page, so every item on the first day is included
+    private static final int BEFORE_FIRST_TYPE = -1;
+
+    private final AgendaDao agendaDao;
+    private final InvalidationTracker tracker;
+    private final AppExecutors executors;
+    private final LocalDate from;
+    private final LocalDate until;
+    private final int pageSize;
+
+    // Only used on the main thread
+    private final List<AgendaItem> items = new ArrayList<>();
+    private boolean isLoading = false;
+    private boolean isEnd = false;
+    private boolean isStale = true;
+    // Bumped by every reload, so a page read before it is dropped
+    private int generation = 0;
+
+    private final InvalidationTracker.Observer observer =
+            new InvalidationTracker.Observer(COURSE_TABLE, ASSESSMENT_TABLE) {
+        @Override
+        public void onInvalidated(@NonNull Set<String> tables) {
+            executors.mainThread().execute(AgendaLiveData.this::reload);
+        }
+    };
+
+    /**
+     * Constructor for AgendaLiveData.
+     *
+     * @param agendaDao The DAO the pages are read from
+     * @param tracker The database's invalidation tracker
+     * @param from The first day of the agenda
+     * @param until The day after the last day of the agenda
+     * @param pageSize The number of items read at a time
+     */
+    AgendaLiveData(AgendaDao agendaDao, InvalidationTracker tracker, LocalDate from,
+                   LocalDate until, int pageSize) {
+        this.agendaDao = agendaDao;
+        this.tracker = tracker;
+        this.executors = AppExecutors.getInstance();
+        this.from = from;
+        this.until = until;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    protected void onActive() {
+        tracker.addObserver(observer);
+        if (isStale)
+            reload();
+    }
+
+    @Override
+    protected void onInactive() {
+        tracker.removeObserver(observer);
+        isStale = true;
+    }
+
+    /**
+     * Reads the next page of the agenda, unless a page is already being read or every item has
+     * been read. Must be called on the main thread.
+     */
+    public void loadMore() {
+        if (isLoading || isEnd)
+            return;
+
+        if (items.isEmpty()) {
+            load(from, BEFORE_FIRST_TYPE, 0, pageSize, false);
+        } else {
+            AgendaItem last = items.get(items.size() - 1);
+            load(last.getDate(), last.getType(), last.getId(), pageSize, true);
+        }
+    }
+
+    /**
+     * Reads the agenda again from the first day, as many items as were loaded before.
+     */
+    private void reload() {
+        isStale = false;
+        generation++;
+        load(from, BEFORE_FIRST_TYPE, 0, Math.max(pageSize, items.size()), false);
+    }
+
+    private void load(LocalDate afterDate, int afterType, int afterId, int limit, boolean append) {
+        isLoading = true;
+        int loadGeneration = generation;
+
+        try {
+            executors.diskRead().execute(() -> {
+                List<AgendaItem> page = QueryMetrics.time("getAgendaPage",
+                        () -> agendaDao.getAgendaPage(afterDate, afterType, afterId, until, limit));
+
+                executors.mainThread().execute(() -> {
+                    if (loadGeneration != generation)
+                        return;
+
+                    isLoading = false;
+                    isEnd = page.size() < limit;
+                    if (!append)
+                        items.clear();
+                    items.addAll(page);
+                    setValue(new ArrayList<>(items));
+                });
+            });
+        } catch (RejectedExecutionException e) {
+            // The read pool is full. The page is read again when it is next asked for.
+            isLoading = false;
+            isStale = true;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+
+import java.util.function.IntFunction;
+
+import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.CourseWithInstructor;
+
+/**
+ * LiveData of a course joined with its instructor.
+ *
+ * <p> This observes the course's row, and the row of the instructor the course currently has. When
+ * the course changes, the instructor is only looked up again if the course's instructor ID
+ * changed; otherwise the instructor already loaded is reused. When the instructor changes, the
+ * course already loaded is reused. A value is only emitted once both sides are loaded, and only if
+ * something the user can see changed, so observers get one value for each change to either row. </p>
+ */
+class CourseWithInstructorLiveData extends MediatorLiveData<CourseWithInstructor> {
+    // The instructor ID of a course whose instructor is not being observed yet
+    private static final int NO_INSTRUCTOR = -1;
+
+    private final IntFunction<LiveData<CourseInstructor>> instructorSource;
+
+    private LiveData<CourseInstructor> instructorLiveData;
+    private int instructorId = NO_INSTRUCTOR;
+    private Course course;
+    private CourseInstructor instructor;
+    private boolean isInstructorLoaded = false;
+
+    /**
+     * Constructor for CourseWithInstructorLiveData.
+     *
+     * @param courseLiveData The course's row
+     * @param instructorSource Gets the LiveData of an instructor's row from its ID
+     */
+    CourseWithInstructorLiveData(LiveData<Course> courseLiveData,
+                                 IntFunction<LiveData<CourseInstructor>> instructorSource) {
+        this.instructorSource = instructorSource;
+        addSource(courseLiveData, this::onCourseChanged);
+    }
+
+    private void onCourseChanged(Course newCourse) {
+        // A deleted course is not shown; the screen showing it is closing
+        if (newCourse == null)
+            return;
+
+        course = newCourse;
+
+        if (newCourse.getCourseInstructorId() != instructorId) {
+            if (instructorLiveData != null)
+                removeSource(instructorLiveData);
+
+            instructorId = newCourse.getCourseInstructorId();
+            instructor = null;
+            isInstructorLoaded = false;
+            instructorLiveData = instructorSource.apply(instructorId);
+            // The instructor's first value emits the joined course
+            addSource(instructorLiveData, this::onInstructorChanged);
+            return;
+        }
+
+        emit();
+    }
+
+    private void onInstructorChanged(CourseInstructor newInstructor) {
+        instructor = newInstructor;
+        isInstructorLoaded = true;
+        emit();
+    }
+
+    private void emit() {
+        if (course == null || !isInstructorLoaded)
+            return;
+
+        CourseWithInstructor joined = new CourseWithInstructor(course, instructor);
+        if (!joined.hasSameContents(getValue()))
+            setValue(joined);
+    }
+}
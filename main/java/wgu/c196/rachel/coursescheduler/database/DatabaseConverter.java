@@ -4,6 +4,7 @@ import androidx.room.TypeConverter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoField;
 
 import wgu.c196.rachel.coursescheduler.model.Assessment;
@@ -14,6 +15,10 @@ import wgu.c196.rachel.coursescheduler.model.Course;
  *
  * <p> SQLite can only store null, integer, real, text, and blob in the database. This class is used
  * to convert between complex objects and these data types.</p>
+ *
+ * <p> Everything is stored as an integer so that reading a row does not need to parse text, and
+ * so that dates can be compared and sorted by SQLite directly. Date-times are stored as
+ * milliseconds since the epoch in UTC, and the enums are stored as their codes. </p>
  */
 public class DatabaseConverter {
 
@@ -28,32 +33,35 @@ public class DatabaseConverter {
     }
 
     @TypeConverter
-    public static String dateTimeToString(LocalDateTime date) {
-        return date == null ? null : date.toString();
+    public static Long dateTimeToTimestamp(LocalDateTime date) {
+        return date == null ? null : date.toInstant(ZoneOffset.UTC).toEpochMilli();
     }
 
     @TypeConverter
-    public static LocalDateTime stringToDateTime(String dateString) {
-        return dateString == null ? null : LocalDateTime.parse(dateString);
+    public static LocalDateTime timestampToDateTime(Long timestamp) {
+        if (timestamp == null)
+            return null;
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(timestamp, 1000L),
+                (int) Math.floorMod(timestamp, 1000L) * 1_000_000, ZoneOffset.UTC);
     }
 
     @TypeConverter
-    public static String fromStatus(Course.Status status) {
-        return status == null ? null : status.name();
+    public static Integer fromStatus(Course.Status status) {
+        return status == null ? null : status.getCode();
     }
 
     @TypeConverter
-    public static Course.Status toStatus(String name) {
-        return name == null ? null : Course.Status.valueOf(name);
+    public static Course.Status toStatus(Integer code) {
+        return code == null ? null : Course.Status.fromCode(code);
     }
 
     @TypeConverter
-    public static String fromType(Assessment.Type type) {
-        return type == null ? null : type.name();
+    public static Integer fromType(Assessment.Type type) {
+        return type == null ? null : type.getCode();
     }
 
     @TypeConverter
-    public static Assessment.Type toType(String name) {
-        return name == null ? null : Assessment.Type.valueOf(name);
+    public static Assessment.Type toType(Integer code) {
+        return code == null ? null : Assessment.Type.fromCode(code);
     }
 }
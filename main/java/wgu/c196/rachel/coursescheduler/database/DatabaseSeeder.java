@@ -0,0 +1,281 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteStatement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.model.Course;
+
+/**
+ * Fills a new database with its first rows.
+ *
+ * <p> The rows come from a compact seed file in the assets, which is written while the database is
+ * being created. The seed file is read and checked before anything is written, and then written
+ * with one prepared statement per table in a single transaction, so the first query waits for
+ * every row and never sees some of them. Whether a new database is seeded at all is set by the
+ * seed_mode string resource, so a build can override it. SeedBenchmarkTest compares this with
+ * writing the rows one DAO call at a time. </p>
+ */
+public class DatabaseSeeder extends RoomDatabase.Callback {
+    private static final String TAG = "DatabaseSeeder";
+
+    /**
+     * The seed file used by Mode.DEMO.
+     */
+    public static final String DEMO_SEED = "seed/demo.tsv";
+
+    /**
+     * The ways a new database can be filled.
+     */
+    public enum Mode {
+        // The database starts empty
+        NONE,
+        // The rows in DEMO_SEED
+        DEMO;
+
+        /**
+         * Gets the mode with the given name, ignoring case.
+         *
+         * @param name The name of the mode
+         * @return The mode, or NONE if the name is not a mode
+         */
+        public static Mode fromName(String name) {
+            for (Mode mode : values()) {
+                if (mode.name().equalsIgnoreCase(name))
+                    return mode;
+            }
+            return NONE;
+        }
+    }
+
+    // The columns written for each kind of row, in the order of the fields in the seed file
+    private static final Map<String, String> INSERTS = new HashMap<>();
+    static {
+        INSERTS.put("term", "INSERT INTO term_table (id, title, start_date, end_date) " +
+                "VALUES (?, ?, ?, ?)");
+        INSERTS.put("instructor", "INSERT INTO course_instructor_table " +
+                "(id, name, phone_number, email) VALUES (?, ?, ?, ?)");
+        INSERTS.put("course", "INSERT INTO course_table (id, title, start_date, end_date, status, " +
+                "course_instructor, note, term_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        INSERTS.put("assessment", "INSERT INTO assessment_table " +
+                "(id, title, type, start_date, end_date, course_id) VALUES (?, ?, ?, ?, ?, ?)");
+    }
+
+    private final Context context;
+    private final String seedFile;
+
+    /**
+     * Constructor for DatabaseSeeder.
+     *
+     * @param context The context used to read the assets
+     * @param seedFile The path of the seed file in the assets
+     */
+    public DatabaseSeeder(Context context, String seedFile) {
+        this.context = context.getApplicationContext();
+        this.seedFile = seedFile;
+    }
+
+    /**
+     * Gets the mode set by the seed_mode string resource.
+     *
+     * @param context The context used to read the resource
+     * @return The mode
+     */
+    public static Mode getMode(Context context) {
+        return Mode.fromName(context.getString(R.string.seed_mode));
+    }
+
+    /**
+     * Sets up a database builder to fill a new database the given way.
+     *
+     * @param builder The builder of the database
+     * @param context The context used to read the assets
+     * @param mode How to fill the database
+     * @return The builder
+     */
+    public static RoomDatabase.Builder<ScheduleRoomDatabase> seed(
+            RoomDatabase.Builder<ScheduleRoomDatabase> builder, Context context, Mode mode) {
+        if (mode == Mode.DEMO)
+            return builder.addCallback(new DatabaseSeeder(context, DEMO_SEED));
+        return builder;
+    }
+
+    /**
+     * Writes the rows in the seed file once the tables have been created.
+     *
+     * <p> This runs while Room is opening the database, on the thread of the first query. A seed
+     * file that cannot be read leaves the database empty. </p>
+     * @param db The new database
+     */
+    @Override
+    public void onCreate(@NonNull SupportSQLiteDatabase db) {
+        super.onCreate(db);
+
+        List<String[]> rows;
+        try {
+            rows = read();
+        } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "Could not read seed file " + seedFile, e);
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<String, SupportSQLiteStatement> statements = new HashMap<>();
+        Map<String, Integer> nextIds = new HashMap<>();
+
+        db.beginTransaction();
+        try {
+            for (String[] row : rows) {
+                String kind = row[0];
+                SupportSQLiteStatement statement = statements.get(kind);
+                if (statement == null) {
+                    statement = db.compileStatement(INSERTS.get(kind));
+                    statements.put(kind, statement);
+                }
+
+                int id = nextIds.getOrDefault(kind, 1);
+                nextIds.put(kind, id + 1);
+
+                statement.clearBindings();
+                statement.bindLong(1, id);
+                bind(statement, kind, row, today);
+                statement.executeInsert();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Reads and checks every row of the seed file.
+     *
+     * @return The rows, each split into its fields with the kind first
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a row is not a known kind or has the wrong fields
+     */
+    private List<String[]> read() throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                context.getAssets().open(seedFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+
+                String[] row = line.split("\t", -1);
+                String insert = INSERTS.get(row[0]);
+                // A row has its kind where the statement has the ID
+                if (insert == null || row.length != countParameters(insert))
+                    throw new IllegalArgumentException("Bad seed row: " + line);
+
+                // Parse the row without writing it, so that a bad row fails before any are written
+                bind(null, row[0], row, today);
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Binds the fields of a row to its insert statement, after the ID.
+     *
+     * @param statement The insert statement for the row's kind, or null to only check the fields
+     * @param kind The kind of row
+     * @param row The fields of the row, with the kind first
+     * @param today The day the dates in the row count from
+     */
+    private static void bind(SupportSQLiteStatement statement, String kind, String[] row,
+                             LocalDate today) {
+        switch (kind) {
+            case "term":
+                bindText(statement, 2, row[1]);
+                bindDate(statement, 3, row[2], today);
+                bindDate(statement, 4, row[3], today);
+                break;
+            case "instructor":
+                bindText(statement, 2, row[1]);
+                bindText(statement, 3, row[2]);
+                bindText(statement, 4, row[3]);
+                break;
+            case "course":
+                bindText(statement, 2, row[1]);
+                bindDate(statement, 3, row[2], today);
+                bindDate(statement, 4, row[3], today);
+                bindCode(statement, 5, row[4].isEmpty() ? null
+                        : DatabaseConverter.fromStatus(Course.Status.valueOf(row[4])));
+                bindCode(statement, 6, Integer.parseInt(row[5]));
+                bindText(statement, 7, row[6]);
+                bindCode(statement, 8, Integer.parseInt(row[7]));
+                break;
+            case "assessment":
+                bindText(statement, 2, row[1]);
+                bindCode(statement, 3, row[2].isEmpty() ? null
+                        : DatabaseConverter.fromType(Assessment.Type.valueOf(row[2])));
+                bindDate(statement, 4, row[3], today);
+                bindDate(statement, 5, row[4], today);
+                bindCode(statement, 6, Integer.parseInt(row[5]));
+                break;
+            default:
+                throw new IllegalArgumentException("Bad seed kind: " + kind);
+        }
+    }
+
+    private static void bindText(SupportSQLiteStatement statement, int index, String value) {
+        if (statement == null)
+            return;
+        if (value.isEmpty())
+            statement.bindNull(index);
+        else
+            statement.bindString(index, value);
+    }
+
+    // Dates are stored as epoch days, the same as DatabaseConverter does
+    private static void bindDate(SupportSQLiteStatement statement, int index, String daysFromToday,
+                                 LocalDate today) {
+        Long date = daysFromToday.isEmpty() ? null
+                : DatabaseConverter.dateToTimestamp(today.plusDays(Long.parseLong(daysFromToday)));
+        if (statement == null)
+            return;
+        if (date == null)
+            statement.bindNull(index);
+        else
+            statement.bindLong(index, date);
+    }
+
+    private static void bindCode(SupportSQLiteStatement statement, int index, Integer value) {
+        if (statement == null)
+            return;
+        if (value == null)
+            statement.bindNull(index);
+        else
+            statement.bindLong(index, value);
+    }
+
+    private static int countParameters(String insert) {
+        int count = 0;
+        for (int i = 0; i < insert.length(); i++) {
+            if (insert.charAt(i) == '?')
+                count++;
+        }
+        return count;
+    }
+}
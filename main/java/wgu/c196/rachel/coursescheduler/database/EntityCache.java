@@ -0,0 +1,143 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * A cache of the rows of one table, by ID.
+ *
+ * <p> The repository keeps one of these for each table it reads single rows from. It holds at most
+ * maxSize rows and drops the least recently used row when it is full. A row is evicted as soon as
+ * the repository writes it, and the whole table is evicted when Room's InvalidationTracker reports
+ * that the table changed, which also covers rows changed by foreign key cascades or outside the
+ * repository. </p>
+ *
+ * <p> A row that is read from the database while the table is being evicted is returned but not
+ * cached, so a read that started before a write can never put the old row back. The cached objects
+ * are shared, so they must not be modified. </p>
+ */
+public class EntityCache<T> {
+    private final String table;
+    private final LruCache<Integer, T> cache;
+
+    // Bumped by every eviction, so a load can tell if one happened while it ran
+    private long generation = 0;
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    /**
+     * Constructor for EntityCache.
+     *
+     * @param table The name of the table whose rows are cached
+     * @param maxSize The most rows to keep
+     */
+    EntityCache(String table, int maxSize) {
+        this.table = table;
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * Gets a row from the cache, or loads it and caches it.
+     *
+     * @param id The ID of the row
+     * @param load Loads the row from the database; runs on the calling thread
+     * @return The row, or null if there is no row with that ID
+     */
+    T get(int id, IntFunction<T> load) {
+        T row = cache.get(id);
+        if (row != null)
+            return row;
+
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+        }
+
+        row = load.apply(id);
+        if (row != null) {
+            synchronized (this) {
+                if (generation == loadGeneration)
+                    cache.put(id, row);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Evicts one row. Called after the repository writes the row.
+     *
+     * @param id The ID of the row
+     */
+    synchronized void invalidate(int id) {
+        generation++;
+        cache.remove(id);
+        invalidationCount.incrementAndGet();
+    }
+
+    /**
+     * Evicts every row. Called when the table changed in a way the repository did not track.
+     */
+    synchronized void invalidateAll() {
+        generation++;
+        cache.evictAll();
+        invalidationCount.incrementAndGet();
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Changes the most rows that are kept, dropping the least recently used rows if there are more.
+     *
+     * @param maxSize The most rows to keep
+     */
+    public void resize(int maxSize) {
+        cache.resize(maxSize);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int maxSize() {
+        return cache.maxSize();
+    }
+
+    public int hitCount() {
+        return cache.hitCount();
+    }
+
+    public int missCount() {
+        return cache.missCount();
+    }
+
+    /**
+     * Gets the number of rows dropped to stay under maxSize.
+     *
+     * @return The number of rows dropped because the cache was full
+     */
+    public int evictionCount() {
+        return cache.evictionCount();
+    }
+
+    /**
+     * Gets the number of times rows were evicted because they changed.
+     *
+     * @return The number of single-row and whole-table invalidations
+     */
+    public long invalidationCount() {
+        return invalidationCount.get();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "%s: size=%d/%d hits=%d misses=%d evictions=%d invalidations=%d",
+                table, size(), maxSize(), hitCount(), missCount(), evictionCount(), invalidationCount());
+    }
+}
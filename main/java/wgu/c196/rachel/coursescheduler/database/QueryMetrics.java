@@ -0,0 +1,330 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import androidx.annotation.NonNull;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import wgu.c196.rachel.coursescheduler.util.StartupTrace;
+
+/**
+ * Records how often each SQL statement runs and how long it takes.
+ *
+ * <p> Room reports every statement it runs to onQuery(), which counts it under its normalized SQL,
+ * with literals replaced by ? and IN lists collapsed, so the same query with different arguments
+ * is counted together. Room does not report how long a statement took, so the repository wraps
+ * its calls in time() or run(). The time and number of rows of a wrapped call are recorded under
+ * the call's name, and under the first statement the call ran on that thread. </p>
+ *
+ * <p> Everything is recorded with atomic counters into fixed histograms, without locks, so
+ * recording is cheap enough to leave on. The histograms have eight buckets for each power of two
+ * microseconds, so percentiles are accurate to within about 12%. </p>
+ */
+public final class QueryMetrics {
+
+    // The most distinct raw SQL strings whose normalized form is cached. IN lists of different
+    // lengths are different strings, so the cache is capped instead of growing forever.
+    private static final int MAX_CACHED_SQL = 512;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\((?:\\s*\\?\\s*,?)+\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static volatile boolean enabled = true;
+
+    private static final ConcurrentHashMap<String, Stats> stats = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, String> normalizedSql = new ConcurrentHashMap<>();
+
+    // The first statement run on this thread since the current timed call started
+    private static final ThreadLocal<String> firstStatement = new ThreadLocal<>();
+
+    private QueryMetrics() {
+    }
+
+    /**
+     * Turns recording on or off. Recording is on by default.
+     *
+     * @param isEnabled True to record statements and calls
+     */
+    public static void setEnabled(boolean isEnabled) {
+        enabled = isEnabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a statement that Room is running.
+     *
+     * <p> This is the database's query callback, and runs on the thread running the statement. </p>
+     * @param sql The SQL of the statement
+     * @param bindArgs The arguments bound to the statement, which are not recorded
+     */
+    public static void onQuery(@NonNull String sql, @NonNull List<Object> bindArgs) {
+        if (!enabled)
+            return;
+
+        String key = normalize(sql);
+        statsFor(key).statements.incrementAndGet();
+
+        // Transaction control statements are not the work the call was timing
+        if (firstStatement.get() == null && !isTransactionControl(key)) {
+            firstStatement.set(key);
+            StartupTrace.mark(StartupTrace.FIRST_QUERY);
+        }
+    }
+
+    /**
+     * Runs a call that returns a value and records its time and rows.
+     *
+     * @param call The name of the call
+     * @param body The call
+     * @return The value returned by the call
+     */
+    public static <T> T time(String call, Supplier<T> body) {
+        if (!enabled)
+            return body.get();
+
+        firstStatement.remove();
+        long start = System.nanoTime();
+        T result = body.get();
+        record(call, System.nanoTime() - start, rowCount(result));
+        return result;
+    }
+
+    /**
+     * Runs a call that does not return a value and records its time.
+     *
+     * @param call The name of the call
+     * @param body The call
+     */
+    public static void run(String call, Runnable body) {
+        if (!enabled) {
+            body.run();
+            return;
+        }
+
+        firstStatement.remove();
+        long start = System.nanoTime();
+        body.run();
+        record(call, System.nanoTime() - start, 0);
+    }
+
+    /**
+     * Gets the statistics recorded so far.
+     *
+     * @return The statistics of every statement and call, most run first
+     */
+    public static List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (Stats entry : stats.values())
+            snapshots.add(entry.snapshot());
+        Collections.sort(snapshots, (a, b) -> Long.compare(
+                Math.max(b.statements, b.timed), Math.max(a.statements, a.timed)));
+        return snapshots;
+    }
+
+    /**
+     * Writes the statistics recorded so far to a file, one statement or call per line.
+     *
+     * @param file The file to write, which is replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public static void dump(File file) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            writer.write("statements\ttimed\tp50_us\tp95_us\tp99_us\tmax_us\trows\tname");
+            writer.newLine();
+            for (Snapshot snapshot : snapshot()) {
+                writer.write(snapshot.toString());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Clears everything recorded so far.
+     */
+    public static void reset() {
+        stats.clear();
+    }
+
+    private static void record(String call, long nanos, long rows) {
+        long micros = nanos / 1000;
+        statsFor(call).record(micros, rows);
+
+        String statement = firstStatement.get();
+        if (statement != null) {
+            statsFor(statement).record(micros, rows);
+            firstStatement.remove();
+        }
+    }
+
+    private static Stats statsFor(String key) {
+        Stats entry = stats.get(key);
+        if (entry == null)
+            entry = stats.computeIfAbsent(key, Stats::new);
+        return entry;
+    }
+
+    /**
+     * Counts the rows a call returned: the size of a list, one for any other object, and none for
+     * null.
+     */
+    private static long rowCount(Object result) {
+        if (result == null)
+            return 0;
+        if (result instanceof Collection)
+            return ((Collection<?>) result).size();
+        return 1;
+    }
+
+    private static boolean isTransactionControl(String sql) {
+        return sql.startsWith("BEGIN") || sql.startsWith("END") || sql.startsWith("COMMIT")
+                || sql.startsWith("ROLLBACK") || sql.startsWith("SAVEPOINT")
+                || sql.startsWith("RELEASE") || sql.startsWith("PRAGMA");
+    }
+
+    /**
+     * Normalizes SQL so that the same statement with different arguments gives the same string.
+     *
+     * @param sql The SQL as run
+     * @return The SQL with literals replaced by ?, IN lists collapsed, and whitespace collapsed
+     */
+    static String normalize(String sql) {
+        String cached = normalizedSql.get(sql);
+        if (cached != null)
+            return cached;
+
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("IN (...)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+
+        if (normalizedSql.size() < MAX_CACHED_SQL)
+            normalizedSql.put(sql, normalized);
+        return normalized;
+    }
+
+    /**
+     * The counters for one statement or call.
+     */
+    private static final class Stats {
+        // Below this many microseconds each value has its own bucket
+        private static final int LINEAR_BUCKETS = 16;
+        // The buckets each power of two is split into above that
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS = LINEAR_BUCKETS + (63 - 4) * SUB_BUCKETS;
+
+        final String name;
+        final AtomicLong statements = new AtomicLong();
+        final AtomicLong timed = new AtomicLong();
+        final AtomicLong rows = new AtomicLong();
+        final AtomicLong maxMicros = new AtomicLong();
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        Stats(String name) {
+            this.name = name;
+        }
+
+        void record(long micros, long rowCount) {
+            timed.incrementAndGet();
+            rows.addAndGet(rowCount);
+            buckets.incrementAndGet(bucketOf(micros));
+
+            long max = maxMicros.get();
+            while (micros > max && !maxMicros.compareAndSet(max, micros))
+                max = maxMicros.get();
+        }
+
+        static int bucketOf(long micros) {
+            if (micros < LINEAR_BUCKETS)
+                return (int) Math.max(0, micros);
+            int exponent = 63 - Long.numberOfLeadingZeros(micros);
+            int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return LINEAR_BUCKETS + (exponent - 4) * SUB_BUCKETS + subBucket;
+        }
+
+        static long lowerBoundOf(int bucket) {
+            if (bucket < LINEAR_BUCKETS)
+                return bucket;
+            int exponent = 4 + (bucket - LINEAR_BUCKETS) / SUB_BUCKETS;
+            int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+            return (1L << exponent) + ((long) subBucket << (exponent - SUB_BUCKET_BITS));
+        }
+
+        Snapshot snapshot() {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            return new Snapshot(name, statements.get(), total, percentile(counts, total, 0.50),
+                    percentile(counts, total, 0.95), percentile(counts, total, 0.99),
+                    maxMicros.get(), rows.get());
+        }
+
+        private static long percentile(long[] counts, long total, double fraction) {
+            if (total == 0)
+                return 0;
+            long rank = (long) Math.ceil(fraction * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank)
+                    return lowerBoundOf(i);
+            }
+            return lowerBoundOf(counts.length - 1);
+        }
+    }
+
+    /**
+     * The statistics of one statement or call at the time snapshot() was called.
+     */
+    public static final class Snapshot {
+        public final String name;
+        // The number of times Room ran the statement
+        public final long statements;
+        // The number of times it was timed, as or inside a repository call
+        public final long timed;
+        public final long p50Micros;
+        public final long p95Micros;
+        public final long p99Micros;
+        public final long maxMicros;
+        public final long rows;
+
+        Snapshot(String name, long statements, long timed, long p50Micros, long p95Micros,
+                 long p99Micros, long maxMicros, long rows) {
+            this.name = name;
+            this.statements = statements;
+            this.timed = timed;
+            this.p50Micros = p50Micros;
+            this.p95Micros = p95Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+            this.rows = rows;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "%d\t%d\t%d\t%d\t%d\t%d\t%d\t%s", statements, timed,
+                    p50Micros, p95Micros, p99Micros, maxMicros, rows, name);
+        }
+    }
+}
@@ -1,41 +1,164 @@
 package wgu.c196.rachel.coursescheduler.database;
 
 import android.app.Application;
+import android.database.Cursor;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
 
+import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
-
+import androidx.lifecycle.MediatorLiveData;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
+import androidx.room.InvalidationTracker;
+import androidx.sqlite.db.SupportSQLiteQuery;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import wgu.c196.rachel.coursescheduler.dao.AgendaDao;
+import wgu.c196.rachel.coursescheduler.dao.AlertDao;
 import wgu.c196.rachel.coursescheduler.dao.AssessmentDao;
+import wgu.c196.rachel.coursescheduler.dao.CalendarDao;
 import wgu.c196.rachel.coursescheduler.dao.CourseDao;
 import wgu.c196.rachel.coursescheduler.dao.CourseInstructorDao;
+import wgu.c196.rachel.coursescheduler.dao.SearchDao;
 import wgu.c196.rachel.coursescheduler.dao.TermDao;
+import wgu.c196.rachel.coursescheduler.model.AgendaItem;
+import wgu.c196.rachel.coursescheduler.model.Alert;
 import wgu.c196.rachel.coursescheduler.model.Assessment;
 import wgu.c196.rachel.coursescheduler.model.Course;
 import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.CourseListItem;
+import wgu.c196.rachel.coursescheduler.model.CourseWithInstructor;
+import wgu.c196.rachel.coursescheduler.model.SearchResult;
 import wgu.c196.rachel.coursescheduler.model.Term;
+import wgu.c196.rachel.coursescheduler.model.TermWithCourses;
+import wgu.c196.rachel.coursescheduler.util.AlarmScheduler;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.ICalendarWriter;
 
 /**
  * Class that acts as a repository between the database and the View Model.
+ *
+ * <p> There is one repository for the whole app, shared by every View Model. </p>
  */
 public class ScheduleRepository {
+    private static final String TAG = "ScheduleRepository";
+
+    private static volatile ScheduleRepository INSTANCE;
+
+    // SQLite limits how many variables can be bound in one statement, so long id lists are
+    // deleted in chunks of this size inside a single transaction.
+    private static final int MAX_BIND_VARIABLES = 500;
+
+    // The number of rows loaded at a time for the paged lists
+    private static final int PAGE_SIZE = 50;
 
+    // How long a search query has to stay unchanged before it is run
+    private static final long SEARCH_DEBOUNCE_MS = 300;
+
+    // The most results returned by a search, the best matches first
+    private static final int SEARCH_RESULTS = 50;
+
+    // The most rows of each table kept in its cache. Terms and instructors are few; courses are
+    // read by ID from several screens, so more of them are kept.
+    private static final int TERM_CACHE_SIZE = 64;
+    private static final int COURSE_CACHE_SIZE = 256;
+    private static final int INSTRUCTOR_CACHE_SIZE = 64;
+
+    private static final String TERM_TABLE = "term_table";
+    private static final String COURSE_TABLE = "course_table";
+    private static final String INSTRUCTOR_TABLE = "course_instructor_table";
+
+    private ScheduleRoomDatabase database;
     private TermDao termDao;
     private CourseDao courseDao;
     private AssessmentDao assessmentDao;
     private CourseInstructorDao courseInstructorDao;
-
-    // Database write executor is used to write to the database on background threads.
-    // Classes reading from the database should call that method in their own background thread.
-
-    public ScheduleRepository(Application application) {
+    private SearchDao searchDao;
+    private AgendaDao agendaDao;
+    private AlertDao alertDao;
+    private CalendarDao calendarDao;
+
+    // Rows read by ID, kept until they change
+    private final EntityCache<Term> termCache = new EntityCache<>(TERM_TABLE, TERM_CACHE_SIZE);
+    private final EntityCache<Course> courseCache = new EntityCache<>(COURSE_TABLE, COURSE_CACHE_SIZE);
+    private final EntityCache<CourseInstructor> instructorCache =
+            new EntityCache<>(INSTRUCTOR_TABLE, INSTRUCTOR_CACHE_SIZE);
+
+    // Writes are run in order through one queue on the shared disk write executor. Classes reading
+    // from the database should call the non-LiveData methods on the shared disk read executor, see
+    // AppExecutors.load().
+    private AppExecutors executors;
+    private WriteQueue writes;
+    private AlarmScheduler alarms;
+
+    private ScheduleRepository(Application application) {
         // Get an instance of the database
-        ScheduleRoomDatabase database = ScheduleRoomDatabase.getDatabase(application);
+        database = ScheduleRoomDatabase.getDatabase(application);
 
         termDao = database.termDao();
         courseDao = database.courseDao();
         assessmentDao = database.assessmentDao();
         courseInstructorDao = database.courseInstructorDao();
+        searchDao = database.searchDao();
+        agendaDao = database.agendaDao();
+        alertDao = database.alertDao();
+        calendarDao = database.calendarDao();
+        executors = AppExecutors.getInstance();
+        writes = new WriteQueue(database, executors.diskWrite());
+        alarms = new AlarmScheduler(application);
+
+        // Room only reports which tables changed, not which rows, so a change evicts the whole
+        // table. This catches changes the repository did not make itself, such as a cascade from
+        // deleting a term. Writes made here also evict their own rows straight away, since the
+        // tracker is only told some time after the write's transaction ends.
+        database.getInvalidationTracker().addObserver(
+                new InvalidationTracker.Observer(TERM_TABLE, COURSE_TABLE, INSTRUCTOR_TABLE) {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                if (tables.contains(TERM_TABLE))
+                    termCache.invalidateAll();
+                if (tables.contains(COURSE_TABLE))
+                    courseCache.invalidateAll();
+                if (tables.contains(INSTRUCTOR_TABLE))
+                    instructorCache.invalidateAll();
+            }
+        });
+    }
+
+    /**
+     * Gets the repository, creating it the first time.
+     *
+     * @param application The application, used to open the database
+     * @return The repository
+     */
+    public static ScheduleRepository getInstance(Application application) {
+        if (INSTANCE == null) {
+            synchronized (ScheduleRepository.class) {
+                if (INSTANCE == null)
+                    INSTANCE = new ScheduleRepository(application);
+            }
+        }
+        return INSTANCE;
     }
 
     public LiveData<List<Term>> getAllTerms() {
@@ -58,106 +181,422 @@ public class ScheduleRepository {
         return courseDao.getCoursesForTerm(termId);
     }
 
-    public void insert(Term term) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            termDao.insert(term);
-        });
+    public LiveData<PagingData<Term>> getPagedTerms() {
+        return PagingLiveData.getLiveData(new Pager<>(new PagingConfig(PAGE_SIZE),
+                () -> termDao.getPagedTerms()));
+    }
+
+    public LiveData<PagingData<CourseListItem>> getPagedCourses() {
+        return PagingLiveData.getLiveData(new Pager<>(new PagingConfig(PAGE_SIZE),
+                () -> courseDao.getPagedCourses()));
+    }
+
+    public LiveData<PagingData<CourseListItem>> getPagedCoursesForTerm(int termId) {
+        return PagingLiveData.getLiveData(new Pager<>(new PagingConfig(PAGE_SIZE),
+                () -> courseDao.getPagedCoursesForTerm(termId)));
+    }
+
+    public LiveData<PagingData<Assessment>> getPagedAssessments() {
+        return PagingLiveData.getLiveData(new Pager<>(new PagingConfig(PAGE_SIZE),
+                () -> assessmentDao.getPagedAssessments()));
+    }
+
+    public LiveData<PagingData<Assessment>> getPagedAssessmentsForCourse(int courseId) {
+        return PagingLiveData.getLiveData(new Pager<>(new PagingConfig(PAGE_SIZE),
+                () -> assessmentDao.getPagedAssessmentsForCourse(courseId)));
+    }
+
+    public LiveData<PagingData<CourseInstructor>> getPagedInstructors() {
+        return PagingLiveData.getLiveData(new Pager<>(new PagingConfig(PAGE_SIZE),
+                () -> courseInstructorDao.getPagedInstructors()));
+    }
+
+    /**
+     * Gets the agenda of course and assessment start and end dates from today on.
+     *
+     * @param days The number of days the agenda covers, starting today
+     * @return LiveData of the agenda, read a page at a time as loadMore() is called
+     */
+    public AgendaLiveData getAgenda(int days) {
+        LocalDate today = LocalDate.now();
+        return new AgendaLiveData(agendaDao, database.getInvalidationTracker(), today,
+                today.plusDays(days), PAGE_SIZE);
+    }
+
+    /**
+     * Gets the course and assessment start and end dates on one day.
+     *
+     * <p> Reads the first page of the agenda for that day, so it is one query over the date
+     * indices. Must not be called on the main thread. </p>
+     * @param day The day
+     * @param limit The most items to read
+     * @return The day's agenda, in the same order as getAgenda()
+     */
+    public List<AgendaItem> getAgendaForDay(LocalDate day, int limit) {
+        return QueryMetrics.time("getAgendaForDay",
+                () -> agendaDao.getAgendaPage(day, -1, 0, day.plusDays(1), limit));
     }
 
-    public void insert(Course course) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            courseDao.insert(course);
-        });
+    /**
+     * Writes every dated term, course, and assessment to a file as an iCalendar event.
+     *
+     * <p> The rows are read from a Cursor and written through a buffered writer as they are read,
+     * so no list of rows is built and the memory used is the same for ten events or a hundred
+     * thousand. Must not be called on the main thread. </p>
+     * @param file The file to write, which is replaced if it exists
+     * @return The number of events written
+     * @throws IOException if the file cannot be written
+     */
+    public int exportCalendar(File file) throws IOException {
+        File directory = file.getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("Could not create " + directory);
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            return exportCalendar(writer);
+        }
     }
 
-    public void insert(CourseInstructor courseInstructor) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            courseInstructorDao.insert(courseInstructor);
-        });
+    /**
+     * Writes every dated term, course, and assessment as an iCalendar event.
+     *
+     * @param writer The writer, which should be buffered. It is not closed.
+     * @return The number of events written
+     * @throws IOException if the writer fails
+     */
+    public int exportCalendar(Writer writer) throws IOException {
+        ICalendarWriter calendar = new ICalendarWriter(writer);
+        int count = 0;
+
+        try (Cursor cursor = calendarDao.getEvents()) {
+            int kindColumn = cursor.getColumnIndexOrThrow("kind");
+            int idColumn = cursor.getColumnIndexOrThrow("id");
+            int titleColumn = cursor.getColumnIndexOrThrow("title");
+            int startColumn = cursor.getColumnIndexOrThrow("start_date");
+            int endColumn = cursor.getColumnIndexOrThrow("end_date");
+
+            while (cursor.moveToNext()) {
+                String category = getCalendarCategory(cursor.getInt(kindColumn));
+                LocalDate end = cursor.isNull(endColumn) ? null
+                        : DatabaseConverter.fromTimestamp(cursor.getLong(endColumn));
+
+                // The ID is only unique within its table, so the UID includes the kind
+                calendar.writeEvent(category.toLowerCase(Locale.US) + "-" + cursor.getInt(idColumn)
+                                + "@wgu.c196.rachel.coursescheduler", category,
+                        cursor.getString(titleColumn),
+                        DatabaseConverter.fromTimestamp(cursor.getLong(startColumn)), end);
+                count++;
+            }
+        }
+
+        calendar.finish();
+        writer.flush();
+        return count;
     }
 
-    public void insert(Assessment assessment) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            assessmentDao.insert(assessment);
-        });
+    private static String getCalendarCategory(int kind) {
+        switch (kind) {
+            case CalendarDao.KIND_TERM:
+                return "Term";
+            case CalendarDao.KIND_COURSE:
+                return "Course";
+            default:
+                return "Assessment";
+        }
+    }
+
+    public CompletableFuture<Long> insert(Term term) {
+        return writes.submit("insert(Term)", () -> termDao.insert(term),
+                () -> termCache.invalidate(term.getId()));
+    }
+
+    public CompletableFuture<Long> insert(Course course) {
+        return writes.submit("insert(Course)", () -> courseDao.insert(course),
+                () -> courseCache.invalidate(course.getId()));
+    }
+
+    public CompletableFuture<Long> insert(CourseInstructor courseInstructor) {
+        return writes.submit("insert(CourseInstructor)", () -> courseInstructorDao.insert(courseInstructor),
+                () -> instructorCache.invalidate(courseInstructor.getId()));
+    }
+
+    public CompletableFuture<Long> insert(Assessment assessment) {
+        return writes.submit("insert(Assessment)", () -> assessmentDao.insert(assessment), null);
+    }
+
+    public CompletableFuture<Integer> upsert(Term term) {
+        return writes.submit("upsert(Term)",
+                () -> savedId(termDao.upsert(term), term.getId()),
+                () -> termCache.invalidate(term.getId()));
+    }
+
+    public CompletableFuture<Integer> upsert(Course course) {
+        return writes.submit("upsert(Course)",
+                () -> savedId(courseDao.upsert(course), course.getId()),
+                () -> courseCache.invalidate(course.getId()));
+    }
+
+    public CompletableFuture<Integer> upsert(CourseInstructor courseInstructor) {
+        return writes.submit("upsert(CourseInstructor)",
+                () -> savedId(courseInstructorDao.upsert(courseInstructor), courseInstructor.getId()),
+                () -> instructorCache.invalidate(courseInstructor.getId()));
+    }
+
+    public CompletableFuture<Integer> upsert(Assessment assessment) {
+        return writes.submit("upsert(Assessment)",
+                () -> savedId(assessmentDao.upsert(assessment), assessment.getId()),
+                null);
+    }
+
+    /**
+     * Gets the ID of the row an upsert saved.
+     *
+     * @param rowId The row ID returned by the upsert, which is -1 if it updated an existing row
+     * @param id The ID of the entity that was upserted
+     * @return The ID of the inserted or updated row
+     */
+    private static int savedId(long rowId, int id) {
+        return rowId == -1 ? id : (int) rowId;
     }
 
+    // The rows returned by these three are cached and shared, so they must not be modified
+
     public CourseInstructor getInstructorFromId(int id) {
-        return courseInstructorDao.getInstructorFromId(id);
+        return instructorCache.get(id, instructorId -> QueryMetrics.time("getInstructorFromId",
+                () -> courseInstructorDao.getInstructorFromId(instructorId)));
     }
 
     public Course getCourseFromId(int courseId) {
-        return courseDao.getCourseFromId(courseId);
+        return courseCache.get(courseId, id -> QueryMetrics.time("getCourseFromId",
+                () -> courseDao.getCourseFromId(id)));
     }
 
     public Term getTermFromId(int termId) {
-        return termDao.getTermFromId(termId);
+        return termCache.get(termId, id -> QueryMetrics.time("getTermFromId",
+                () -> termDao.getTermFromId(id)));
+    }
+
+    /**
+     * Gets the caches of single rows, to read their counters or change their sizes.
+     *
+     * @return The term, course, and course instructor caches
+     */
+    public List<EntityCache<?>> getCaches() {
+        return Arrays.asList(termCache, courseCache, instructorCache);
     }
 
     public int getCourseSize() {
-        return courseDao.getSize();
+        return QueryMetrics.time("getCourseSize", () -> courseDao.getSize());
     }
 
     public int getTermSize() {
-        return termDao.getSize();
+        return QueryMetrics.time("getTermSize", () -> termDao.getSize());
     }
 
     public int getAssessmentSize() {
-        return assessmentDao.getSize();
+        return QueryMetrics.time("getAssessmentSize", () -> assessmentDao.getSize());
     }
 
     public int getCourseInstructorSize() {
-        return courseInstructorDao.getSize();
+        return QueryMetrics.time("getCourseInstructorSize", () -> courseInstructorDao.getSize());
+    }
+
+    public CompletableFuture<Void> update(Term term) {
+        return writes.run("update(Term)", () -> termDao.update(term),
+                () -> termCache.invalidate(term.getId()));
+    }
+
+    public CompletableFuture<Void> update(Course course) {
+        return writes.run("update(Course)", () -> courseDao.update(course),
+                () -> courseCache.invalidate(course.getId()));
+    }
+
+    public CompletableFuture<Void> update(Assessment assessment) {
+        return writes.run("update(Assessment)", () -> assessmentDao.update(assessment), null);
     }
 
-    public void update(Term term) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            termDao.update(term);
+    public CompletableFuture<Void> update(CourseInstructor courseInstructor) {
+        return writes.run("update(CourseInstructor)", () -> courseInstructorDao.update(courseInstructor),
+                () -> instructorCache.invalidate(courseInstructor.getId()));
+    }
+
+    public CompletableFuture<Void> delete(Term term) {
+        return writes.run("delete(Term)", () -> termDao.delete(term),
+                () -> termCache.invalidate(term.getId()));
+    }
+
+    public CompletableFuture<Void> delete(Course course) {
+        return writes.run("delete(Course)", () -> courseDao.delete(course),
+                () -> courseCache.invalidate(course.getId()));
+    }
+
+    public CompletableFuture<Void> delete(CourseInstructor courseInstructor) {
+        return writes.run("delete(CourseInstructor)", () -> courseInstructorDao.delete(courseInstructor),
+                () -> instructorCache.invalidate(courseInstructor.getId()));
+    }
+
+    public CompletableFuture<Void> delete(Assessment assessment) {
+        return writes.run("delete(Assessment)", () -> assessmentDao.delete(assessment), null);
+    }
+
+    public CompletableFuture<long[]> insertTerms(List<Term> terms) {
+        return writes.submit("insertTerms", () -> termDao.insertAll(terms), () -> {
+            for (Term term : terms)
+                termCache.invalidate(term.getId());
         });
     }
 
-    public void update(Course course) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            courseDao.update(course);
+    public CompletableFuture<long[]> insertCourses(List<Course> courses) {
+        return writes.submit("insertCourses", () -> courseDao.insertAll(courses), () -> {
+            for (Course course : courses)
+                courseCache.invalidate(course.getId());
         });
     }
 
-    public void update(Assessment assessment) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            assessmentDao.update(assessment);
+    public CompletableFuture<long[]> insertInstructors(List<CourseInstructor> courseInstructors) {
+        return writes.submit("insertInstructors", () -> courseInstructorDao.insertAll(courseInstructors), () -> {
+            for (CourseInstructor courseInstructor : courseInstructors)
+                instructorCache.invalidate(courseInstructor.getId());
         });
     }
 
-    public void update(CourseInstructor courseInstructor) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            courseInstructorDao.update(courseInstructor);
+    public CompletableFuture<long[]> insertAssessments(List<Assessment> assessments) {
+        return writes.submit("insertAssessments", () -> assessmentDao.insertAll(assessments), null);
+    }
+
+    public CompletableFuture<Void> updateTerms(List<Term> terms) {
+        return writes.run("updateTerms", () -> termDao.updateAll(terms), () -> {
+            for (Term term : terms)
+                termCache.invalidate(term.getId());
         });
     }
 
-    public void delete(Term term) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            termDao.delete(term);
+    public CompletableFuture<Void> updateCourses(List<Course> courses) {
+        return writes.run("updateCourses", () -> courseDao.updateAll(courses), () -> {
+            for (Course course : courses)
+                courseCache.invalidate(course.getId());
         });
     }
 
-    public void delete(Course course) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            courseDao.delete(course);
+    public CompletableFuture<Void> updateInstructors(List<CourseInstructor> courseInstructors) {
+        return writes.run("updateInstructors", () -> courseInstructorDao.updateAll(courseInstructors), () -> {
+            for (CourseInstructor courseInstructor : courseInstructors)
+                instructorCache.invalidate(courseInstructor.getId());
         });
     }
 
-    public void delete(CourseInstructor courseInstructor) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            courseInstructorDao.delete(courseInstructor);
+    public CompletableFuture<Void> updateAssessments(List<Assessment> assessments) {
+        return writes.run("updateAssessments", () -> assessmentDao.updateAll(assessments), null);
+    }
+
+    public CompletableFuture<Void> deleteTerms(List<Integer> termIds) {
+        return writes.run("deleteTerms", () -> {
+            for (List<Integer> chunk : chunk(termIds))
+                termDao.deleteAll(chunk);
+        }, () -> {
+            for (int id : termIds)
+                termCache.invalidate(id);
         });
     }
 
-    public void delete(Assessment assessment) {
-        ScheduleRoomDatabase.databaseWriteExecutor.execute(() -> {
-            assessmentDao.delete(assessment);
+    public CompletableFuture<Void> deleteCourses(List<Integer> courseIds) {
+        return writes.run("deleteCourses", () -> {
+            for (List<Integer> chunk : chunk(courseIds))
+                courseDao.deleteAll(chunk);
+        }, () -> {
+            for (int id : courseIds)
+                courseCache.invalidate(id);
         });
     }
 
+    public CompletableFuture<Void> deleteInstructors(List<Integer> instructorIds) {
+        return writes.run("deleteInstructors", () -> {
+            for (List<Integer> chunk : chunk(instructorIds))
+                courseInstructorDao.deleteAll(chunk);
+        }, () -> {
+            for (int id : instructorIds)
+                instructorCache.invalidate(id);
+        });
+    }
+
+    public CompletableFuture<Void> deleteAssessments(List<Integer> assessmentIds) {
+        return writes.run("deleteAssessments", () -> {
+            for (List<Integer> chunk : chunk(assessmentIds))
+                assessmentDao.deleteAll(chunk);
+        }, null);
+    }
+
+    /**
+     * Sets an alert, replacing any alert of the same kind for the same course or assessment.
+     *
+     * @param alert The alert
+     * @return A future that completes with the alert's row ID once it is saved and scheduled
+     */
+    public CompletableFuture<Long> setAlert(Alert alert) {
+        return writes.submit("setAlert", () -> alertDao.insert(alert), this::scheduleNextAlert);
+    }
+
+    public CompletableFuture<Void> cancelAlert(int kind, int targetId) {
+        return writes.run("cancelAlert", () -> alertDao.delete(kind, targetId), this::scheduleNextAlert);
+    }
+
+    /**
+     * Removes the alerts that are due and schedules the alarm for the next one.
+     *
+     * <p> Alerts for courses and assessments that have been deleted are dropped first, so they
+     * are never shown. </p>
+     * @param now The current time, in milliseconds since the epoch
+     * @return A future that completes with the alerts that are due, to be shown
+     */
+    public CompletableFuture<List<Alert>> takeDueAlerts(long now) {
+        return writes.submit("takeDueAlerts", () -> {
+            alertDao.deleteOrphanedAlerts();
+            List<Alert> due = alertDao.getDueAlerts(now);
+            alertDao.deleteDueAlerts(now);
+            return due;
+        }, this::scheduleNextAlert);
+    }
+
+    /**
+     * Registers the alarm for the next alert again, such as after the device restarts.
+     *
+     * @return A future that completes once the alarm is registered
+     */
+    public CompletableFuture<Void> rescheduleAlerts() {
+        return writes.run("rescheduleAlerts", alertDao::deleteOrphanedAlerts, this::scheduleNextAlert);
+    }
+
+    /**
+     * Registers the alarm for the alert that is due first. Runs after the write that changed the
+     * alerts, on the write thread, so it always sees the alerts in the order they were written.
+     */
+    private void scheduleNextAlert() {
+        alarms.schedule(QueryMetrics.time("getNextAlert", () -> alertDao.getNextAlert()));
+    }
+
+    public LiveData<List<Alert>> getCourseAlerts(int courseId) {
+        return alertDao.getCourseAlerts(courseId);
+    }
+
+    public LiveData<List<Alert>> getAssessmentAlerts(int assessmentId) {
+        return alertDao.getAssessmentAlerts(assessmentId);
+    }
+
+    /**
+     * Splits a list of IDs into lists no longer than MAX_BIND_VARIABLES.
+     *
+     * @param ids The IDs to split
+     * @return The IDs split into chunks, in their original order
+     */
+    private static List<List<Integer>> chunk(List<Integer> ids) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += MAX_BIND_VARIABLES) {
+            chunks.add(ids.subList(i, Math.min(i + MAX_BIND_VARIABLES, ids.size())));
+        }
+        return chunks;
+    }
+
     public LiveData<List<Assessment>> getAssessmentsForCourse(int courseId) {
         return assessmentDao.getAssessmentsForCourse(courseId);
     }
@@ -170,6 +609,17 @@ public class ScheduleRepository {
         return courseInstructorDao.getLiveInstructor(instructorId);
     }
 
+    /**
+     * Gets a course joined with its instructor, updated when either row changes.
+     *
+     * @param courseId The ID of the course
+     * @return LiveData that emits once for each change to the course or its instructor
+     */
+    public LiveData<CourseWithInstructor> getCourseWithInstructor(int courseId) {
+        return new CourseWithInstructorLiveData(courseDao.getLiveCourse(courseId),
+                courseInstructorDao::getLiveInstructor);
+    }
+
     public LiveData<Term> getLiveTerm(int termId) {
         return termDao.getLiveTerm(termId);
     }
@@ -179,18 +629,105 @@ public class ScheduleRepository {
     }
 
     public List<Course> getCoursesForTermNotLive(int termId) {
-        return courseDao.getCoursesForTermNotLive(termId);
+        return QueryMetrics.time("getCoursesForTermNotLive",
+                () -> courseDao.getCoursesForTermNotLive(termId));
     }
 
     public List<Term> getAllTermsNonLive() {
-        return termDao.getAllTermsNonLive();
+        return QueryMetrics.time("getAllTermsNonLive", () -> termDao.getAllTermsNonLive());
     }
 
     public List<Course> getAllCoursesNonLive() {
-        return courseDao.getAllCoursesNonLive();
+        return QueryMetrics.time("getAllCoursesNonLive", () -> courseDao.getAllCoursesNonLive());
     }
 
     public List<CourseInstructor> getAllInstructorsNonLive() {
-        return courseInstructorDao.getAllInstructorsNonLive();
+        return QueryMetrics.time("getAllInstructorsNonLive",
+                () -> courseInstructorDao.getAllInstructorsNonLive());
+    }
+
+    /**
+     * Gets the given terms together with the titles of their courses.
+     *
+     * <p> This should be called on a background thread. Long lists of IDs are read in chunks,
+     * all in one transaction so the result is consistent. </p>
+     * @param termIds The IDs of the terms
+     * @return The terms with their course titles
+     */
+    public List<TermWithCourses> getTermsWithCourses(List<Integer> termIds) {
+        return QueryMetrics.time("getTermsWithCourses", () -> database.runInTransaction(() -> {
+            List<TermWithCourses> termsWithCourses = new ArrayList<>();
+            for (List<Integer> chunk : chunk(termIds))
+                termsWithCourses.addAll(termDao.getTermsWithCourses(chunk));
+            return termsWithCourses;
+        }));
+    }
+
+    /**
+     * Searches the terms, courses, assessments, and course instructors.
+     *
+     * <p> This should be called on a background thread. Each word of the text is matched as a
+     * prefix, and every word has to match for a row to be found. The results are ranked by the
+     * query, see SearchQuery, so that matches in a title or name come first, then by how rare the
+     * matched words are. </p>
+     * @param text The text the user searched for
+     * @return The best matching results, best first, or an empty list if the text has no words
+     */
+    public List<SearchResult> search(String text) {
+        SupportSQLiteQuery query = SearchQuery.create(text, SEARCH_RESULTS);
+        if (query == null)
+            return new ArrayList<>();
+
+        return QueryMetrics.time("search", () -> searchDao.search(query));
+    }
+
+    /**
+     * Searches as the query changes.
+     *
+     * <p> A search is only run once the query has stopped changing for SEARCH_DEBOUNCE_MS, so
+     * typing a word runs one search instead of one per letter. If the query changes while a search
+     * is running, that search's results are dropped so older results never replace newer ones.
+     * If the read pool is full, the search is tried again after the same delay, unless the query
+     * has changed by then. </p>
+     * @param queries The text the user is searching for
+     * @return The results for the latest query
+     */
+    public LiveData<List<SearchResult>> search(LiveData<String> queries) {
+        MediatorLiveData<List<SearchResult>> results = new MediatorLiveData<>();
+        Handler handler = new Handler(Looper.getMainLooper());
+        AtomicInteger generation = new AtomicInteger();
+
+        results.addSource(queries, text -> {
+            int current = generation.incrementAndGet();
+            handler.removeCallbacksAndMessages(null);
+
+            if (!SearchQuery.hasTerms(text)) {
+                results.setValue(new ArrayList<>());
+                return;
+            }
+
+            handler.postDelayed(new Runnable() {
+                @Override
+                public void run() {
+                    if (generation.get() != current)
+                        return;
+                    try {
+                        executors.diskRead().execute(() -> {
+                            if (generation.get() != current)
+                                return;
+                            List<SearchResult> found = search(text);
+                            if (generation.get() == current)
+                                results.postValue(found);
+                        });
+                    } catch (RejectedExecutionException e) {
+                        // The read pool is full. No newer query may come to replace the results
+                        // shown, so try again once the pool has had time to drain.
+                        Log.w(TAG, "Search rejected, trying again", e);
+                        handler.postDelayed(this, SEARCH_DEBOUNCE_MS);
+                    }
+                }
+            }, SEARCH_DEBOUNCE_MS);
+        });
+        return results;
     }
 }
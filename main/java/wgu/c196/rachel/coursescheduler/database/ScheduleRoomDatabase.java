@@ -7,27 +7,38 @@ import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
 import androidx.room.TypeConverters;
+import androidx.room.migration.Migration;
 import androidx.sqlite.db.SupportSQLiteDatabase;
 
-import java.time.LocalDate;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
+import wgu.c196.rachel.coursescheduler.dao.AgendaDao;
+import wgu.c196.rachel.coursescheduler.dao.AlertDao;
 import wgu.c196.rachel.coursescheduler.dao.AssessmentDao;
+import wgu.c196.rachel.coursescheduler.dao.CalendarDao;
 import wgu.c196.rachel.coursescheduler.dao.CourseDao;
 import wgu.c196.rachel.coursescheduler.dao.CourseInstructorDao;
+import wgu.c196.rachel.coursescheduler.dao.SearchDao;
 import wgu.c196.rachel.coursescheduler.dao.TermDao;
+import wgu.c196.rachel.coursescheduler.model.Alert;
 import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.model.AssessmentFts;
 import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.model.CourseFts;
 import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.CourseInstructorFts;
 import wgu.c196.rachel.coursescheduler.model.Term;
+import wgu.c196.rachel.coursescheduler.model.TermFts;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
+import wgu.c196.rachel.coursescheduler.util.StartupTrace;
 
 /**
  * Class that builds the SQLite database in the Room style.
  */
 // entities: the model tables that will be in the database
-@Database(entities = {Term.class, Course.class, CourseInstructor.class, Assessment.class},
-        version = 1, exportSchema = false)
+// The schemas are not exported, so MigrationTest builds its version 1 database by hand and lets
+// Room check the migrated tables against the entities when it opens it.
+@Database(entities = {Term.class, Course.class, CourseInstructor.class, Assessment.class,
+        TermFts.class, CourseFts.class, CourseInstructorFts.class, AssessmentFts.class, Alert.class},
+        version = 6, exportSchema = false)
 @TypeConverters({DatabaseConverter.class})
 public abstract class ScheduleRoomDatabase extends RoomDatabase {
 
@@ -35,100 +46,210 @@ public abstract class ScheduleRoomDatabase extends RoomDatabase {
     public abstract CourseDao courseDao();
     public abstract AssessmentDao assessmentDao();
     public abstract CourseInstructorDao courseInstructorDao();
-
-    // The number of threads the database can operate on
-    public static final int NUMBER_OF_THREADS = 4;
+    public abstract SearchDao searchDao();
+    public abstract AgendaDao agendaDao();
+    public abstract AlertDao alertDao();
+    public abstract CalendarDao calendarDao();
 
     // Holds the instance of the database. There should only be one instance of the database in the program.
     private static volatile ScheduleRoomDatabase INSTANCE;
 
-    public static final ExecutorService databaseWriteExecutor =
-            Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+    /**
+     * Migration from version 1 to version 2.
+     *
+     * <p> Version 2 adds indices on the foreign key columns of the course and assessment tables,
+     * so that looking up the courses of a term or instructor, the assessments of a course, and
+     * cascading deletes no longer need to scan the whole child table. </p>
+     */
+    static final Migration MIGRATION_1_2 = new Migration(1, 2) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_course_table_term_id` " +
+                    "ON `course_table` (`term_id`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_course_table_course_instructor` " +
+                    "ON `course_table` (`course_instructor`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_assessment_table_course_id` " +
+                    "ON `assessment_table` (`course_id`)");
+        }
+    };
 
-    // This callback creates test data in the database if the database has not already been created
-    private static final RoomDatabase.Callback sRoomDatabaseCallback =
+    /**
+     * Migration from version 2 to version 3.
+     *
+     * <p> Version 3 adds the full-text search tables. Each one indexes the text columns of its
+     * content table and is kept up to date by the same triggers Room creates for a new database,
+     * then it is rebuilt once from the rows that already exist. </p>
+     */
+    static final Migration MIGRATION_2_3 = new Migration(2, 3) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            createFtsTable(database, "term_fts", "term_table", "title");
+            createFtsTable(database, "course_fts", "course_table", "title", "note");
+            createFtsTable(database, "assessment_fts", "assessment_table", "title");
+            createFtsTable(database, "course_instructor_fts", "course_instructor_table",
+                    "name", "phone_number", "email");
+        }
+    };
+
+    /**
+     * Creates an FTS4 table over a content table, along with its sync triggers.
+     *
+     * <p> The table and trigger definitions match what Room generates for an @Fts4 entity with a
+     * content entity, so a migrated database passes Room's schema validation. </p>
+     * @param database The database being migrated
+     * @param ftsTable The name of the FTS table
+     * @param contentTable The name of the table being indexed
+     * @param columns The columns of the content table to index
+     */
+    private static void createFtsTable(SupportSQLiteDatabase database, String ftsTable,
+                                       String contentTable, String... columns) {
+        StringBuilder definitions = new StringBuilder();
+        for (String column : columns)
+            definitions.append('`').append(column).append("` TEXT, ");
+
+        database.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `" + ftsTable + "` USING FTS4(" +
+                definitions + "content=`" + contentTable + "`)");
+        createFtsTriggers(database, ftsTable, contentTable, columns);
+        database.execSQL("INSERT INTO `" + ftsTable + "`(`" + ftsTable + "`) VALUES('rebuild')");
+    }
+
+    /**
+     * Creates the triggers that keep an FTS table in sync with its content table.
+     *
+     * @param database The database being migrated
+     * @param ftsTable The name of the FTS table
+     * @param contentTable The name of the table being indexed
+     * @param columns The columns of the content table that are indexed
+     */
+    private static void createFtsTriggers(SupportSQLiteDatabase database, String ftsTable,
+                                          String contentTable, String... columns) {
+        StringBuilder names = new StringBuilder();
+        StringBuilder values = new StringBuilder();
+        for (String column : columns) {
+            names.append(", `").append(column).append('`');
+            values.append(", NEW.`").append(column).append('`');
+        }
+
+        String prefix = "CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_" + ftsTable;
+        String delete = " BEGIN DELETE FROM `" + ftsTable + "` WHERE `docid`=OLD.`rowid`; END";
+        String insert = " BEGIN INSERT INTO `" + ftsTable + "`(`docid`" + names +
+                ") VALUES (NEW.`rowid`" + values + "); END";
+        database.execSQL(prefix + "_BEFORE_UPDATE BEFORE UPDATE ON `" + contentTable + "`" + delete);
+        database.execSQL(prefix + "_BEFORE_DELETE BEFORE DELETE ON `" + contentTable + "`" + delete);
+        database.execSQL(prefix + "_AFTER_UPDATE AFTER UPDATE ON `" + contentTable + "`" + insert);
+        database.execSQL(prefix + "_AFTER_INSERT AFTER INSERT ON `" + contentTable + "`" + insert);
+    }
+
+    /**
+     * Migration from version 3 to version 4.
+     *
+     * <p> Version 4 stores a course's status and an assessment's type as small integer codes
+     * instead of their enum names. SQLite cannot change a column's type, so both tables are
+     * rebuilt: the rows are copied into a new table with each name mapped to its code, keeping
+     * their IDs, then the new table replaces the old one and its indices and search triggers are
+     * created again. Foreign keys are only turned on once the database is open, after migrations
+     * have run, so dropping the old course table does not cascade to the assessments. </p>
+     */
+    static final Migration MIGRATION_3_4 = new Migration(3, 4) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // The codes are written out here rather than read from the enums, so this migration
+            // keeps doing the same thing if the enums change later.
+            database.execSQL("CREATE TABLE IF NOT EXISTS `course_table_new` (" +
+                    "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `title` TEXT, " +
+                    "`start_date` INTEGER, `end_date` INTEGER, `status` INTEGER, " +
+                    "`course_instructor` INTEGER NOT NULL, `note` TEXT, `term_id` INTEGER NOT NULL, " +
+                    "FOREIGN KEY(`term_id`) REFERENCES `term_table`(`id`) " +
+                    "ON UPDATE NO ACTION ON DELETE CASCADE , " +
+                    "FOREIGN KEY(`course_instructor`) REFERENCES `course_instructor_table`(`id`) " +
+                    "ON UPDATE NO ACTION ON DELETE SET NULL )");
+            database.execSQL("INSERT INTO `course_table_new` (`id`, `title`, `start_date`, " +
+                    "`end_date`, `status`, `course_instructor`, `note`, `term_id`) " +
+                    "SELECT `id`, `title`, `start_date`, `end_date`, " +
+                    "CASE `status` WHEN 'IN_PROGRESS' THEN 1 WHEN 'COMPLETED' THEN 2 " +
+                    "WHEN 'DROPPED' THEN 3 WHEN 'PLAN_TO_TAKE' THEN 4 ELSE NULL END, " +
+                    "`course_instructor`, `note`, `term_id` FROM `course_table`");
+            database.execSQL("DROP TABLE `course_table`");
+            database.execSQL("ALTER TABLE `course_table_new` RENAME TO `course_table`");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_course_table_term_id` " +
+                    "ON `course_table` (`term_id`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_course_table_course_instructor` " +
+                    "ON `course_table` (`course_instructor`)");
+            createFtsTriggers(database, "course_fts", "course_table", "title", "note");
+
+            database.execSQL("CREATE TABLE IF NOT EXISTS `assessment_table_new` (" +
+                    "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `title` TEXT, " +
+                    "`type` INTEGER, `start_date` INTEGER, `end_date` INTEGER, " +
+                    "`course_id` INTEGER NOT NULL, " +
+                    "FOREIGN KEY(`course_id`) REFERENCES `course_table`(`id`) " +
+                    "ON UPDATE NO ACTION ON DELETE CASCADE )");
+            database.execSQL("INSERT INTO `assessment_table_new` (`id`, `title`, `type`, " +
+                    "`start_date`, `end_date`, `course_id`) " +
+                    "SELECT `id`, `title`, " +
+                    "CASE `type` WHEN 'PERFORMANCE' THEN 1 WHEN 'OBJECTIVE' THEN 2 ELSE NULL END, " +
+                    "`start_date`, `end_date`, `course_id` FROM `assessment_table`");
+            database.execSQL("DROP TABLE `assessment_table`");
+            database.execSQL("ALTER TABLE `assessment_table_new` RENAME TO `assessment_table`");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_assessment_table_course_id` " +
+                    "ON `assessment_table` (`course_id`)");
+            createFtsTriggers(database, "assessment_fts", "assessment_table", "title");
+        }
+    };
+
+    /**
+     * Migration from version 4 to version 5.
+     *
+     * <p> Version 5 adds indices on the start and end dates of the course and assessment tables,
+     * so the agenda can read the rows in a date range in date order straight from an index
+     * instead of scanning and sorting the whole table. </p>
+     */
+    static final Migration MIGRATION_4_5 = new Migration(4, 5) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_course_table_start_date` " +
+                    "ON `course_table` (`start_date`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_course_table_end_date` " +
+                    "ON `course_table` (`end_date`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_assessment_table_start_date` " +
+                    "ON `assessment_table` (`start_date`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_assessment_table_end_date` " +
+                    "ON `assessment_table` (`end_date`)");
+        }
+    };
+
+    /**
+     * Migration from version 5 to version 6.
+     *
+     * <p> Version 6 adds the alert table. Alerts used to be kept only as alarms registered with
+     * the system, which cannot be read back, so alerts set before this version are not carried
+     * over and go off once more at most. </p>
+     */
+    static final Migration MIGRATION_5_6 = new Migration(5, 6) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `alert_table` (" +
+                    "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `kind` INTEGER NOT NULL, " +
+                    "`target_id` INTEGER NOT NULL, `trigger_at` INTEGER NOT NULL, `message` TEXT)");
+            database.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_alert_table_kind_target_id` " +
+                    "ON `alert_table` (`kind`, `target_id`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_alert_table_trigger_at` " +
+                    "ON `alert_table` (`trigger_at`)");
+        }
+    };
+
+    /**
+     * Every migration, in the order they run.
+     */
+    static final Migration[] MIGRATIONS = {MIGRATION_1_2, MIGRATION_2_3, MIGRATION_3_4,
+            MIGRATION_4_5, MIGRATION_5_6};
+
+    // Marks when the database is first opened, on the thread that opened it, for StartupTrace
+    private static final RoomDatabase.Callback sStartupCallback =
             new RoomDatabase.Callback() {
                 @Override
-                public void onCreate(@NonNull SupportSQLiteDatabase db) {
-                    super.onCreate(db);
-
-                    databaseWriteExecutor.execute(() -> {
-                        TermDao termDao = INSTANCE.termDao();
-
-                        //create tables/database
-
-                        termDao.insert(new Term("Term 1", LocalDate.now().plusDays(1), LocalDate.now().plusDays(2)));
-                        termDao.insert(new Term("Term 2", LocalDate.now(), LocalDate.now()));
-                        termDao.insert(new Term("Term 3", LocalDate.now(), LocalDate.now()));
-                        termDao.insert(new Term("Term 4", LocalDate.now(), LocalDate.now()));
-                        termDao.insert(new Term("Term 5", LocalDate.now(), LocalDate.now()));
-
-                        Term term = new Term();
-                        term.setTitle("Test6");
-                        termDao.insert(term);
-
-                        CourseInstructorDao courseInstructorDao = INSTANCE.courseInstructorDao();
-                        courseInstructorDao.insert(new CourseInstructor("Wooyoung", "111-1111", "wy@ateez"));
-                        courseInstructorDao.insert(new CourseInstructor("San", "222-1111", "san@ateez"));
-                        courseInstructorDao.insert(new CourseInstructor("Hongjoong", "333-1111", "leader@ateez"));
-                        courseInstructorDao.insert(new CourseInstructor("Seonghwa", "444-1111", "sh@ateez"));
-//                        courseInstructorDao.insert(new CourseInstructor());
-
-                        CourseDao courseDao = INSTANCE.courseDao();
-
-                        Course course = new Course();
-                        course.setTitle("Dancing");
-                        course.setCourseInstructorId(1);
-                        course.setTermId(1);
-                        course.setStatus(Course.Status.IN_PROGRESS);
-                        course.setStartDate(LocalDate.now());
-                        course.setEndDate(LocalDate.now().plusDays(3));
-                        course.setNote("A note");
-                        courseDao.insert(course);
-
-                        course = new Course();
-                        course.setTitle("Singing");
-                        course.setCourseInstructorId(2);
-                        course.setTermId(1);
-                        course.setStatus(Course.Status.IN_PROGRESS);
-                        course.setStartDate(LocalDate.now());
-                        course.setEndDate(LocalDate.now().plusDays(5));
-                        course.setNote("This is just a short note.");
-                        courseDao.insert(course);
-
-                        course = new Course();
-                        course.setTitle("Rap");
-                        course.setCourseInstructorId(3);
-                        course.setTermId(1);
-                        course.setStatus(Course.Status.PLAN_TO_TAKE);
-                        courseDao.insert(course);
-
-                        course = new Course();
-                        course.setTitle("Cleaning");
-                        course.setCourseInstructorId(4);
-                        course.setTermId(1);
-                        course.setStatus(Course.Status.COMPLETED);
-                        courseDao.insert(course);
-
-//                        course = new Course();
-//                        course.setTitle("Test");
-//                        course.setCourseInstructorId(5);
-//                        course.setTermId(1);
-//                        courseDao.insert(course);
-
-                        AssessmentDao assessmentDao = INSTANCE.assessmentDao();
-                        assessmentDao.insert(new Assessment("Test1", Assessment.Type.OBJECTIVE, LocalDate.now(), LocalDate.now(), 1));
-                        assessmentDao.insert(new Assessment("Test2", Assessment.Type.PERFORMANCE, LocalDate.now(), LocalDate.now(), 1));
-                        assessmentDao.insert(new Assessment("Test3", Assessment.Type.OBJECTIVE, LocalDate.now(), LocalDate.now(), 2));
-                        assessmentDao.insert(new Assessment("Test4", Assessment.Type.PERFORMANCE, LocalDate.now(), LocalDate.now(), 2));
-                        assessmentDao.insert(new Assessment("Test5", Assessment.Type.OBJECTIVE, LocalDate.now(), LocalDate.now(), 3));
-                        assessmentDao.insert(new Assessment("Test6", Assessment.Type.PERFORMANCE, LocalDate.now(), LocalDate.now(), 3));
-                        assessmentDao.insert(new Assessment("Test7", Assessment.Type.OBJECTIVE, LocalDate.now(), LocalDate.now(), 1));
-                        assessmentDao.insert(new Assessment("Test8", Assessment.Type.PERFORMANCE, LocalDate.now(), LocalDate.now(), 1));
-                        assessmentDao.insert(new Assessment("Test9", Assessment.Type.OBJECTIVE, LocalDate.now(), LocalDate.now(), 1));
-
-
-                    });
+                public void onOpen(@NonNull SupportSQLiteDatabase db) {
+                    super.onOpen(db);
+                    StartupTrace.mark(StartupTrace.DATABASE_OPEN);
                 }
             };
 
@@ -150,14 +271,34 @@ public abstract class ScheduleRoomDatabase extends RoomDatabase {
                 if (INSTANCE == null) {
 
                     // Create an instance of the database
-                    INSTANCE = Room.databaseBuilder(context.getApplicationContext(),
-                            ScheduleRoomDatabase.class, "term_database")
-                            .addCallback(sRoomDatabaseCallback)  // Could be commented out if you don't need the callback method, Callbacks are executed after the database is built. Then it goes back and calls the callbacks
-                            .build();
+                    INSTANCE = StartupTrace.section(StartupTrace.DATABASE_BUILD, () ->
+                            DatabaseSeeder.seed(builder(context, "term_database"), context,
+                                    DatabaseSeeder.getMode(context))
+                                    .addCallback(sStartupCallback)
+                                    .build());
                 }
             }
         }
         return INSTANCE;
     }
 
+    /**
+     * Creates a builder for the database with its migrations and executors.
+     *
+     * <p> getDatabase() adds how a new database is filled, see DatabaseSeeder. The benchmarks
+     * in the unit tests build their own instances from this without it. </p>
+     * @param context The context calling the database
+     * @param name The name of the database file
+     * @return The builder
+     */
+    static RoomDatabase.Builder<ScheduleRoomDatabase> builder(Context context, String name) {
+        return Room.databaseBuilder(context.getApplicationContext(), ScheduleRoomDatabase.class, name)
+                .addMigrations(MIGRATIONS)
+                // Counts each statement on the thread running it, see QueryMetrics
+                .setQueryCallback(QueryMetrics::onQuery, Runnable::run)
+                // LiveData and paged queries are submitted from the main thread, so they run on a
+                // pool that never rejects them, see AppExecutors
+                .setQueryExecutor(AppExecutors.getInstance().roomQueries());
+    }
+
 }
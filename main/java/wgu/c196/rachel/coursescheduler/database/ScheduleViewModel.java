@@ -1,70 +1,243 @@
 package wgu.c196.rachel.coursescheduler.database;
 
 import android.app.Application;
+import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.ViewModelKt;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntFunction;
 
-import wgu.c196.rachel.coursescheduler.database.ScheduleRepository;
+import wgu.c196.rachel.coursescheduler.model.Alert;
 import wgu.c196.rachel.coursescheduler.model.Assessment;
 import wgu.c196.rachel.coursescheduler.model.Course;
 import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.CourseListItem;
+import wgu.c196.rachel.coursescheduler.model.CourseWithInstructor;
+import wgu.c196.rachel.coursescheduler.model.SearchResult;
 import wgu.c196.rachel.coursescheduler.model.Term;
+import wgu.c196.rachel.coursescheduler.model.TermWithCourses;
+import wgu.c196.rachel.coursescheduler.util.AppExecutors;
 
 /**
  * View Model for the database.
  *
  * <p> This class allows access between the GUI and the database. It manages data from the repository.
  * the AndroidViewModel survives screen rotation, and so is more efficient than just calling the
- * repository. </p>
+ * repository. Each screen gets its own instance with new ViewModelProvider(this), so the
+ * instance is kept while the screen is recreated or in the back stack, and cleared when it is
+ * popped. </p>
+ *
+ * <p> Each LiveData is created the first time it is asked for and then kept in its own field, so a
+ * screen whose view is created again observes the same LiveData again and is given its last value
+ * without running the query again. A LiveData for a row or an ID is kept for the last ID asked
+ * for, since a screen only shows one. The LiveData should only be asked for on the main
+ * thread. </p>
  */
 // "The ViewModel is designed to store and manage UI-related data in a lifecycle conscious way."
 public class ScheduleViewModel extends AndroidViewModel {
-
-    private static ScheduleRepository repository;
+    private static final String TAG = "ScheduleViewModel";
+
+    /**
+     * The states of the calendar export.
+     */
+    public enum ExportState {
+        IDLE, RUNNING, DONE, FAILED
+    }
+
+    private final ScheduleRepository repository;
+
+    // The LiveData handed out so far, each created the first time it is asked for
+    private LiveData<List<Term>> allTerms;
+    private LiveData<List<Course>> allCourses;
+    private LiveData<List<CourseInstructor>> allInstructors;
+    private LiveData<List<Assessment>> allAssessments;
+    private LiveData<PagingData<Term>> pagedTerms;
+    private LiveData<PagingData<CourseListItem>> pagedCourses;
+    private LiveData<PagingData<Assessment>> pagedAssessments;
+    private LiveData<PagingData<CourseInstructor>> pagedInstructors;
+
+    private final ForId<LiveData<List<Course>>> coursesForTerm = new ForId<>();
+    private final ForId<LiveData<PagingData<CourseListItem>>> pagedCoursesForTerm = new ForId<>();
+    private final ForId<LiveData<PagingData<Assessment>>> pagedAssessmentsForCourse = new ForId<>();
+    private final ForId<AgendaLiveData> agenda = new ForId<>();
+    private final ForId<LiveData<List<Assessment>>> assessmentsForCourse = new ForId<>();
+    private final ForId<LiveData<Assessment>> liveAssessment = new ForId<>();
+    private final ForId<LiveData<CourseInstructor>> liveInstructor = new ForId<>();
+    private final ForId<LiveData<Term>> liveTerm = new ForId<>();
+    private final ForId<LiveData<Course>> liveCourse = new ForId<>();
+    private final ForId<LiveData<List<Alert>>> courseAlerts = new ForId<>();
+    private final ForId<LiveData<List<Alert>>> assessmentAlerts = new ForId<>();
+    private final ForId<LiveData<CourseWithInstructor>> courseWithInstructor = new ForId<>();
+
+    // The text being searched for, and the results for it. The results are kept here so that
+    // they survive rotating the search screen.
+    private final MutableLiveData<String> searchQuery = new MutableLiveData<>();
+    private LiveData<List<SearchResult>> searchResults;
+
+    // The state of the calendar export. It is kept here so that an export that finishes while the
+    // home page is being recreated is delivered to its new view.
+    private final MutableLiveData<ExportState> exportState = new MutableLiveData<>(ExportState.IDLE);
 
     public ScheduleViewModel(@NonNull Application application) {
         super(application);
-        repository = new ScheduleRepository(application);
+        repository = ScheduleRepository.getInstance(application);
     }
 
     public LiveData<List<Term>> getAllTerms() {
-        return repository.getAllTerms();
+        if (allTerms == null)
+            allTerms = repository.getAllTerms();
+        return allTerms;
     }
 
     public LiveData<List<Course>> getAllCourses() {
-        return repository.getAllCourses();
+        if (allCourses == null)
+            allCourses = repository.getAllCourses();
+        return allCourses;
     }
 
     public LiveData<List<CourseInstructor>> getAllInstructors() {
-        return repository.getAllInstructors();
+        if (allInstructors == null)
+            allInstructors = repository.getAllInstructors();
+        return allInstructors;
     }
 
     public LiveData<List<Assessment>> getAllAssessments() {
-        return repository.getAllAssessments();
+        if (allAssessments == null)
+            allAssessments = repository.getAllAssessments();
+        return allAssessments;
     }
 
     public LiveData<List<Course>> getCoursesForTerm(int termId) {
-        return repository.getCoursesForTerm(termId);
+        return coursesForTerm.get(termId, repository::getCoursesForTerm);
+    }
+
+    // The paged lists are also cached in the view model's scope, so that an observer that
+    // re-subscribes gets the pages that are already loaded instead of querying again.
+
+    public LiveData<PagingData<Term>> getPagedTerms() {
+        if (pagedTerms == null)
+            pagedTerms = PagingLiveData.cachedIn(repository.getPagedTerms(),
+                    ViewModelKt.getViewModelScope(this));
+        return pagedTerms;
+    }
+
+    public LiveData<PagingData<CourseListItem>> getPagedCourses() {
+        if (pagedCourses == null)
+            pagedCourses = PagingLiveData.cachedIn(repository.getPagedCourses(),
+                    ViewModelKt.getViewModelScope(this));
+        return pagedCourses;
+    }
+
+    public LiveData<PagingData<CourseListItem>> getPagedCoursesForTerm(int termId) {
+        return pagedCoursesForTerm.get(termId, id -> PagingLiveData.cachedIn(
+                repository.getPagedCoursesForTerm(id), ViewModelKt.getViewModelScope(this)));
+    }
+
+    public LiveData<PagingData<Assessment>> getPagedAssessments() {
+        if (pagedAssessments == null)
+            pagedAssessments = PagingLiveData.cachedIn(repository.getPagedAssessments(),
+                    ViewModelKt.getViewModelScope(this));
+        return pagedAssessments;
+    }
+
+    public LiveData<PagingData<Assessment>> getPagedAssessmentsForCourse(int courseId) {
+        return pagedAssessmentsForCourse.get(courseId, id -> PagingLiveData.cachedIn(
+                repository.getPagedAssessmentsForCourse(id), ViewModelKt.getViewModelScope(this)));
+    }
+
+    public LiveData<PagingData<CourseInstructor>> getPagedInstructors() {
+        if (pagedInstructors == null)
+            pagedInstructors = PagingLiveData.cachedIn(repository.getPagedInstructors(),
+                    ViewModelKt.getViewModelScope(this));
+        return pagedInstructors;
+    }
+
+    public AgendaLiveData getAgenda(int days) {
+        return agenda.get(days, repository::getAgenda);
+    }
+
+    public LiveData<ExportState> getExportState() {
+        return exportState;
     }
 
-    public void insert(Term term) {
-        repository.insert(term);
+    /**
+     * Exports the calendar to a file in the background, unless an export is already running.
+     *
+     * <p> The export runs on the read pool, apart from any activity, and its result is posted to
+     * getExportState(). An error reading the database fails the export the same way an error
+     * writing the file does. Must be called on the main thread. </p>
+     * @param file The file to write, which is replaced if it exists
+     */
+    public void exportCalendar(File file) {
+        if (exportState.getValue() == ExportState.RUNNING)
+            return;
+
+        exportState.setValue(ExportState.RUNNING);
+        try {
+            AppExecutors.getInstance().diskRead().execute(() -> {
+                try {
+                    repository.exportCalendar(file);
+                    exportState.postValue(ExportState.DONE);
+                } catch (IOException | RuntimeException e) {
+                    Log.e(TAG, "Calendar export failed", e);
+                    exportState.postValue(ExportState.FAILED);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            Log.e(TAG, "Calendar export rejected", e);
+            exportState.setValue(ExportState.FAILED);
+        }
+    }
+
+    /**
+     * Marks the result of the export as shown, so it is not shown again when the home page is
+     * recreated. Must be called on the main thread.
+     */
+    public void onExportHandled() {
+        exportState.setValue(ExportState.IDLE);
+    }
+
+    public CompletableFuture<Long> insert(Term term) {
+        return repository.insert(term);
     }
 
-    public void insert(Course course) {
-        repository.insert(course);
+    public CompletableFuture<Long> insert(Course course) {
+        return repository.insert(course);
     }
 
-    public void insert(CourseInstructor courseInstructor) {
-        repository.insert(courseInstructor);
+    public CompletableFuture<Long> insert(CourseInstructor courseInstructor) {
+        return repository.insert(courseInstructor);
     }
 
-    public void insert(Assessment assessment) {
-        repository.insert(assessment);
+    public CompletableFuture<Long> insert(Assessment assessment) {
+        return repository.insert(assessment);
+    }
+
+    public CompletableFuture<Integer> upsert(Term term) {
+        return repository.upsert(term);
+    }
+
+    public CompletableFuture<Integer> upsert(Course course) {
+        return repository.upsert(course);
+    }
+
+    public CompletableFuture<Integer> upsert(CourseInstructor courseInstructor) {
+        return repository.upsert(courseInstructor);
+    }
+
+    public CompletableFuture<Integer> upsert(Assessment assessment) {
+        return repository.upsert(assessment);
     }
 
     public CourseInstructor getInstructorFromId(int id) {
@@ -95,56 +268,124 @@ public class ScheduleViewModel extends AndroidViewModel {
         return repository.getCourseInstructorSize();
     }
 
-    public void update(Term term) {
-        repository.update(term);
+    public CompletableFuture<Void> update(Term term) {
+        return repository.update(term);
+    }
+
+    public CompletableFuture<Void> update(Course course) {
+        return repository.update(course);
+    }
+
+    public CompletableFuture<Void> update(Assessment assessment) {
+        return repository.update(assessment);
+    }
+
+    public CompletableFuture<Void> update(CourseInstructor courseInstructor) {
+        return repository.update(courseInstructor);
     }
 
-    public void update(Course course) {
-        repository.update(course);
+    public CompletableFuture<Void> delete(Term term) {
+        return repository.delete(term);
     }
 
-    public void update(Assessment assessment) {
-        repository.update(assessment);
+    public CompletableFuture<Void> delete(Course course) {
+        return repository.delete(course);
     }
 
-    public void update(CourseInstructor courseInstructor) {
-        repository.update(courseInstructor);
+    public CompletableFuture<Void> delete(CourseInstructor courseInstructor) {
+        return repository.delete(courseInstructor);
     }
 
-    public void delete(Term term) {
-        repository.delete(term);
+    public CompletableFuture<Void> delete(Assessment assessment) {
+        return repository.delete(assessment);
     }
 
-    public void delete(Course course) {
-        repository.delete(course);
+    public CompletableFuture<long[]> insertTerms(List<Term> terms) {
+        return repository.insertTerms(terms);
     }
 
-    public void delete(CourseInstructor courseInstructor) {
-        repository.delete(courseInstructor);
+    public CompletableFuture<long[]> insertCourses(List<Course> courses) {
+        return repository.insertCourses(courses);
     }
 
-    public void delete(Assessment assessment) {
-        repository.delete(assessment);
+    public CompletableFuture<long[]> insertInstructors(List<CourseInstructor> courseInstructors) {
+        return repository.insertInstructors(courseInstructors);
+    }
+
+    public CompletableFuture<long[]> insertAssessments(List<Assessment> assessments) {
+        return repository.insertAssessments(assessments);
+    }
+
+    public CompletableFuture<Void> updateTerms(List<Term> terms) {
+        return repository.updateTerms(terms);
+    }
+
+    public CompletableFuture<Void> updateCourses(List<Course> courses) {
+        return repository.updateCourses(courses);
+    }
+
+    public CompletableFuture<Void> updateInstructors(List<CourseInstructor> courseInstructors) {
+        return repository.updateInstructors(courseInstructors);
+    }
+
+    public CompletableFuture<Void> updateAssessments(List<Assessment> assessments) {
+        return repository.updateAssessments(assessments);
+    }
+
+    public CompletableFuture<Void> deleteTerms(List<Integer> termIds) {
+        return repository.deleteTerms(termIds);
+    }
+
+    public CompletableFuture<Void> deleteCourses(List<Integer> courseIds) {
+        return repository.deleteCourses(courseIds);
+    }
+
+    public CompletableFuture<Void> deleteInstructors(List<Integer> instructorIds) {
+        return repository.deleteInstructors(instructorIds);
+    }
+
+    public CompletableFuture<Void> deleteAssessments(List<Integer> assessmentIds) {
+        return repository.deleteAssessments(assessmentIds);
     }
 
     public LiveData<List<Assessment>> getAssessmentsForCourse(int courseId) {
-        return repository.getAssessmentsForCourse(courseId);
+        return assessmentsForCourse.get(courseId, repository::getAssessmentsForCourse);
     }
 
     public LiveData<Assessment> getAssessmentFromId(int assessmentId) {
-        return repository.getAssessmentFromId(assessmentId);
+        return liveAssessment.get(assessmentId, repository::getAssessmentFromId);
     }
 
     public LiveData<CourseInstructor> getLiveInstructor(int instructorId) {
-        return repository.getLiveInstructor(instructorId);
+        return liveInstructor.get(instructorId, repository::getLiveInstructor);
     }
 
     public LiveData<Term> getLiveTerm(int termId) {
-        return repository.getLiveTerm(termId);
+        return liveTerm.get(termId, repository::getLiveTerm);
     }
 
     public LiveData<Course> getLiveCourse(int courseId) {
-        return repository.getLiveCourse(courseId);
+        return liveCourse.get(courseId, repository::getLiveCourse);
+    }
+
+    public CompletableFuture<Long> setAlert(Alert alert) {
+        return repository.setAlert(alert);
+    }
+
+    public CompletableFuture<Void> cancelAlert(int kind, int targetId) {
+        return repository.cancelAlert(kind, targetId);
+    }
+
+    public LiveData<List<Alert>> getCourseAlerts(int courseId) {
+        return courseAlerts.get(courseId, repository::getCourseAlerts);
+    }
+
+    public LiveData<List<Alert>> getAssessmentAlerts(int assessmentId) {
+        return assessmentAlerts.get(assessmentId, repository::getAssessmentAlerts);
+    }
+
+    public LiveData<CourseWithInstructor> getCourseWithInstructor(int courseId) {
+        return courseWithInstructor.get(courseId, repository::getCourseWithInstructor);
     }
 
     public List<Course> getCoursesForTermNotLive(int termId) {
@@ -162,4 +403,41 @@ public class ScheduleViewModel extends AndroidViewModel {
     public List<CourseInstructor> getAllInstructorsNonLive() {
         return repository.getAllInstructorsNonLive();
     }
+
+    public List<TermWithCourses> getTermsWithCourses(List<Integer> termIds) {
+        return repository.getTermsWithCourses(termIds);
+    }
+
+    public void setSearchQuery(String query) {
+        searchQuery.setValue(query);
+    }
+
+    public LiveData<List<SearchResult>> getSearchResults() {
+        if (searchResults == null)
+            searchResults = repository.search(searchQuery);
+        return searchResults;
+    }
+
+    /**
+     * A LiveData kept for the ID it was created for.
+     */
+    private static final class ForId<T> {
+        private int id;
+        private T value;
+
+        /**
+         * Gets the LiveData for an ID, creating it if there is none or it is for another ID.
+         *
+         * @param id The ID, such as a course's ID or a number of days
+         * @param create Creates the LiveData for the ID
+         * @return The LiveData for the ID
+         */
+        T get(int id, IntFunction<T> create) {
+            if (value == null || this.id != id) {
+                value = create.apply(id);
+                this.id = id;
+            }
+            return value;
+        }
+    }
 }
@@ -0,0 +1,201 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import androidx.sqlite.db.SimpleSQLiteQuery;
+import androidx.sqlite.db.SupportSQLiteQuery;
+
+import java.util.Locale;
+
+import wgu.c196.rachel.coursescheduler.model.SearchResult;
+
+/**
+ * Builds the full-text search over the term, course, assessment, and course instructor tables.
+ *
+ * <p> Each table is matched through its FTS index and joined back on rowid for the title. Every
+ * match is scored in SQL from its matchinfo(), and the results of all four tables are ordered by
+ * score before the limit is applied, so the rows returned are the best matches and not just the
+ * first ones found. A hit counts for more the fewer rows it occurs in, and a hit in the first
+ * column, the title or name, counts TITLE_WEIGHT times. </p>
+ *
+ * <p> The score has one sum for each word and column, so the SQL depends on the number of words.
+ * It is built once for each number of words and then reused, which lets SQLite reuse the compiled
+ * statement too. </p>
+ */
+public final class SearchQuery {
+
+    /**
+     * The most words of a query that are searched for.
+     */
+    public static final int MAX_TERMS = 8;
+
+    // A match in the title or name column counts for this many matches in any other column
+    private static final double TITLE_WEIGHT = 4.0;
+
+    private static final String HEX_DIGITS = "'0123456789ABCDEF'";
+
+    // The tables searched, and the number of columns each one indexes
+    private static final Source[] SOURCES = {
+            new Source(SearchResult.KIND_TERM, "term_fts", "term_table", "title", 1),
+            new Source(SearchResult.KIND_COURSE, "course_fts", "course_table", "title", 2),
+            new Source(SearchResult.KIND_ASSESSMENT, "assessment_fts", "assessment_table", "title", 1),
+            new Source(SearchResult.KIND_INSTRUCTOR, "course_instructor_fts", "course_instructor_table",
+                    "name", 3),
+    };
+
+    // The SQL for each number of words, built the first time it is needed
+    private static final String[] sqlByTerms = new String[MAX_TERMS + 1];
+
+    private SearchQuery() {
+    }
+
+    /**
+     * Creates the search for the text the user typed.
+     *
+     * <p> Each word of the text is matched as a prefix, and every word has to match for a row to
+     * be found. Only letters and digits are kept, so characters that mean something to the FTS
+     * query syntax, like quotes, hyphens, and asterisks, can never make the query invalid. </p>
+     * @param text The text the user typed
+     * @param limit The most results to return
+     * @return The query, which returns the best matches first, or null if the text has no words
+     */
+    public static SupportSQLiteQuery create(String text, int limit) {
+        String match = toMatchQuery(text);
+        if (match == null)
+            return null;
+
+        int terms = match.split(" ").length;
+        Object[] args = new Object[SOURCES.length + 1];
+        for (int i = 0; i < SOURCES.length; i++)
+            args[i] = match;
+        args[SOURCES.length] = limit;
+        return new SimpleSQLiteQuery(getSql(terms), args);
+    }
+
+    /**
+     * Checks whether text has any words to search for.
+     *
+     * @param text The text the user typed
+     * @return True if create() would return a query
+     */
+    public static boolean hasTerms(String text) {
+        return toMatchQuery(text) != null;
+    }
+
+    /**
+     * Turns the text the user typed into an FTS match query.
+     *
+     * @param text The text the user typed
+     * @return The match query, or null if the text has no words
+     */
+    private static String toMatchQuery(String text) {
+        if (text == null)
+            return null;
+
+        StringBuilder query = new StringBuilder();
+        int terms = 0;
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty())
+                continue;
+            if (query.length() > 0)
+                query.append(' ');
+            query.append(word).append('*');
+            if (++terms == MAX_TERMS)
+                break;
+        }
+        return terms == 0 ? null : query.toString();
+    }
+
+    private static synchronized String getSql(int terms) {
+        if (sqlByTerms[terms] == null)
+            sqlByTerms[terms] = buildSql(terms);
+        return sqlByTerms[terms];
+    }
+
+    /**
+     * Builds the search for a number of words.
+     *
+     * <p> The match info and snippet are read in a subquery with LIMIT -1, which stops SQLite from
+     * flattening it into the outer query and calling matchinfo() again for every part of the
+     * score. </p>
+     * @param terms The number of words, each one a phrase of the match query
+     * @return The SQL, with one match query argument for each table and then the limit
+     */
+    private static String buildSql(int terms) {
+        StringBuilder sql = new StringBuilder("SELECT kind, id, title, snippet, score FROM (");
+        for (int i = 0; i < SOURCES.length; i++) {
+            Source source = SOURCES[i];
+            if (i > 0)
+                sql.append(" UNION ALL ");
+            sql.append(String.format(Locale.US, "SELECT %d AS kind, c.id AS id, c.%s AS title, " +
+                            "m.snippet AS snippet, %s AS score FROM (SELECT rowid AS docid, " +
+                            "snippet(%s, '<b>', '</b>', '...', -1, 8) AS snippet, " +
+                            "hex(matchinfo(%s, 'pcx')) AS info FROM %s WHERE %s MATCH ? LIMIT -1) AS m " +
+                            "JOIN %s AS c ON c.id = m.docid",
+                    source.kind, source.titleColumn, score(terms, source.columns), source.ftsTable,
+                    source.ftsTable, source.ftsTable, source.ftsTable, source.contentTable));
+        }
+        return sql.append(") ORDER BY score DESC, kind, id LIMIT ?").toString();
+    }
+
+    /**
+     * Builds the score of a match from its match info.
+     *
+     * <p> The match info is the 'pcx' format of SQLite's matchinfo(): the number of phrases and
+     * columns, then for each phrase and column the hits in this row, the hits in all rows, and the
+     * number of rows with a hit, as native-order 32-bit integers. Every Android ABI is little
+     * endian. The score adds up the hits in this row divided by the rows with a hit. </p>
+     * @param terms The number of phrases
+     * @param columns The number of columns the table indexes
+     * @return The score expression, over the hex of the match info in m.info
+     */
+    private static String score(int terms, int columns) {
+        StringBuilder score = new StringBuilder("(0");
+        for (int phrase = 0; phrase < terms; phrase++) {
+            for (int column = 0; column < columns; column++) {
+                int offset = 2 + 3 * (phrase * columns + column);
+                double weight = column == 0 ? TITLE_WEIGHT : 1.0;
+                score.append(String.format(Locale.US, " + %.1f * %s / max(%s, 1)", weight,
+                        readInt(offset), readInt(offset + 2)));
+            }
+        }
+        return score.append(')').toString();
+    }
+
+    /**
+     * Builds an expression that reads a little endian 32-bit integer from the hex of the match info.
+     *
+     * @param index The index of the integer
+     * @return The expression
+     */
+    private static String readInt(int index) {
+        StringBuilder value = new StringBuilder("(");
+        for (int octet = 0; octet < 4; octet++) {
+            // substr() counts from 1, and each octet is two hex digits
+            int position = 8 * index + 2 * octet + 1;
+            if (octet > 0)
+                value.append(" + ");
+            value.append(String.format(Locale.US, "((instr(%s, substr(m.info, %d, 1)) - 1) * 16 + " +
+                            "instr(%s, substr(m.info, %d, 1)) - 1) * %d", HEX_DIGITS, position,
+                    HEX_DIGITS, position + 1, 1 << (8 * octet)));
+        }
+        return value.append(')').toString();
+    }
+
+    /**
+     * One table that is searched.
+     */
+    private static final class Source {
+        final int kind;
+        final String ftsTable;
+        final String contentTable;
+        final String titleColumn;
+        final int columns;
+
+        Source(int kind, String ftsTable, String contentTable, String titleColumn, int columns) {
+            this.kind = kind;
+            this.ftsTable = ftsTable;
+            this.contentTable = contentTable;
+            this.titleColumn = titleColumn;
+            this.columns = columns;
+        }
+    }
+}
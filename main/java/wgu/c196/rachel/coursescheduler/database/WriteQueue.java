@@ -0,0 +1,170 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import android.os.SystemClock;
+
+import androidx.room.RoomDatabase;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * The queue every write to the database goes through.
+ *
+ * <p> Writes are run one at a time on the single disk write thread, in the order they were
+ * submitted. A write waits up to BATCH_WINDOW_MS for other writes, and every write waiting by then
+ * is run in one transaction, so a burst of writes costs one commit instead of one each. If a write
+ * in a batch fails, the batch is rolled back and its writes are run again in their own
+ * transactions, so only the write that failed fails. </p>
+ *
+ * <p> Each write returns a future that completes once its transaction has committed, so a screen
+ * that waits for it will read what it wrote. The afterCommit action of a write, such as evicting a
+ * cached row, runs before its future completes. </p>
+ */
+class WriteQueue {
+    // How long the first write of a batch waits for others to join it
+    private static final long BATCH_WINDOW_MS = 4;
+    // The most writes run in one transaction
+    private static final int MAX_BATCH = 256;
+
+    private final RoomDatabase database;
+    private final Executor writer;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<Write<?>> pending = new ArrayDeque<>();
+    private boolean isDrainScheduled = false;
+    private long batchStartedAt;
+
+    /**
+     * Constructor for WriteQueue.
+     *
+     * @param database The database written to
+     * @param writer The executor the writes are run on. It must run one task at a time.
+     */
+    WriteQueue(RoomDatabase database, Executor writer) {
+        this.database = database;
+        this.writer = writer;
+    }
+
+    /**
+     * Queues a write that returns a value, such as the ID of an inserted row.
+     *
+     * @param name The name the write's time is recorded under in QueryMetrics
+     * @param body The write
+     * @param afterCommit Runs on the write thread once the write has committed, or null
+     * @return A future that completes with the value once the write has committed
+     */
+    <T> CompletableFuture<T> submit(String name, Supplier<T> body, Runnable afterCommit) {
+        Write<T> write = new Write<>(name, body, afterCommit);
+
+        synchronized (lock) {
+            pending.add(write);
+            if (!isDrainScheduled) {
+                isDrainScheduled = true;
+                batchStartedAt = SystemClock.uptimeMillis();
+                writer.execute(this::drain);
+            }
+        }
+        return write.future;
+    }
+
+    /**
+     * Queues a write that does not return a value.
+     *
+     * @param name The name the write's time is recorded under in QueryMetrics
+     * @param body The write
+     * @param afterCommit Runs on the write thread once the write has committed, or null
+     * @return A future that completes once the write has committed
+     */
+    CompletableFuture<Void> run(String name, Runnable body, Runnable afterCommit) {
+        return submit(name, () -> {
+            body.run();
+            return null;
+        }, afterCommit);
+    }
+
+    /**
+     * Runs the waiting writes. Runs on the write thread.
+     */
+    private void drain() {
+        long startedAt;
+        synchronized (lock) {
+            startedAt = batchStartedAt;
+        }
+        // The write thread only runs writes, so it can wait here for the rest of the batch
+        long wait = startedAt + BATCH_WINDOW_MS - SystemClock.uptimeMillis();
+        if (wait > 0)
+            SystemClock.sleep(wait);
+
+        List<Write<?>> batch = new ArrayList<>();
+        synchronized (lock) {
+            while (!pending.isEmpty() && batch.size() < MAX_BATCH)
+                batch.add(pending.poll());
+
+            if (pending.isEmpty()) {
+                isDrainScheduled = false;
+            } else {
+                // The rest of the writes are run in the next batch, without waiting
+                writer.execute(this::drain);
+            }
+        }
+
+        try {
+            QueryMetrics.run("writeBatch", () -> database.runInTransaction(() -> {
+                for (Write<?> write : batch)
+                    write.run();
+            }));
+        } catch (RuntimeException batchError) {
+            for (Write<?> write : batch) {
+                try {
+                    database.runInTransaction(write::run);
+                } catch (RuntimeException error) {
+                    write.error = error;
+                }
+            }
+        }
+
+        for (Write<?> write : batch)
+            write.complete();
+    }
+
+    /**
+     * One write and the future for its result.
+     */
+    private static class Write<T> {
+        private final String name;
+        private final Supplier<T> body;
+        private final Runnable afterCommit;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private T result;
+        private RuntimeException error;
+
+        Write(String name, Supplier<T> body, Runnable afterCommit) {
+            this.name = name;
+            this.body = body;
+            this.afterCommit = afterCommit;
+        }
+
+        void run() {
+            result = QueryMetrics.time(name, body);
+        }
+
+        /**
+         * Completes the future once the transaction has ended.
+         */
+        void complete() {
+            if (error != null) {
+                future.completeExceptionally(error);
+                return;
+            }
+
+            if (afterCommit != null)
+                afterCommit.run();
+            future.complete(result);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package wgu.c196.rachel.coursescheduler.model;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.StringRes;
+
+import java.time.LocalDate;
+
+import wgu.c196.rachel.coursescheduler.R;
+
+/**
+ * Class for a single date on the agenda.
+ *
+ * <p> The agenda lists the days courses and assessments start and end, in date order. Each item
+ * is one of those days, so a course or assessment can appear twice: once for its start date and
+ * once for its end date. Items are ordered by date, then type, then ID, which is also the key the
+ * next page of the agenda is read after. </p>
+ */
+public class AgendaItem {
+
+    // The types of item, in the order items on the same day are listed
+    public static final int TYPE_COURSE_START = 0;
+    public static final int TYPE_COURSE_END = 1;
+    public static final int TYPE_ASSESSMENT_START = 2;
+    public static final int TYPE_ASSESSMENT_END = 3;
+
+    private int type;
+
+    private int id;
+
+    private String title;
+
+    private LocalDate date;
+
+    /**
+     * Getter for type.
+     *
+     * @return The type of item, one of the TYPE constants
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Setter for type.
+     *
+     * @param type The type of item
+     */
+    public void setType(int type) {
+        this.type = type;
+    }
+
+    /**
+     * Getter for ID.
+     *
+     * @return The ID of the course or assessment
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter for ID.
+     *
+     * @param id The ID of the course or assessment
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Getter for title.
+     *
+     * @return The title of the course or assessment
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Setter for title.
+     *
+     * @param title The title of the course or assessment
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * Getter for date.
+     *
+     * @return The day the course or assessment starts or ends
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Setter for date.
+     *
+     * @param date The day the course or assessment starts or ends
+     */
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    /**
+     * Checks if the item is for a course.
+     *
+     * @return True for a course, false for an assessment
+     */
+    public boolean isCourse() {
+        return type == TYPE_COURSE_START || type == TYPE_COURSE_END;
+    }
+
+    /**
+     * Gets the name of the item's type, as the agenda and the daily digest show it.
+     *
+     * @return The string resource for the type's name
+     */
+    @StringRes
+    public int getTypeName() {
+        switch (type) {
+            case TYPE_COURSE_END:
+                return R.string.agenda_course_end;
+            case TYPE_ASSESSMENT_START:
+                return R.string.agenda_assessment_start;
+            case TYPE_ASSESSMENT_END:
+                return R.string.agenda_assessment_end;
+            default:
+                return R.string.agenda_course_start;
+        }
+    }
+
+    /**
+     * Overrides the equals() method.
+     *
+     * @param obj The object it will be compared to
+     * @return Returns true if obj is the same date of the same course or assessment
+     */
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (obj instanceof AgendaItem)
+            return (type == ((AgendaItem) obj).getType() && id == ((AgendaItem) obj).getId());
+        else
+            return false;
+    }
+
+    /**
+     * Overrides the hashCode() method.
+     *
+     * @return A hash code made from the type and id
+     */
+    @Override
+    public int hashCode() {
+        return 31 * type + id;
+    }
+
+    /**
+     * Gets a number that identifies the item, across all types of item.
+     *
+     * @return The type in the upper 32 bits and the id in the lower 32 bits
+     */
+    public long getStableId() {
+        return ((long) type << 32) | (id & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,188 @@
+package wgu.c196.rachel.coursescheduler.model;
+
+import androidx.annotation.Nullable;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Ignore;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * Class for an alert.
+ *
+ * <p> This class defines a reminder the user set for the day a course or assessment starts or
+ * ends. Each course and assessment can have one alert of each kind. The time the alert is due is
+ * worked out when it is set, and the alerts are read in order of that time to find the next one
+ * to schedule. </p>
+ */
+@Entity(tableName = "alert_table",
+        indices = {@Index(value = {"kind", "target_id"}, unique = true), @Index("trigger_at")} )
+public class Alert {
+
+    // The kinds of alert
+    public static final int KIND_COURSE_START = 0;
+    public static final int KIND_COURSE_END = 1;
+    public static final int KIND_ASSESSMENT_START = 2;
+    public static final int KIND_ASSESSMENT_END = 3;
+
+    @PrimaryKey(autoGenerate = true)
+    private int id;
+
+    private int kind;
+
+    // The ID of the course or assessment the alert is for
+    @ColumnInfo(name = "target_id")
+    private int targetId;
+
+    // When the alert is due, in milliseconds since the epoch
+    @ColumnInfo(name = "trigger_at")
+    private long triggerAt;
+
+    private String message;
+
+    /**
+     * Default constructor for Alert.
+     */
+    public Alert() {
+    }
+
+    /**
+     * Constructor for Alert.
+     *
+     * @param kind The kind of alert, one of the KIND constants
+     * @param targetId The ID of the course or assessment
+     * @param triggerAt When the alert is due, in milliseconds since the epoch
+     * @param message The message shown when the alert is due
+     */
+    @Ignore
+    public Alert(int kind, int targetId, long triggerAt, String message) {
+        this.kind = kind;
+        this.targetId = targetId;
+        this.triggerAt = triggerAt;
+        this.message = message;
+    }
+
+    /**
+     * Getter for ID.
+     *
+     * @return The ID of the alert
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter for ID.
+     *
+     * @param id The ID of the alert
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Getter for kind.
+     *
+     * @return The kind of alert, one of the KIND constants
+     */
+    public int getKind() {
+        return kind;
+    }
+
+    /**
+     * Setter for kind.
+     *
+     * @param kind The kind of alert
+     */
+    public void setKind(int kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Getter for target ID.
+     *
+     * @return The ID of the course or assessment the alert is for
+     */
+    public int getTargetId() {
+        return targetId;
+    }
+
+    /**
+     * Setter for target ID.
+     *
+     * @param targetId The ID of the course or assessment the alert is for
+     */
+    public void setTargetId(int targetId) {
+        this.targetId = targetId;
+    }
+
+    /**
+     * Getter for trigger time.
+     *
+     * @return When the alert is due, in milliseconds since the epoch
+     */
+    public long getTriggerAt() {
+        return triggerAt;
+    }
+
+    /**
+     * Setter for trigger time.
+     *
+     * @param triggerAt When the alert is due, in milliseconds since the epoch
+     */
+    public void setTriggerAt(long triggerAt) {
+        this.triggerAt = triggerAt;
+    }
+
+    /**
+     * Getter for message.
+     *
+     * @return The message shown when the alert is due
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Setter for message.
+     *
+     * @param message The message shown when the alert is due
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Checks if the alert is for a course.
+     *
+     * @return True for a course, false for an assessment
+     */
+    public boolean isCourse() {
+        return kind == KIND_COURSE_START || kind == KIND_COURSE_END;
+    }
+
+    /**
+     * Overrides the equals() method.
+     *
+     * @param obj The object it will be compared to
+     * @return Returns true if obj is an Alert with the same id
+     */
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (obj instanceof Alert)
+            return (id == ((Alert) obj).getId());
+        else
+            return false;
+    }
+
+    /**
+     * Overrides the hashCode() method.
+     *
+     * <p> Two objects that are equal have the same id, so the hash code only uses the id. </p>
+     * @return The hash code of the id
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
+}
@@ -5,6 +5,7 @@ import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.ForeignKey;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
 import java.time.LocalDate;
@@ -21,7 +22,8 @@ import java.util.List;
  */
 @Entity(tableName = "assessment_table",
         foreignKeys = {@ForeignKey(entity = Course.class, parentColumns = "id",
-                childColumns = "course_id", onDelete = ForeignKey.CASCADE)} )
+                childColumns = "course_id", onDelete = ForeignKey.CASCADE)},
+        indices = {@Index("course_id"), @Index("start_date"), @Index("end_date")} )
 public class Assessment {
 
     @PrimaryKey(autoGenerate = true)
@@ -234,24 +236,68 @@ public class Assessment {
             return false;
     }
 
+    /**
+     * Overrides the hashCode() method.
+     *
+     * @return Returns a hash of the id, the same for every Assessment equal to this one
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
+
     /**
      * Enum for an Assessment.
      *
-     * <p> This is an enumeration for an Assessment. It contains the Assessment's type. </p>
+     * <p> This is an enumeration for an Assessment. It contains the Assessment's type. Each type
+     * has a code that is what gets stored in the database. A code must never be changed or
+     * reused, since rows already saved with it would be read back as a different type. </p>
      */
     public enum Type {
-        PERFORMANCE("Performance"),
-        OBJECTIVE("Objective");
+        PERFORMANCE(1, "Performance"),
+        OBJECTIVE(2, "Objective");
 
+        private final int code;
         private String name;
 
         public static final List<Type> typeList =
                 Arrays.asList(PERFORMANCE, OBJECTIVE);
 
-        Type(String name) {
+        // Looks up a type by its code without searching the list
+        private static final Type[] byCode = new Type[3];
+
+        static {
+            for (Type type : typeList)
+                byCode[type.code] = type;
+        }
+
+        Type(int code, String name) {
+            this.code = code;
             this.name = name;
         }
 
+        /**
+         * Getter for code.
+         *
+         * @return The code the Type is stored as in the database
+         */
+        public int getCode() {
+            return code;
+        }
+
+        /**
+         * Gets the Type with the given code.
+         *
+         * @param code The code stored in the database
+         * @return The Type with that code
+         * @throws IllegalArgumentException if no Type has that code
+         */
+        public static Type fromCode(int code) {
+            if (code < 0 || code >= byCode.length || byCode[code] == null)
+                throw new IllegalArgumentException("No assessment type with code " + code);
+            return byCode[code];
+        }
+
         /**
          * Override of toString().
          *
@@ -0,0 +1,36 @@
+package wgu.c196.rachel.coursescheduler.model;
+
+import androidx.room.Entity;
+import androidx.room.Fts4;
+
+/**
+ * Full-text search table for assessments.
+ *
+ * <p> This is a shadow of the assessment table used for searching assessment titles. It stores
+ * only the search index; the text is read from the assessment table, and Room keeps the index in
+ * sync with triggers on that table. The rowid of a row is the ID of its assessment. </p>
+ */
+@Fts4(contentEntity = Assessment.class)
+@Entity(tableName = "assessment_fts")
+public class AssessmentFts {
+
+    private String title;
+
+    /**
+     * Getter for title.
+     *
+     * @return The title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Setter for title.
+     *
+     * @param title The title
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+}
@@ -5,6 +5,7 @@ import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.ForeignKey;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
 import java.time.LocalDate;
@@ -22,7 +23,9 @@ import java.util.List;
         foreignKeys = {@ForeignKey(entity = Term.class, parentColumns = "id",
                 childColumns = "term_id", onDelete = ForeignKey.CASCADE),
                 @ForeignKey(entity = CourseInstructor.class, parentColumns = "id",
-                        childColumns = "course_instructor", onDelete = ForeignKey.SET_NULL)} )
+                        childColumns = "course_instructor", onDelete = ForeignKey.SET_NULL)},
+        indices = {@Index("term_id"), @Index("course_instructor"), @Index("start_date"),
+                @Index("end_date")} )
 public class Course {
 
     @PrimaryKey(autoGenerate = true)
@@ -304,26 +307,70 @@ public class Course {
             return false;
     }
 
+    /**
+     * Overrides the hashCode() method.
+     *
+     * @return Returns a hash of the id, the same for every Course equal to this one
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
+
     /**
      * Enum for a Course.
      *
-     * <p> This is an enumeration for a Course. It contains the Course's status. </p>
+     * <p> This is an enumeration for a Course. It contains the Course's status. Each status has
+     * a code that is what gets stored in the database. A code must never be changed or reused,
+     * since rows already saved with it would be read back as a different status. </p>
      */
     public enum Status {
-        IN_PROGRESS("In progress"),
-        COMPLETED("Completed"),
-        DROPPED("Dropped"),
-        PLAN_TO_TAKE("Plan to take");
+        IN_PROGRESS(1, "In progress"),
+        COMPLETED(2, "Completed"),
+        DROPPED(3, "Dropped"),
+        PLAN_TO_TAKE(4, "Plan to take");
 
+        private final int code;
         private String name;
 
         public static final List<Status> statusList =
                 Arrays.asList(IN_PROGRESS, COMPLETED, DROPPED, PLAN_TO_TAKE);
 
-        Status(String name) {
+        // Looks up a status by its code without searching the list
+        private static final Status[] byCode = new Status[5];
+
+        static {
+            for (Status status : statusList)
+                byCode[status.code] = status;
+        }
+
+        Status(int code, String name) {
+            this.code = code;
             this.name = name;
         }
 
+        /**
+         * Getter for code.
+         *
+         * @return The code the Status is stored as in the database
+         */
+        public int getCode() {
+            return code;
+        }
+
+        /**
+         * Gets the Status with the given code.
+         *
+         * @param code The code stored in the database
+         * @return The Status with that code
+         * @throws IllegalArgumentException if no Status has that code
+         */
+        public static Status fromCode(int code) {
+            if (code < 0 || code >= byCode.length || byCode[code] == null)
+                throw new IllegalArgumentException("No course status with code " + code);
+            return byCode[code];
+        }
+
         /**
          * Override of toString().
          *
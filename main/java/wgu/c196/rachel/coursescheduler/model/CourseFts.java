@@ -0,0 +1,56 @@
+package wgu.c196.rachel.coursescheduler.model;
+
+import androidx.room.Entity;
+import androidx.room.Fts4;
+
+/**
+ * Full-text search table for courses.
+ *
+ * <p> This is a shadow of the course table used for searching course titles and notes. It stores
+ * only the search index; the text is read from the course table, and Room keeps the index in sync
+ * with triggers on that table. The rowid of a row is the ID of its course. </p>
+ */
+@Fts4(contentEntity = Course.class)
+@Entity(tableName = "course_fts")
+public class CourseFts {
+
+    private String title;
+
+    private String note;
+
+    /**
+     * Getter for title.
+     *
+     * @return The title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Setter for title.
+     *
+     * @param title The title
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * Getter for note.
+     *
+     * @return The note
+     */
+    public String getNote() {
+        return note;
+    }
+
+    /**
+     * Setter for note.
+     *
+     * @param note The note
+     */
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
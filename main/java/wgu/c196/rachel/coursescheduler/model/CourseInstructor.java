@@ -162,4 +162,14 @@ public class CourseInstructor {
         else
             return false;
     }
+
+    /**
+     * Overrides the hashCode() method.
+     *
+     * @return Returns a hash of the id, the same for every CourseInstructor equal to this one
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
 }
@@ -0,0 +1,79 @@
+package wgu.c196.rachel.coursescheduler.model;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+
+/**
+ * Full-text search table for course instructors.
+ *
+ * <p> This is a shadow of the course instructor table used for searching course instructor names,
+ * phone numbers, and email addresses. It stores only the search index; the text is read from the
+ * course instructor table, and Room keeps the index in sync with triggers on that table. The rowid
+ * of a row is the ID of its course instructor. </p>
+ */
+@Fts4(contentEntity = CourseInstructor.class)
+@Entity(tableName = "course_instructor_fts")
+public class CourseInstructorFts {
+
+    private String name;
+
+    @ColumnInfo(name = "phone_number")
+    private String phoneNumber;
+
+    private String email;
+
+    /**
+     * Getter for name.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Setter for name.
+     *
+     * @param name The name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for phone number.
+     *
+     * @return The phone number
+     */
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    /**
+     * Setter for phone number.
+     *
+     * @param phoneNumber The phone number
+     */
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    /**
+     * Getter for email address.
+     *
+     * @return The email address
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Setter for email address.
+     *
+     * @param email The email address
+     */
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
@@ -0,0 +1,139 @@
+package wgu.c196.rachel.coursescheduler.model;
+
+import androidx.annotation.Nullable;
+import androidx.room.ColumnInfo;
+
+/**
+ * Class for a row in the list of courses.
+ *
+ * <p> This class holds only what a course card shows: the course's title and status, and the
+ * name of its course instructor. It is loaded by joining the course and course instructor tables,
+ * so the list does not need to load the full Course, including its note, or every instructor. </p>
+ */
+public class CourseListItem {
+
+    private int id;
+
+    private String title;
+
+    private Course.Status status;
+
+    // The name of the course instructor, or null if the course has no instructor
+    @ColumnInfo(name = "instructor_name")
+    private String instructorName;
+
+    /**
+     * Getter for ID.
+     *
+     * <p> This is the getter for the ID of the course. </p>
+     * @return The ID of the course
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter for ID.
+     *
+     * <p> This is the setter for the ID of the course. </p>
+     * @param id The ID of the course
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Getter for title.
+     *
+     * <p> This is the getter for the title of the course. </p>
+     * @return The title of the course
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Setter for title.
+     *
+     * <p> This is the setter for the title of the course. </p>
+     * @param title The title of the course
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * Getter for status.
+     *
+     * <p> This is the getter for the status of the course. </p>
+     * @return The status of the course
+     */
+    public Course.Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Setter for status.
+     *
+     * <p> This is the setter for the status of the course. </p>
+     * @param status The status of the course
+     */
+    public void setStatus(Course.Status status) {
+        this.status = status;
+    }
+
+    /**
+     * Getter for instructor name.
+     *
+     * <p> This is the getter for the name of the course's instructor. </p>
+     * @return The name of the course instructor, or null if there is none
+     */
+    public String getInstructorName() {
+        return instructorName;
+    }
+
+    /**
+     * Setter for instructor name.
+     *
+     * <p> This is the setter for the name of the course's instructor. </p>
+     * @param instructorName The name of the course instructor
+     */
+    public void setInstructorName(String instructorName) {
+        this.instructorName = instructorName;
+    }
+
+    /**
+     * Overrides the toString() method.
+     *
+     * @return The title of the course
+     */
+    @Override
+    public String toString() {
+        return title;
+    }
+
+    /**
+     * Overrides the equals() method.
+     *
+     * @param obj The object it will be compared to
+     * @return Returns true if obj is a CourseListItem for the same course
+     */
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (obj instanceof CourseListItem)
+            return (id == ((CourseListItem) obj).getId());
+        else
+            return false;
+    }
+
+    /**
+     * Overrides the hashCode() method.
+     *
+     * <p> Two objects that are equal have the same id, so the hash code only uses the id. </p>
+     * @return The hash code of the id
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
+}
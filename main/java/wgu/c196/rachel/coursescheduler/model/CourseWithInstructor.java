@@ -0,0 +1,80 @@
+package wgu.c196.rachel.coursescheduler.model;
+
+import java.util.Objects;
+
+/**
+ * Class for a Course together with its Course Instructor.
+ *
+ * <p> This class is what the screens that show a course and its instructor observe. The instructor
+ * is null if the course does not have one, or its instructor was not found. </p>
+ */
+public class CourseWithInstructor {
+
+    private final Course course;
+    private final CourseInstructor instructor;
+
+    /**
+     * Constructor for CourseWithInstructor.
+     *
+     * @param course The course
+     * @param instructor The course's instructor, or null
+     */
+    public CourseWithInstructor(Course course, CourseInstructor instructor) {
+        this.course = course;
+        this.instructor = instructor;
+    }
+
+    /**
+     * Getter for course.
+     *
+     * @return The course
+     */
+    public Course getCourse() {
+        return course;
+    }
+
+    /**
+     * Getter for instructor.
+     *
+     * @return The course's instructor, or null
+     */
+    public CourseInstructor getInstructor() {
+        return instructor;
+    }
+
+    /**
+     * Checks if this shows the same thing as another CourseWithInstructor.
+     *
+     * <p> equals() on the models only compares IDs, so this compares every column instead. It is
+     * used to skip emitting a value that would not change what the user sees. </p>
+     * @param other The CourseWithInstructor to compare to, or null
+     * @return True if every column of the course and instructor is the same
+     */
+    public boolean hasSameContents(CourseWithInstructor other) {
+        if (other == null)
+            return false;
+        return sameCourse(course, other.course) && sameInstructor(instructor, other.instructor);
+    }
+
+    private static boolean sameCourse(Course a, Course b) {
+        if (a == null || b == null)
+            return a == b;
+        return a.getId() == b.getId()
+                && a.getTermId() == b.getTermId()
+                && a.getCourseInstructorId() == b.getCourseInstructorId()
+                && a.getStatus() == b.getStatus()
+                && Objects.equals(a.getTitle(), b.getTitle())
+                && Objects.equals(a.getStartDate(), b.getStartDate())
+                && Objects.equals(a.getEndDate(), b.getEndDate())
+                && Objects.equals(a.getNote(), b.getNote());
+    }
+
+    private static boolean sameInstructor(CourseInstructor a, CourseInstructor b) {
+        if (a == null || b == null)
+            return a == b;
+        return a.getId() == b.getId()
+                && Objects.equals(a.getName(), b.getName())
+                && Objects.equals(a.getPhoneNumber(), b.getPhoneNumber())
+                && Objects.equals(a.getEmail(), b.getEmail());
+    }
+}
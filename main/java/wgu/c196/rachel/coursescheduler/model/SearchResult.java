@@ -0,0 +1,154 @@
+package wgu.c196.rachel.coursescheduler.model;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Class for a single match from the full-text search.
+ *
+ * <p> A search looks through the terms, courses, assessments, and course instructors at once, so
+ * each result records which kind of row it came from along with that row's ID. The snippet is the
+ * matching part of the text, and the score is how well the row matched, computed by the query from
+ * SQLite's matchinfo(). </p>
+ */
+public class SearchResult {
+
+    // The kinds of row a result can come from
+    public static final int KIND_TERM = 0;
+    public static final int KIND_COURSE = 1;
+    public static final int KIND_ASSESSMENT = 2;
+    public static final int KIND_INSTRUCTOR = 3;
+
+    private int kind;
+
+    private int id;
+
+    private String title;
+
+    private String snippet;
+
+    // Higher is a better match
+    private double score;
+
+    /**
+     * Getter for kind.
+     *
+     * @return The kind of row the result came from, one of the KIND constants
+     */
+    public int getKind() {
+        return kind;
+    }
+
+    /**
+     * Setter for kind.
+     *
+     * @param kind The kind of row the result came from
+     */
+    public void setKind(int kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Getter for ID.
+     *
+     * @return The ID of the term, course, assessment, or course instructor
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter for ID.
+     *
+     * @param id The ID of the term, course, assessment, or course instructor
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Getter for title.
+     *
+     * @return The title, or the name for a course instructor
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Setter for title.
+     *
+     * @param title The title, or the name for a course instructor
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * Getter for snippet.
+     *
+     * @return The matching part of the text
+     */
+    public String getSnippet() {
+        return snippet;
+    }
+
+    /**
+     * Setter for snippet.
+     *
+     * @param snippet The matching part of the text
+     */
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    /**
+     * Getter for score.
+     *
+     * @return The rank of the result, higher is a better match
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Setter for score.
+     *
+     * @param score The rank of the result
+     */
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    /**
+     * Overrides the equals() method.
+     *
+     * @param obj The object it will be compared to
+     * @return Returns true if obj is a SearchResult for the same row
+     */
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (obj instanceof SearchResult)
+            return (kind == ((SearchResult) obj).getKind() && id == ((SearchResult) obj).getId());
+        else
+            return false;
+    }
+
+    /**
+     * Overrides the hashCode() method.
+     *
+     * @return A hash code made from the kind and id
+     */
+    @Override
+    public int hashCode() {
+        return 31 * kind + id;
+    }
+
+    /**
+     * Gets a number that identifies the row this result is for, across all kinds of row.
+     *
+     * @return The kind in the upper 32 bits and the id in the lower 32 bits
+     */
+    public long getStableId() {
+        return ((long) kind << 32) | (id & 0xFFFFFFFFL);
+    }
+}
@@ -163,4 +163,9 @@ public class Term {
         else
             return false;
     }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
 }
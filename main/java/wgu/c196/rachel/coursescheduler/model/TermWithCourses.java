@@ -0,0 +1,68 @@
+package wgu.c196.rachel.coursescheduler.model;
+
+import androidx.room.Embedded;
+import androidx.room.Relation;
+
+import java.util.List;
+
+/**
+ * Class for a Term together with its courses.
+ *
+ * <p> This class holds a Term and the titles of the courses that occur in it. A term cannot be
+ * deleted while it has courses, so this is used to check a selection of terms for courses with a
+ * single query. Only the course titles are loaded, since that is all the user is shown. </p>
+ */
+public class TermWithCourses {
+
+    @Embedded
+    private Term term;
+
+    @Relation(parentColumn = "id", entityColumn = "term_id", entity = Course.class,
+            projection = {"title"})
+    private List<String> courseTitles;
+
+    /**
+     * Getter for term.
+     *
+     * @return The term
+     */
+    public Term getTerm() {
+        return term;
+    }
+
+    /**
+     * Setter for term.
+     *
+     * @param term The term
+     */
+    public void setTerm(Term term) {
+        this.term = term;
+    }
+
+    /**
+     * Getter for course titles.
+     *
+     * @return The titles of the courses that occur in the term
+     */
+    public List<String> getCourseTitles() {
+        return courseTitles;
+    }
+
+    /**
+     * Setter for course titles.
+     *
+     * @param courseTitles The titles of the courses that occur in the term
+     */
+    public void setCourseTitles(List<String> courseTitles) {
+        this.courseTitles = courseTitles;
+    }
+
+    /**
+     * Checks whether the term has any courses.
+     *
+     * @return True if there is at least one course in the term
+     */
+    public boolean hasCourses() {
+        return courseTitles != null && !courseTitles.isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+package wgu.c196.rachel.coursescheduler.util;
+
+import android.app.AlarmManager;
+import android.app.PendingIntent;
+import android.content.Context;
+import android.content.Intent;
+
+import wgu.c196.rachel.coursescheduler.model.Alert;
+
+/**
+ * Keeps the next due alert registered with the AlarmManager.
+ *
+ * <p> The alerts themselves are kept in the alert table. Only one alarm is ever registered with
+ * the system, always through the same PendingIntent, for the alert that is due first. When it
+ * goes off, AlertReceiver shows every alert that is due and schedules the one after them, so
+ * setting many alerts costs one alarm, and request codes can never collide. </p>
+ *
+ * <p> An alarm scheduled from an out of date read is harmless: when it goes off, only the alerts
+ * in the table that are actually due are shown, and the right next alarm is scheduled. </p>
+ */
+public class AlarmScheduler {
+    private static final int REQUEST_CODE = 0;
+
+    private final Context context;
+    private final AlarmManager alarmManager;
+
+    /**
+     * Constructor for AlarmScheduler.
+     *
+     * @param context The application context
+     */
+    public AlarmScheduler(Context context) {
+        this.context = context.getApplicationContext();
+        this.alarmManager = (AlarmManager) this.context.getSystemService(Context.ALARM_SERVICE);
+    }
+
+    /**
+     * Registers the alarm for the next alert, replacing the one registered before, or cancels the
+     * alarm if there are no alerts.
+     *
+     * <p> An alert that is already due, such as one missed while the device was off, goes off
+     * straight away. </p>
+     * @param next The alert that is due first, or null if there are none
+     */
+    public synchronized void schedule(Alert next) {
+        Intent intent = new Intent(context, AlertReceiver.class);
+        PendingIntent pendingIntent = PendingIntent.getBroadcast(context, REQUEST_CODE, intent,
+                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
+
+        if (next == null) {
+            alarmManager.cancel(pendingIntent);
+            return;
+        }
+
+        alarmManager.set(AlarmManager.RTC_WAKEUP, next.getTriggerAt(), pendingIntent);
+    }
+}
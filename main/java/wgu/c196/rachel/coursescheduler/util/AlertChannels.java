@@ -3,6 +3,7 @@ package wgu.c196.rachel.coursescheduler.util;
 import android.app.Application;
 import android.app.NotificationChannel;
 import android.app.NotificationManager;
+import android.content.Context;
 import android.os.Build;
 
 import wgu.c196.rachel.coursescheduler.R;
@@ -25,12 +26,21 @@ public class AlertChannels extends Application {
     /**
      * Creates the channels for notifications.
      *
-     * <p> Creates one channel for courses and one for assessments. </p>
+     * <p> This is the first code the app runs, so it is the start of the startup trace. </p>
      */
     @Override
     public void onCreate() {
         super.onCreate();
+        StartupTrace.section(StartupTrace.CHANNELS, () -> createChannels(this));
+    }
 
+    /**
+     * Creates the channels for notifications.
+     *
+     * <p> Creates one channel for courses and one for assessments. </p>
+     * @param context The context used to reach the NotificationManager
+     */
+    public static void createChannels(Context context) {
         // Check if user OS is O or higher, because notification channels do not work before then
         if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
             return;
@@ -38,13 +48,13 @@ public class AlertChannels extends Application {
 
         NotificationChannel courseChannel = new NotificationChannel(COURSE, "Course Alerts",
                 NotificationManager.IMPORTANCE_LOW);
-        courseChannel.setDescription(getString(R.string.course_channel_description));
+        courseChannel.setDescription(context.getString(R.string.course_channel_description));
 
         NotificationChannel assessmentChannel = new NotificationChannel(ASSESSMENT,
                 "Assessment Alerts", NotificationManager.IMPORTANCE_DEFAULT);
-        assessmentChannel.setDescription(getString(R.string.assessment_channel_description));
+        assessmentChannel.setDescription(context.getString(R.string.assessment_channel_description));
 
-        NotificationManager manager = getSystemService(NotificationManager.class);
+        NotificationManager manager = context.getSystemService(NotificationManager.class);
         manager.createNotificationChannel(courseChannel);
         manager.createNotificationChannel(assessmentChannel);
     }
@@ -1,63 +1,71 @@
 package wgu.c196.rachel.coursescheduler.util;
 
+import android.app.Application;
 import android.app.Notification;
 import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
-import android.os.Bundle;
 
 import androidx.core.app.NotificationCompat;
 import androidx.core.app.NotificationManagerCompat;
 
 import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.database.ScheduleRepository;
+import wgu.c196.rachel.coursescheduler.model.Alert;
 
 /**
  * Broadcast Receiver class that listens for notifications.
  *
  * <p> This class is used to receive notifications about the start or end of a course or
- * assessment. </p>
+ * assessment. AlarmScheduler registers a single alarm for the alert that is due first. When it
+ * goes off, this shows every alert that is due, removes them from the alert table, and the alarm
+ * for the next alert is registered. </p>
  */
 public class AlertReceiver extends BroadcastReceiver {
-    /**
-     * Tag used for Intent to identify which AlertChannel channel to use
-     */
-    public static final String CHANNEL = "channel";
-    /**
-     * Tag used for Intent to pass a notification ID
-     */
-    public static final String NOTIFICATION_ID = "notification id";
-    /**
-     * Tag used for Intent to pass the notification's message
-     */
-    public static final String MESSAGE = "message";
 
     /**
-     * Builds the notification using the information provided in an Intent.
+     * Shows the alerts that are due.
      *
+     * <p> The alert table is read and written on the write thread, so the broadcast is kept alive
+     * until that is done. </p>
      * @param context The context where the receiver is running
-     * @param intent The intent that contains the notification information
+     * @param intent The intent of the alarm
      */
     @Override
     public void onReceive(Context context, Intent intent) {
-        String channel = "";
-        int notificationId = 0;
-        String message = "";
-
-        // Find out which channel and id to use
-        Bundle intentData = intent.getExtras();
-        if (intentData != null) {
-            channel = intentData.getString(CHANNEL);
-            notificationId = intentData.getInt(NOTIFICATION_ID);
-            message = intentData.getString(MESSAGE);
-        }
+        PendingResult pendingResult = goAsync();
+        ScheduleRepository repository =
+                ScheduleRepository.getInstance((Application) context.getApplicationContext());
+
+        repository.takeDueAlerts(System.currentTimeMillis()).whenComplete((alerts, error) -> {
+            try {
+                if (alerts != null) {
+                    for (Alert alert : alerts)
+                        notify(context, alert);
+                }
+            } finally {
+                pendingResult.finish();
+            }
+        });
+    }
+
+    /**
+     * Builds and shows the notification for an alert.
+     *
+     * @param context The context where the receiver is running
+     * @param alert The alert that is due
+     */
+    private static void notify(Context context, Alert alert) {
+        String channel = alert.isCourse() ? AlertChannels.COURSE : AlertChannels.ASSESSMENT;
 
         Notification notification = new NotificationCompat.Builder(context, channel)
                 .setSmallIcon(R.drawable.ic_baseline_calendar_today_24)
                 .setContentTitle("Course Scheduler Alert")
-                .setContentText(message)
+                .setContentText(alert.getMessage())
 //                .setContentText(NotificationCompat.CATEGORY_REMINDER)
                 .build();
 
-        NotificationManagerCompat.from(context).notify(notificationId, notification);
+        // Alert IDs are unique, so two alerts never replace each other's notification
+        NotificationManagerCompat.from(context).notify(alert.getId(), notification);
     }
 }
@@ -0,0 +1,365 @@
+package wgu.c196.rachel.coursescheduler.util;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * The executors shared by the whole app.
+ *
+ * <p> There are four: a small pool for the app's own reads, a small pool for Room's queries, a
+ * single thread for writing to the database, so writes never wait on each other for SQLite's
+ * write lock, and the main thread. The pools
+ * are created once and live as long as the app, so screens no longer start a thread of their
+ * own. Each executor counts how many tasks are waiting and how long tasks wait and run. </p>
+ *
+ * <p> load() runs work on the read pool and delivers the result on the main thread, but only
+ * while the screen that asked for it still exists. When the screen is destroyed, work that has not
+ * started is cancelled and results that arrive later are dropped. whenDone() does the same for the
+ * result of a write, but never cancels the write, and tells the screen if the write failed. </p>
+ *
+ * <p> The queues of the read and write pools are bounded. WriteQueue keeps at most one batch
+ * waiting for the write thread, so a full queue means work is being submitted faster than it can
+ * ever run. When that happens off the main thread, the task is run on the thread that submitted
+ * it, which slows that thread down to the pool's pace. On the main thread it is rejected instead,
+ * since running it there would block the UI on SQLite; every caller of diskRead() catches that,
+ * and load() treats it like a failed load. Either way it is counted in the metrics. </p>
+ *
+ * <p> Room submits its LiveData and paged queries from the main thread and cannot handle a
+ * rejection, so they run on roomQueries(), whose queue is never full. Room coalesces the refreshes
+ * of each LiveData, so its queue stays short anyway. </p>
+ */
+public class AppExecutors {
+    private static final String TAG = "AppExecutors";
+
+    // SQLite in WAL mode can run several reads at once but only one write
+    private static final int DISK_READ_THREADS = 3;
+    private static final int DISK_WRITE_THREADS = 1;
+    private static final int ROOM_QUERY_THREADS = 3;
+
+    // Far more than the LiveData, paged lists, and loads a screen has waiting at once
+    private static final int DISK_READ_QUEUE = 128;
+    // WriteQueue batches the writes themselves, so only its next batch waits here
+    private static final int DISK_WRITE_QUEUE = 16;
+
+    private static volatile AppExecutors INSTANCE;
+
+    private final InstrumentedExecutor diskRead;
+    private final InstrumentedExecutor diskWrite;
+    private final InstrumentedExecutor roomQueries;
+    private final InstrumentedExecutor mainThread;
+
+    private AppExecutors() {
+        diskRead = new InstrumentedExecutor("disk-read",
+                newPool("disk-read", DISK_READ_THREADS, DISK_READ_QUEUE));
+        diskWrite = new InstrumentedExecutor("disk-write",
+                newPool("disk-write", DISK_WRITE_THREADS, DISK_WRITE_QUEUE));
+        roomQueries = new InstrumentedExecutor("room-query",
+                newPool("room-query", ROOM_QUERY_THREADS, new LinkedBlockingQueue<>()));
+        mainThread = new InstrumentedExecutor("main", new MainThreadExecutor());
+    }
+
+    /**
+     * Gets the shared executors, creating them the first time.
+     *
+     * @return The shared executors
+     */
+    public static AppExecutors getInstance() {
+        if (INSTANCE == null) {
+            synchronized (AppExecutors.class) {
+                if (INSTANCE == null)
+                    INSTANCE = new AppExecutors();
+            }
+        }
+        return INSTANCE;
+    }
+
+    public Executor diskRead() {
+        return diskRead;
+    }
+
+    public Executor diskWrite() {
+        return diskWrite;
+    }
+
+    /**
+     * The executor for Room's queries. Its queue is unbounded, so it never rejects a task.
+     *
+     * @return The executor to pass to RoomDatabase.Builder.setQueryExecutor()
+     */
+    public Executor roomQueries() {
+        return roomQueries;
+    }
+
+    public Executor mainThread() {
+        return mainThread;
+    }
+
+    /**
+     * Reads something in the background and uses it on the main thread.
+     *
+     * <p> This must be called on the main thread. If the owner is destroyed first, the work is
+     * cancelled if it has not started, and onResult is never called. If the read pool's queue is
+     * full, the work is not run and onResult is never called either. </p>
+     * @param owner The screen the result is for, such as a fragment's view
+     * @param work The work to run on the read pool
+     * @param onResult Uses the result on the main thread
+     */
+    public <T> void load(@NonNull LifecycleOwner owner, @NonNull Callable<T> work,
+                         @NonNull Consumer<T> onResult) {
+        Lifecycle lifecycle = owner.getLifecycle();
+        if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED)
+            return;
+
+        LifecycleTask task = new LifecycleTask(lifecycle);
+        try {
+            task.future = diskRead.submit(() -> {
+                T result;
+                try {
+                    result = work.call();
+                } catch (Exception e) {
+                    Log.e(TAG, "Background load failed", e);
+                    mainThread.execute(task::finish);
+                    return;
+                }
+
+                mainThread.execute(() -> {
+                    if (task.finish())
+                        onResult.accept(result);
+                });
+            });
+        } catch (RejectedExecutionException e) {
+            Log.e(TAG, "Background load rejected, " + diskRead.getMetrics(), e);
+            return;
+        }
+        lifecycle.addObserver(task);
+    }
+
+    /**
+     * Uses the result of a write on the main thread once the write has committed.
+     *
+     * <p> This must be called on the main thread. The write is never cancelled; if the owner is
+     * destroyed first, neither callback is called. A write that failed is logged and passed to
+     * onError instead of onResult, so the screen can tell the user it was not saved. </p>
+     * @param owner The screen the result is for, such as a fragment's view
+     * @param future The future returned by the repository for the write
+     * @param onResult Uses the result on the main thread
+     * @param onError Handles the failure on the main thread
+     */
+    public <T> void whenDone(@NonNull LifecycleOwner owner, @NonNull CompletableFuture<T> future,
+                             @NonNull Consumer<T> onResult, @NonNull Consumer<Throwable> onError) {
+        Lifecycle lifecycle = owner.getLifecycle();
+        if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED)
+            return;
+
+        LifecycleTask task = new LifecycleTask(lifecycle);
+        lifecycle.addObserver(task);
+        future.whenCompleteAsync((result, error) -> {
+            if (!task.finish())
+                return;
+            if (error != null) {
+                Log.e(TAG, "Background write failed", error);
+                onError.accept(error);
+            } else {
+                onResult.accept(result);
+            }
+        }, mainThread);
+    }
+
+    /**
+     * Describes the queue depth and task times of every executor.
+     *
+     * @return One line for each executor
+     */
+    public String getMetrics() {
+        return diskRead.getMetrics() + "\n" + diskWrite.getMetrics() + "\n" + roomQueries.getMetrics()
+                + "\n" + mainThread.getMetrics();
+    }
+
+    private static ThreadPoolExecutor newPool(String name, int threads, int capacity) {
+        return newPool(name, threads, new ArrayBlockingQueue<>(capacity));
+    }
+
+    private static ThreadPoolExecutor newPool(String name, int threads, BlockingQueue<Runnable> queue) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                queue, factory, new CallerRunsOffMainThread());
+    }
+
+    /**
+     * Handles a task that does not fit in a pool's queue, see the class comment.
+     */
+    private static class CallerRunsOffMainThread implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor pool) {
+            if (pool.isShutdown())
+                throw new RejectedExecutionException("The pool is shut down");
+            if (Looper.myLooper() == Looper.getMainLooper())
+                throw new RejectedExecutionException("The queue of " + pool.getQueue().size() +
+                        " tasks is full");
+            task.run();
+        }
+    }
+
+    /**
+     * Cancels a load when its lifecycle is destroyed.
+     */
+    private static class LifecycleTask implements LifecycleEventObserver {
+        private final Lifecycle lifecycle;
+        private Future<?> future;
+        private boolean isDone = false;
+
+        LifecycleTask(Lifecycle lifecycle) {
+            this.lifecycle = lifecycle;
+        }
+
+        @Override
+        public void onStateChanged(@NonNull LifecycleOwner source, @NonNull Lifecycle.Event event) {
+            if (event == Lifecycle.Event.ON_DESTROY && !isDone) {
+                isDone = true;
+                // A load that has started is left to finish, since SQLite cannot be interrupted.
+                // A write has no future here and is always left to finish.
+                if (future != null)
+                    future.cancel(false);
+                lifecycle.removeObserver(this);
+            }
+        }
+
+        /**
+         * Stops watching the lifecycle once the work is done. Runs on the main thread.
+         *
+         * @return True if the result should still be delivered
+         */
+        boolean finish() {
+            if (isDone)
+                return false;
+            isDone = true;
+            lifecycle.removeObserver(this);
+            return true;
+        }
+    }
+
+    /**
+     * Runs tasks on the main thread.
+     */
+    private static class MainThreadExecutor implements Executor {
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        @Override
+        public void execute(@NonNull Runnable command) {
+            handler.post(command);
+        }
+    }
+
+    /**
+     * Wraps an executor to count its waiting tasks and time how long tasks wait and run.
+     */
+    private static class InstrumentedExecutor implements Executor {
+        private final String name;
+        private final Executor delegate;
+
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger maxQueued = new AtomicInteger();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong totalRunNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLong maxRunNanos = new AtomicLong();
+
+        InstrumentedExecutor(String name, Executor delegate) {
+            this.name = name;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(@NonNull Runnable command) {
+            long queuedAt = System.nanoTime();
+            updateMax(maxQueued, queued.incrementAndGet());
+
+            try {
+                delegate.execute(() -> {
+                    long startedAt = System.nanoTime();
+                    queued.decrementAndGet();
+                    try {
+                        command.run();
+                    } finally {
+                        long finishedAt = System.nanoTime();
+                        record(startedAt - queuedAt, finishedAt - startedAt);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queued.decrementAndGet();
+                rejected.incrementAndGet();
+                throw e;
+            }
+        }
+
+        /**
+         * Submits a task that can be cancelled before it starts. Only used with the pools.
+         */
+        Future<?> submit(Runnable command) {
+            FutureTask<Void> task = new FutureTask<>(command, null);
+            execute(task);
+            return task;
+        }
+
+        private void record(long waitNanos, long runNanos) {
+            completed.incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+            totalRunNanos.addAndGet(runNanos);
+            updateMax(maxWaitNanos, waitNanos);
+            updateMax(maxRunNanos, runNanos);
+        }
+
+        private static void updateMax(AtomicInteger max, int value) {
+            int current = max.get();
+            while (value > current && !max.compareAndSet(current, value))
+                current = max.get();
+        }
+
+        private static void updateMax(AtomicLong max, long value) {
+            long current = max.get();
+            while (value > current && !max.compareAndSet(current, value))
+                current = max.get();
+        }
+
+        String getMetrics() {
+            long count = Math.max(1, completed.get());
+            return String.format(Locale.US,
+                    "%s: queued=%d maxQueued=%d completed=%d rejected=%d avgWait=%.2fms " +
+                            "maxWait=%.2fms avgRun=%.2fms maxRun=%.2fms", name, queued.get(),
+                    maxQueued.get(), completed.get(), rejected.get(),
+                    totalWaitNanos.get() / 1e6 / count, maxWaitNanos.get() / 1e6,
+                    totalRunNanos.get() / 1e6 / count, maxRunNanos.get() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package wgu.c196.rachel.coursescheduler.util;
+
+import android.os.Bundle;
+
+import androidx.annotation.IdRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+import androidx.navigation.NavController;
+import androidx.navigation.fragment.NavHostFragment;
+
+import wgu.c196.rachel.coursescheduler.R;
+
+/**
+ * Helpers for leaving a screen without growing the back stack.
+ *
+ * <p> Every screen is a fragment in the navigation graph, res/navigation/nav_graph.xml, shown by
+ * MainActivity's NavHostFragment. Going forward, such as from a list to one of its rows, follows
+ * an action of the graph as usual. Going back, such as after a save or a delete, or to the home
+ * page, pops the back stack to the screen that is already in it instead of adding another copy.
+ * When that screen is not in the back stack, the graph's action for it pops the current screen
+ * with popUpTo, so it is not left behind. An editing session then keeps at most one of each
+ * screen alive, however many times the user adds and saves. </p>
+ */
+public class BackStack {
+    /**
+     * Argument that tells a form it was opened from a spinner of another form, so saving returns
+     * the new row's ID to that form instead of going to the list of rows.
+     */
+    public static final String FOR_RESULT = "for_result";
+
+    private BackStack() {
+    }
+
+    /**
+     * Returns to the screen of the given destination.
+     *
+     * <p> If that screen is in the back stack, the screens above it are popped and it is shown as
+     * it was, without being created again. Otherwise the action is followed, which pops the
+     * current screen. </p>
+     * @param fragment The current screen
+     * @param destinationId The ID of the screen to return to in the navigation graph
+     * @param actionId The action from the current screen to it, which pops the current screen
+     * @param args The arguments for the screen to return to. They are only read if the screen has
+     *             to be created.
+     */
+    public static void returnTo(@NonNull Fragment fragment, @IdRes int destinationId,
+                                @IdRes int actionId, @Nullable Bundle args) {
+        NavController navController = NavHostFragment.findNavController(fragment);
+        if (!navController.popBackStack(destinationId, false))
+            navController.navigate(actionId, args);
+    }
+
+    /**
+     * Returns to the home page, popping every screen above it.
+     *
+     * @param fragment The current screen
+     */
+    public static void goHome(@NonNull Fragment fragment) {
+        NavHostFragment.findNavController(fragment).popBackStack(R.id.homePageFragment, false);
+    }
+
+    /**
+     * Checks whether a form was opened from a spinner of another form.
+     *
+     * @param fragment The form
+     * @return True if saving should return the new row's ID to the form that opened it
+     */
+    public static boolean isForResult(@NonNull Fragment fragment) {
+        Bundle args = fragment.getArguments();
+        return args != null && args.getBoolean(FOR_RESULT, false);
+    }
+
+    /**
+     * Gives a saved row's ID to the form that opened this one, and returns to it.
+     *
+     * <p> The ID is set as a fragment result, which the form that opened this one receives once it
+     * is shown again. </p>
+     * @param fragment The form that saved the row
+     * @param key The key of the result, which is also the key of the ID in it
+     * @param id The ID of the saved row
+     */
+    public static void returnResult(@NonNull Fragment fragment, @NonNull String key, int id) {
+        Bundle result = new Bundle();
+        result.putInt(key, id);
+        fragment.getParentFragmentManager().setFragmentResult(key, result);
+        NavHostFragment.findNavController(fragment).popBackStack();
+    }
+}
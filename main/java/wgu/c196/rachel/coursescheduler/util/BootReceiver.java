@@ -0,0 +1,37 @@
+package wgu.c196.rachel.coursescheduler.util;
+
+import android.app.Application;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+
+import wgu.c196.rachel.coursescheduler.database.ScheduleRepository;
+
+/**
+ * Broadcast Receiver class that registers the alert alarm again.
+ *
+ * <p> The system forgets every alarm when the device restarts, and can drop them when the app is
+ * updated. This receiver is told when either happens, and registers the alarm for the next alert
+ * from the alert table. Alerts that came due while the device was off go off straight away. </p>
+ */
+public class BootReceiver extends BroadcastReceiver {
+
+    /**
+     * Registers the alarm for the next alert.
+     *
+     * @param context The context where the receiver is running
+     * @param intent The boot completed or package replaced intent
+     */
+    @Override
+    public void onReceive(Context context, Intent intent) {
+        String action = intent.getAction();
+        if (!Intent.ACTION_BOOT_COMPLETED.equals(action)
+                && !Intent.ACTION_MY_PACKAGE_REPLACED.equals(action))
+            return;
+
+        PendingResult pendingResult = goAsync();
+        ScheduleRepository.getInstance((Application) context.getApplicationContext())
+                .rescheduleAlerts()
+                .whenComplete((result, error) -> pendingResult.finish());
+    }
+}
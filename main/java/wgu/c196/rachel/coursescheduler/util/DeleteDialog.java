@@ -17,7 +17,7 @@ import wgu.c196.rachel.coursescheduler.R;
  *
  * <p> This class creates a message allowing the user to either confirm or cancel when they are
  * deleting assessments, courses, instructors, and terms. Contains a DeleteDialogListener interface
- * that lets implementing activities choose what to do when the user confirms or cancels. </p>
+ * that lets the implementing screens choose what to do when the user confirms or cancels. </p>
  */
 public class DeleteDialog extends DialogFragment {
     /**
@@ -62,13 +62,20 @@ public class DeleteDialog extends DialogFragment {
     }
 
     /**
-     * Attaches the DeleteDialogListener implemented in the context, or throws an exception if not implemented.
+     * Attaches the DeleteDialogListener implemented by the fragment that showed the dialog, or by
+     * the context, or throws an exception if neither implements it.
      *
-     * @param context The context implementing the DeleteDialog class
+     * @param context The context the dialog is attached to
      */
     @Override
     public void onAttach(@NonNull Context context) {
         super.onAttach(context);
+        // Screens are fragments that show the dialog with their child fragment manager
+        if (getParentFragment() instanceof DeleteDialogListener) {
+            listener = (DeleteDialogListener) getParentFragment();
+            return;
+        }
+
         // Verify that the host activity implements the callback interface
         try {
             listener = (DeleteDialogListener) context;
@@ -89,7 +96,7 @@ public class DeleteDialog extends DialogFragment {
     }
 
     /**
-     * Interface that lets activities choose what to do when the user confirms or cancels.
+     * Interface that lets screens choose what to do when the user confirms or cancels.
      */
     public interface DeleteDialogListener {
         void onDeleteDialogPositive(DialogFragment dialog);
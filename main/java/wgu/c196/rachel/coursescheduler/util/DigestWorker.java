@@ -0,0 +1,176 @@
+package wgu.c196.rachel.coursescheduler.util;
+
+import android.app.Application;
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.annotation.NonNull;
+import androidx.core.app.NotificationCompat;
+import androidx.core.app.NotificationManagerCompat;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.database.ScheduleRepository;
+import wgu.c196.rachel.coursescheduler.model.AgendaItem;
+
+/**
+ * Worker that posts a daily digest of the courses and assessments starting or ending that day.
+ *
+ * <p> The digest runs once a day, reads the day's agenda with one query, and posts a single
+ * group of notifications: one for each course or assessment, on its alert channel, and a summary
+ * that lists them. The group only alerts once, so a busy day costs one wakeup and one sound
+ * instead of one for each item. The digest is turned on and off from the home page, and alerts
+ * set on single courses and assessments work the same either way. </p>
+ */
+public class DigestWorker extends Worker {
+    private static final String WORK_NAME = "daily_digest";
+    private static final String PREFERENCES = "digest";
+    private static final String ENABLED = "enabled";
+
+    // The digest is posted at 7 AM
+    private static final LocalTime DIGEST_TIME = LocalTime.of(7, 0);
+
+    // Larger than any real day's agenda, to keep a bad import from flooding the shade
+    private static final int DIGEST_LIMIT = 100;
+
+    // The most items listed in the summary before the rest are counted
+    private static final int SUMMARY_LINES = 5;
+
+    // Tags keep the digest's notification IDs apart from the alert IDs used by AlertReceiver
+    private static final String GROUP = "wgu.c196.rachel.coursescheduler.DIGEST";
+    private static final String SUMMARY_TAG = "digest";
+    private static final String ITEM_TAG = "digest_item_";
+    private static final int SUMMARY_ID = 0;
+
+    /**
+     * Constructor for DigestWorker.
+     *
+     * @param context The application context
+     * @param workerParams Parameters set up by WorkManager
+     */
+    public DigestWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    /**
+     * Checks whether the daily digest is turned on.
+     *
+     * @param context The context used to read the preference
+     * @return True if the digest is turned on
+     */
+    public static boolean isEnabled(Context context) {
+        return getPreferences(context).getBoolean(ENABLED, false);
+    }
+
+    /**
+     * Turns the daily digest on or off.
+     *
+     * <p> WorkManager keeps the work across restarts, so it only needs to be scheduled once.
+     * Turning the digest on when it is already on keeps the existing schedule. </p>
+     * @param context The context used to reach WorkManager
+     * @param enabled True to turn the digest on, false to turn it off
+     */
+    public static void setEnabled(Context context, boolean enabled) {
+        getPreferences(context).edit().putBoolean(ENABLED, enabled).apply();
+        WorkManager workManager = WorkManager.getInstance(context);
+
+        if (!enabled) {
+            workManager.cancelUniqueWork(WORK_NAME);
+            return;
+        }
+
+        PeriodicWorkRequest request = new PeriodicWorkRequest.Builder(DigestWorker.class, 1, TimeUnit.DAYS)
+                .setInitialDelay(getDelayUntilDigest().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        workManager.enqueueUniquePeriodicWork(WORK_NAME, ExistingPeriodicWorkPolicy.KEEP, request);
+    }
+
+    private static SharedPreferences getPreferences(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREFERENCES, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * Gets the time left until the next digest is due.
+     *
+     * @return The time until DIGEST_TIME today, or tomorrow if it has already passed
+     */
+    private static Duration getDelayUntilDigest() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = LocalDate.now().atTime(DIGEST_TIME);
+        if (!next.isAfter(now))
+            next = next.plusDays(1);
+        return Duration.between(now, next);
+    }
+
+    /**
+     * Reads today's agenda and posts the digest.
+     *
+     * <p> Runs on a background thread provided by WorkManager. Nothing is posted on a day with
+     * nothing on the agenda. </p>
+     * @return Always success, since a missed digest is replaced by the next day's
+     */
+    @NonNull
+    @Override
+    public Result doWork() {
+        Context context = getApplicationContext();
+        List<AgendaItem> items = ScheduleRepository.getInstance((Application) context)
+                .getAgendaForDay(LocalDate.now(), DIGEST_LIMIT);
+
+        if (items.isEmpty())
+            return Result.success();
+
+        NotificationManagerCompat manager = NotificationManagerCompat.from(context);
+        NotificationCompat.InboxStyle inbox = new NotificationCompat.InboxStyle();
+        boolean hasAssessment = false;
+
+        for (int i = 0; i < items.size(); i++) {
+            AgendaItem item = items.get(i);
+            String text = context.getString(item.getTypeName()) +
+                    ": " + item.getTitle();
+            hasAssessment |= !item.isCourse();
+
+            if (i < SUMMARY_LINES)
+                inbox.addLine(text);
+
+            String itemChannel = item.isCourse() ? AlertChannels.COURSE : AlertChannels.ASSESSMENT;
+            manager.notify(ITEM_TAG + item.getType(), item.getId(),
+                    new NotificationCompat.Builder(context, itemChannel)
+                            .setSmallIcon(R.drawable.ic_baseline_calendar_today_24)
+                            .setContentTitle(item.getTitle())
+                            .setContentText(text)
+                            .setGroup(GROUP)
+                            .setGroupAlertBehavior(NotificationCompat.GROUP_ALERT_SUMMARY)
+                            .build());
+        }
+
+        String title = context.getResources().getQuantityString(R.plurals.digest_title,
+                items.size(), items.size());
+        if (items.size() > SUMMARY_LINES)
+            inbox.setSummaryText(context.getString(R.string.digest_more, items.size() - SUMMARY_LINES));
+
+        // The summary uses the louder channel when anything in the group is an assessment
+        String channel = hasAssessment ? AlertChannels.ASSESSMENT : AlertChannels.COURSE;
+        manager.notify(SUMMARY_TAG, SUMMARY_ID, new NotificationCompat.Builder(context, channel)
+                .setSmallIcon(R.drawable.ic_baseline_calendar_today_24)
+                .setContentTitle(title)
+                .setStyle(inbox.setBigContentTitle(title))
+                .setGroup(GROUP)
+                .setGroupSummary(true)
+                .setGroupAlertBehavior(NotificationCompat.GROUP_ALERT_SUMMARY)
+                .setAutoCancel(true)
+                .build());
+
+        return Result.success();
+    }
+}
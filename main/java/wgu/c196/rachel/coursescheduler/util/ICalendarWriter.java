@@ -0,0 +1,141 @@
+package wgu.c196.rachel.coursescheduler.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes an iCalendar (RFC 5545) file one event at a time.
+ *
+ * <p> Nothing is kept between events, so writing a calendar takes the same memory whatever the
+ * number of events. Each event is an all-day VEVENT from its start date through its end date.
+ * Lines end with CRLF, text is escaped, and lines longer than 75 octets are folded, as the RFC
+ * requires. The writer should be buffered. </p>
+ */
+public class ICalendarWriter {
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final Writer writer;
+    // Every event is stamped with the time the calendar was written
+    private final String timestamp;
+
+    /**
+     * Constructor for ICalendarWriter. Writes the start of the calendar.
+     *
+     * @param writer The writer the calendar is written to
+     * @throws IOException if the writer fails
+     */
+    public ICalendarWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        this.timestamp = ZonedDateTime.now(ZoneOffset.UTC).format(TIMESTAMP);
+
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//wgu.c196.rachel//Course Scheduler//EN");
+        line("CALSCALE:GREGORIAN");
+    }
+
+    /**
+     * Writes one all-day event.
+     *
+     * @param uid A unique ID for the event, which stays the same across exports
+     * @param category The kind of event, such as Course
+     * @param summary The title of the event
+     * @param start The first day of the event
+     * @param end The last day of the event, or null if it is only one day
+     * @throws IOException if the writer fails
+     */
+    public void writeEvent(String uid, String category, String summary, LocalDate start,
+                           LocalDate end) throws IOException {
+        // DTEND is the day after the last day
+        LocalDate last = end == null || end.isBefore(start) ? start : end;
+
+        line("BEGIN:VEVENT");
+        line("UID:" + escape(uid));
+        line("DTSTAMP:" + timestamp);
+        line("DTSTART;VALUE=DATE:" + start.format(DATE));
+        line("DTEND;VALUE=DATE:" + last.plusDays(1).format(DATE));
+        line("SUMMARY:" + escape(summary == null ? "" : summary));
+        line("CATEGORIES:" + escape(category));
+        line("END:VEVENT");
+    }
+
+    /**
+     * Writes the end of the calendar. The writer is left open for the caller to close.
+     *
+     * @throws IOException if the writer fails
+     */
+    public void finish() throws IOException {
+        line("END:VCALENDAR");
+    }
+
+    /**
+     * Writes a content line, folding it into lines of at most 75 octets of UTF-8.
+     *
+     * <p> A character is never split across lines. Each continuation line starts with a space,
+     * which counts toward its 75 octets. </p>
+     * @param content The content line, without a line ending
+     */
+    private void line(String content) throws IOException {
+        int octets = 0;
+        int i = 0;
+        while (i < content.length()) {
+            int codePoint = content.codePointAt(i);
+            int size = utf8Length(codePoint);
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write(CRLF);
+                writer.write(' ');
+                octets = 1;
+            }
+            writer.write(content, i, Character.charCount(codePoint));
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(CRLF);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80)
+            return 1;
+        if (codePoint < 0x800)
+            return 2;
+        if (codePoint < 0x10000)
+            return 3;
+        return 4;
+    }
+
+    /**
+     * Escapes text for a TEXT value: backslashes, semicolons, commas, and line breaks.
+     *
+     * @param text The text
+     * @return The escaped text
+     */
+    static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                case ';':
+                case ',':
+                    escaped.append('\\').append(c);
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,203 @@
+package wgu.c196.rachel.coursescheduler.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A set of ints.
+ *
+ * <p> This set is used to hold the IDs of the rows selected in a list. The values are kept in one
+ * int array with open addressing and linear probing, so adding, removing, and checking for a value
+ * take constant time and no Integer is created for each value. Removing shifts the values after it
+ * back instead of leaving a marker, so the set does not slow down as values come and go. </p>
+ */
+public class IntHashSet {
+    // 0 marks an empty slot, so whether 0 is in the set is kept separately
+    private static final int EMPTY = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] slots;
+    private int size = 0;
+    private boolean hasZero = false;
+
+    /**
+     * Constructor for IntHashSet.
+     */
+    public IntHashSet() {
+        slots = new int[MIN_CAPACITY];
+    }
+
+    /**
+     * Constructor for IntHashSet that adds the given values.
+     *
+     * @param values The values to add
+     */
+    public IntHashSet(int[] values) {
+        this();
+        for (int value : values)
+            add(value);
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value The value to add
+     * @return True if the value was not already in the set
+     */
+    public boolean add(int value) {
+        if (value == EMPTY) {
+            if (hasZero)
+                return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int mask = slots.length - 1;
+        int index = indexOf(value, mask);
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value)
+                return false;
+            index = (index + 1) & mask;
+        }
+
+        slots[index] = value;
+        size++;
+        // Keep the table at most half full so probes stay short
+        if (size * 2 > slots.length)
+            resize(slots.length * 2);
+        return true;
+    }
+
+    /**
+     * Removes a value from the set.
+     *
+     * @param value The value to remove
+     * @return True if the value was in the set
+     */
+    public boolean remove(int value) {
+        if (value == EMPTY) {
+            if (!hasZero)
+                return false;
+            hasZero = false;
+            size--;
+            return true;
+        }
+
+        int mask = slots.length - 1;
+        int index = indexOf(value, mask);
+        while (slots[index] != value) {
+            if (slots[index] == EMPTY)
+                return false;
+            index = (index + 1) & mask;
+        }
+
+        // Move back the values after the gap that would no longer be found past it
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (slots[next] != EMPTY) {
+            int home = indexOf(slots[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                slots[gap] = slots[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[gap] = EMPTY;
+        size--;
+        return true;
+    }
+
+    /**
+     * Checks if a value is in the set.
+     *
+     * @param value The value to look for
+     * @return True if the value is in the set
+     */
+    public boolean contains(int value) {
+        if (value == EMPTY)
+            return hasZero;
+
+        int mask = slots.length - 1;
+        int index = indexOf(value, mask);
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value)
+                return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every value from the set.
+     */
+    public void clear() {
+        if (slots.length > MIN_CAPACITY)
+            slots = new int[MIN_CAPACITY];
+        else
+            Arrays.fill(slots, EMPTY);
+        size = 0;
+        hasZero = false;
+    }
+
+    /**
+     * Gets the values in the set, in no particular order.
+     *
+     * @return A new array of the values
+     */
+    public int[] toArray() {
+        int[] values = new int[size];
+        int i = 0;
+        if (hasZero)
+            values[i++] = 0;
+        for (int slot : slots) {
+            if (slot != EMPTY)
+                values[i++] = slot;
+        }
+        return values;
+    }
+
+    /**
+     * Gets the values in the set as a list, for passing to the database.
+     *
+     * @return A new list of the values, in no particular order
+     */
+    public List<Integer> toList() {
+        List<Integer> values = new ArrayList<>(size);
+        for (int value : toArray())
+            values.add(value);
+        return values;
+    }
+
+    private void resize(int capacity) {
+        int[] old = slots;
+        slots = new int[capacity];
+        int mask = capacity - 1;
+        for (int value : old) {
+            if (value == EMPTY)
+                continue;
+            int index = indexOf(value, mask);
+            while (slots[index] != EMPTY)
+                index = (index + 1) & mask;
+            slots[index] = value;
+        }
+    }
+
+    /**
+     * Finds the slot a value would be in if nothing else were in the table. The bits are mixed
+     * first, since IDs are mostly consecutive and would otherwise fill one run of slots.
+     */
+    private static int indexOf(int value, int mask) {
+        int hash = value * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,82 @@
+package wgu.c196.rachel.coursescheduler.util;
+
+import android.content.Context;
+import android.widget.ArrayAdapter;
+import android.widget.Spinner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers for the spinners that list rows from the database.
+ *
+ * <p> Each of these spinners keeps one adapter for as long as its screen exists. When the rows
+ * change, the adapter's items are replaced instead of creating and setting a new adapter, so the
+ * spinner keeps its views and the row the user had selected. </p>
+ */
+public class Spinners {
+
+    private Spinners() {
+    }
+
+    /**
+     * Creates an empty adapter and sets it on a spinner.
+     *
+     * @param context The context of the screen the spinner is in
+     * @param spinner The spinner
+     * @return The adapter, to be filled with replaceItems()
+     */
+    public static <T> ArrayAdapter<T> attachAdapter(Context context, Spinner spinner) {
+        ArrayAdapter<T> adapter = new ArrayAdapter<>(context,
+                android.R.layout.simple_spinner_item, new ArrayList<>());
+        adapter.setDropDownViewResource(android.R.layout.simple_spinner_dropdown_item);
+        spinner.setAdapter(adapter);
+        return adapter;
+    }
+
+    /**
+     * Replaces the items of a spinner's adapter.
+     *
+     * <p> The adapter is notified once, after every item is added. If the item that was selected
+     * is still one of the rows, it stays selected. The trailing item, which adds a new row, is
+     * never selected again this way, so it does not open the add screen a second time. </p>
+     * @param spinner The spinner
+     * @param adapter The spinner's adapter
+     * @param items The rows to show
+     * @param trailingItem An item shown after the rows, or null
+     */
+    public static <T> void replaceItems(Spinner spinner, ArrayAdapter<T> adapter, List<T> items,
+                                        T trailingItem) {
+        Object selected = spinner.getSelectedItem();
+
+        adapter.setNotifyOnChange(false);
+        adapter.clear();
+        adapter.addAll(items);
+        if (trailingItem != null)
+            adapter.add(trailingItem);
+        adapter.notifyDataSetChanged();
+
+        if (selected != null) {
+            int position = items.indexOf(selected);
+            if (position >= 0)
+                spinner.setSelection(position, false);
+        }
+    }
+
+    /**
+     * Selects an item if the spinner's adapter has it.
+     *
+     * <p> The models compare by ID, so item can be a model with only its ID set. </p>
+     * @param spinner The spinner
+     * @param adapter The spinner's adapter
+     * @param item The item to select
+     * @return True if the item was found and selected
+     */
+    public static <T> boolean select(Spinner spinner, ArrayAdapter<T> adapter, T item) {
+        int position = adapter.getPosition(item);
+        if (position < 0)
+            return false;
+        spinner.setSelection(position);
+        return true;
+    }
+}
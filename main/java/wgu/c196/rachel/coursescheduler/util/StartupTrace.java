@@ -0,0 +1,197 @@
+package wgu.c196.rachel.coursescheduler.util;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import androidx.tracing.Trace;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each phase of starting the app takes, up to the first rendered list of terms.
+ *
+ * <p> Each phase is recorded the first time it happens, either as a section with a duration or as
+ * a mark with none. Sections also show up as androidx.tracing sections in a system trace or a
+ * macrobenchmark. Every later call just runs its body after a map lookup. Binding a row runs too
+ * often even for that, so it checks isFirstBindRecorded() first, which reads a single field. Once
+ * the first row of terms is bound, the phases are logged in the order they started, each with its
+ * time since the app started. </p>
+ */
+public final class StartupTrace {
+    private static final String TAG = "StartupTrace";
+
+    /**
+     * Creating the notification channels in the Application.
+     */
+    public static final String CHANNELS = "AlertChannels.onCreate";
+    /**
+     * Building the database, which does not open it yet.
+     */
+    public static final String DATABASE_BUILD = "ScheduleRoomDatabase.getDatabase";
+    /**
+     * The database has been opened and migrated, on the thread running the first query.
+     */
+    public static final String DATABASE_OPEN = "ScheduleRoomDatabase.onOpen";
+    /**
+     * Room has started the first query that is not a transaction or PRAGMA.
+     */
+    public static final String FIRST_QUERY = "first query";
+    /**
+     * The home page's view has been created.
+     */
+    public static final String HOME_CREATED = "HomePageFragment.onViewCreated";
+    /**
+     * The view of the list of terms has been created.
+     */
+    public static final String TERMS_CREATED = "TermsFragment.onViewCreated";
+    /**
+     * Binding the first row of terms, the last phase.
+     */
+    public static final String FIRST_BIND = "TermRecyclerAdapter.onBindViewHolder";
+
+    // The class is first loaded by AlertChannels.onCreate(), so times are from there
+    private static final long START_NANOS = System.nanoTime();
+
+    private static final ConcurrentHashMap<String, Phase> phases = new ConcurrentHashMap<>();
+    // Whether FIRST_BIND is in phases, kept apart so a bind can check it without a lookup
+    private static volatile boolean isFirstBindRecorded = false;
+
+    private StartupTrace() {
+    }
+
+    /**
+     * Checks whether a phase has been recorded.
+     *
+     * @param name The name of the phase
+     * @return True if it has been recorded
+     */
+    public static boolean isRecorded(String name) {
+        return phases.containsKey(name);
+    }
+
+    /**
+     * Checks whether the first row of terms has been bound. Rows call this before every bind, and
+     * only trace the bind through section() while it is false.
+     *
+     * @return True if FIRST_BIND has been recorded
+     */
+    public static boolean isFirstBindRecorded() {
+        return isFirstBindRecorded;
+    }
+
+    /**
+     * Runs a phase that returns a value, tracing and timing it the first time.
+     *
+     * @param name The name of the phase
+     * @param body The phase
+     * @return The value returned by the phase
+     */
+    public static <T> T section(String name, Supplier<T> body) {
+        if (isRecorded(name))
+            return body.get();
+
+        Trace.beginSection(name);
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            record(name, start, System.nanoTime() - start);
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Runs a phase that does not return a value, tracing and timing it the first time.
+     *
+     * @param name The name of the phase
+     * @param body The phase
+     */
+    public static void section(String name, Runnable body) {
+        section(name, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Records the time a phase happened, the first time it happens.
+     *
+     * @param name The name of the phase
+     */
+    public static void mark(String name) {
+        if (!isRecorded(name))
+            record(name, System.nanoTime(), 0);
+    }
+
+    /**
+     * Forgets every phase recorded, so the next start can be recorded again. Only the benchmarks
+     * start the app more than once in a process.
+     */
+    @VisibleForTesting
+    public static void reset() {
+        phases.clear();
+        isFirstBindRecorded = false;
+    }
+
+    /**
+     * Gets the phases recorded so far.
+     *
+     * @return The phases, in the order they started
+     */
+    public static List<Phase> phases() {
+        List<Phase> list = new ArrayList<>(phases.values());
+        Collections.sort(list, (a, b) -> Long.compare(a.startMicros, b.startMicros));
+        return list;
+    }
+
+    /**
+     * Formats the phases recorded so far as a table, one phase per line.
+     *
+     * @return The table
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder(String.format(Locale.US,
+                "%-40s %12s %12s%n", "phase", "start ms", "took ms"));
+        for (Phase phase : phases())
+            report.append(phase).append('\n');
+        return report.toString();
+    }
+
+    private static void record(String name, long startNanos, long nanos) {
+        Phase phase = new Phase(name, (startNanos - START_NANOS) / 1000, nanos / 1000);
+        if (phases.putIfAbsent(name, phase) == null && FIRST_BIND.equals(name)) {
+            isFirstBindRecorded = true;
+            Log.i(TAG, "Startup phases:\n" + report());
+        }
+    }
+
+    /**
+     * One recorded phase.
+     */
+    public static final class Phase {
+        public final String name;
+        // Microseconds from the start of the app to the start of the phase
+        public final long startMicros;
+        // Zero for a mark
+        public final long durationMicros;
+
+        Phase(String name, long startMicros, long durationMicros) {
+            this.name = name;
+            this.startMicros = startMicros;
+            this.durationMicros = durationMicros;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "%-40s %12.2f %12.2f", name, startMicros / 1000.0,
+                    durationMicros / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package wgu.c196.rachel.coursescheduler.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import android.view.View;
+import android.widget.EditText;
+
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentManager;
+import androidx.navigation.NavController;
+import androidx.navigation.fragment.NavHostFragment;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import wgu.c196.rachel.coursescheduler.R;
+import wgu.c196.rachel.coursescheduler.database.DaoBenchmark;
+
+/**
+ * Adds and saves terms through the screens 200 times and checks that the heap stays flat.
+ *
+ * <p> It runs headless with the unit tests: ./gradlew testDebugUnitTest --tests
+ * '*NavigationHeapBenchmarkTest'. Each cycle opens AddTermFragment from the list of terms, fills
+ * in a title, and clicks save, which pops the form back to the list. The used heap is sampled
+ * after a garbage collection every SAMPLE_EVERY cycles, and the samples are written to
+ * build/reports/benchmarks/navigation-heap.txt. A screen that is not released when it is
+ * popped grows the back stack or the heap by a form every cycle, so the test fails if the back
+ * stack changes size, if a popped form is still reachable, or if the heap grows by more than
+ * MAX_GROWTH_BYTES. </p>
+ */
+@RunWith(RobolectricTestRunner.class)
+// The real SQLite, with FTS4, instead of Robolectric's legacy emulation
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class NavigationHeapBenchmarkTest {
+    private static final int CYCLES = 200;
+    // Cycles run before the first sample, so the classes and caches they use are loaded
+    private static final int WARM_UP_CYCLES = 20;
+    private static final int SAMPLE_EVERY = 20;
+    // About 10 KB a cycle, far less than a leaked form with its views
+    private static final long MAX_GROWTH_BYTES = 2 * 1024 * 1024;
+    // How long a save may take to pop the form, in milliseconds
+    private static final long SAVE_TIMEOUT = 10_000;
+
+    private ActivityController<MainActivity> activityController;
+    private NavController navController;
+    private FragmentManager screens;
+
+    @Before
+    public void setUp() {
+        activityController = Robolectric.buildActivity(MainActivity.class).setup();
+        NavHostFragment navHostFragment = (NavHostFragment) activityController.get()
+                .getSupportFragmentManager().findFragmentById(R.id.nav_host_fragment);
+        navController = navHostFragment.getNavController();
+        screens = navHostFragment.getChildFragmentManager();
+
+        navController.navigate(R.id.action_homePageFragment_to_termsFragment);
+        idleMainLooper();
+    }
+
+    @After
+    public void tearDown() {
+        activityController.pause().stop().destroy();
+    }
+
+    @Test
+    public void heapStaysFlatOverSaveCycles() throws Exception {
+        for (int cycle = 0; cycle < WARM_UP_CYCLES; cycle++)
+            addTerm("Warm up " + cycle);
+
+        int backStackSize = screens.getBackStackEntryCount();
+        List<WeakReference<Fragment>> forms = new ArrayList<>(CYCLES);
+        List<long[]> samples = new ArrayList<>();
+        samples.add(new long[]{0, usedHeap()});
+
+        for (int cycle = 1; cycle <= CYCLES; cycle++) {
+            forms.add(new WeakReference<>(addTerm("Term " + cycle)));
+            assertEquals("back stack after cycle " + cycle, backStackSize, screens.getBackStackEntryCount());
+
+            if (cycle % SAMPLE_EVERY == 0)
+                samples.add(new long[]{cycle, usedHeap()});
+        }
+
+        long growth = samples.get(samples.size() - 1)[1] - samples.get(0)[1];
+        int retained = 0;
+        for (WeakReference<Fragment> form : forms) {
+            if (form.get() != null)
+                retained++;
+        }
+
+        DaoBenchmark.publish("navigation-heap", report(samples, growth, retained));
+        assertEquals("popped forms still reachable", 0, retained);
+        assertTrue("heap grew by " + growth + " bytes", growth < MAX_GROWTH_BYTES);
+    }
+
+    /**
+     * Opens AddTermFragment from the list of terms, saves a term, and waits for the form to be
+     * popped.
+     *
+     * @param title The title of the term
+     * @return The form, which should be released once it is popped
+     */
+    private Fragment addTerm(String title) throws InterruptedException {
+        navController.navigate(R.id.action_termsFragment_to_addTermFragment);
+        idleMainLooper();
+
+        Fragment form = screens.getPrimaryNavigationFragment();
+        assertTrue(form instanceof AddTermFragment);
+        View root = form.requireView();
+        ((EditText) root.findViewById(R.id.term_name_edittext)).setText(title);
+        root.findViewById(R.id.term_save_button).performClick();
+
+        // The term is written on a background thread, which posts the pop to the main thread
+        long deadline = System.currentTimeMillis() + SAVE_TIMEOUT;
+        while (navController.getCurrentDestination().getId() != R.id.termsFragment) {
+            if (System.currentTimeMillis() > deadline)
+                fail("Saving " + title + " did not return to the list of terms");
+            Thread.sleep(1);
+            idleMainLooper();
+        }
+        return form;
+    }
+
+    /**
+     * Runs the tasks posted to the main thread, which Robolectric holds until asked.
+     */
+    private static void idleMainLooper() {
+        shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    /**
+     * Collects garbage and returns the heap in use.
+     *
+     * @return The used heap, in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        // One collection can leave objects that are only reachable from finalizers
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            System.runFinalization();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Formats the heap samples as a table, one sample per line.
+     *
+     * @param samples The cycle and used heap of each sample
+     * @param growth The growth from the first sample to the last, in bytes
+     * @param retained The number of popped forms still reachable
+     * @return The table
+     */
+    private static String report(List<long[]> samples, long growth, int retained) {
+        StringBuilder report = new StringBuilder(String.format(Locale.US,
+                "%-10s %12s%n", "cycle", "used KB"));
+        for (long[] sample : samples)
+            report.append(String.format(Locale.US, "%-10d %12d%n", sample[0], sample[1] / 1024));
+        report.append(String.format(Locale.US, "growth %d KB over %d cycles, %d popped forms retained%n",
+                growth / 1024, CYCLES, retained));
+        return report.toString();
+    }
+}
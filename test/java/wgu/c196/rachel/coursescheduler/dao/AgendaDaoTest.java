@@ -0,0 +1,145 @@
+package wgu.c196.rachel.coursescheduler.dao;
+
+import static org.junit.Assert.assertEquals;
+
+import android.content.Context;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.database.ScheduleRoomDatabase;
+import wgu.c196.rachel.coursescheduler.model.AgendaItem;
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.Term;
+
+/**
+ * Checks the keyset paging of AgendaDao where many items fall on the same date.
+ *
+ * <p> Three courses start and end on one day, and three assessments start that day and end the
+ * next, so twelve items share two dates and differ only by type and ID. Reading them a page at a
+ * time, the way AgendaLiveData does, must give the same items in the same order whatever the page
+ * size, with none skipped or repeated at a page boundary. </p>
+ */
+@RunWith(RobolectricTestRunner.class)
+// The real SQLite instead of Robolectric's legacy emulation
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class AgendaDaoTest {
+    private static final LocalDate DAY = LocalDate.of(2021, 3, 1);
+    private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+    private static final LocalDate UNTIL = DAY.plusDays(7);
+    // What AgendaLiveData passes as the type before the first page
+    private static final int BEFORE_FIRST_TYPE = -1;
+
+    // The agenda from DAY until UNTIL, as "date type id"
+    private static final List<String> AGENDA = Arrays.asList(
+            DAY + " 0 1", DAY + " 0 2", DAY + " 0 3",
+            DAY + " 1 1", DAY + " 1 2", DAY + " 1 3",
+            DAY + " 2 1", DAY + " 2 2", DAY + " 2 3",
+            NEXT_DAY + " 3 1", NEXT_DAY + " 3 2", NEXT_DAY + " 3 3");
+
+    private ScheduleRoomDatabase database;
+    private AgendaDao agendaDao;
+
+    @Before
+    public void setUp() {
+        Context context = ApplicationProvider.getApplicationContext();
+        database = Room.inMemoryDatabaseBuilder(context, ScheduleRoomDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+        agendaDao = database.agendaDao();
+
+        database.termDao().insert(new Term(1, "Spring 2021", DAY.minusDays(30), UNTIL.plusDays(30)));
+        database.courseInstructorDao().insert(new CourseInstructor(1, "Instructor", "555-0100",
+                "instructor@example.edu"));
+        for (int id = 1; id <= 3; id++) {
+            database.courseDao().insert(new Course(id, "Course " + id, DAY, DAY,
+                    Course.Status.IN_PROGRESS, 1, null, 1));
+            database.assessmentDao().insert(new Assessment(id, "Assessment " + id,
+                    Assessment.Type.OBJECTIVE, DAY, NEXT_DAY, id));
+        }
+
+        // Outside the range: the day before it, and the day it ends, which is not included
+        database.courseDao().insert(new Course(4, "Before", DAY.minusDays(1), UNTIL,
+                Course.Status.PLAN_TO_TAKE, 1, null, 1));
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+    }
+
+    @Test
+    public void oneLargePageIsTheWholeAgenda() {
+        assertEquals(AGENDA, describe(agendaDao.getAgendaPage(DAY, BEFORE_FIRST_TYPE, 0, UNTIL, 100)));
+    }
+
+    @Test
+    public void everyPageSizeReadsTheSameAgenda() {
+        for (int limit = 1; limit <= AGENDA.size() + 1; limit++)
+            assertEquals("page size " + limit, AGENDA, readInPages(limit));
+    }
+
+    @Test
+    public void pageResumesAfterTheLastItemOfTheSameDateAndType() {
+        // The previous page ended on the second course starting that day
+        assertEquals(Arrays.asList(DAY + " 0 3", DAY + " 1 1"),
+                describe(agendaDao.getAgendaPage(DAY, AgendaItem.TYPE_COURSE_START, 2, UNTIL, 2)));
+        // It ended on the last item of a type, so the next type on the same date follows
+        assertEquals(Arrays.asList(DAY + " 2 1", DAY + " 2 2"),
+                describe(agendaDao.getAgendaPage(DAY, AgendaItem.TYPE_COURSE_END, 3, UNTIL, 2)));
+        // It ended on the last item of a date, so the next date follows
+        assertEquals(Arrays.asList(NEXT_DAY + " 3 1"),
+                describe(agendaDao.getAgendaPage(DAY, AgendaItem.TYPE_ASSESSMENT_START, 3, UNTIL, 1)));
+        // It ended on the last item of all
+        assertEquals(Collections.emptyList(),
+                describe(agendaDao.getAgendaPage(NEXT_DAY, AgendaItem.TYPE_ASSESSMENT_END, 3, UNTIL, 2)));
+    }
+
+    @Test
+    public void untilIsExcluded() {
+        assertEquals(AGENDA.subList(0, 9),
+                describe(agendaDao.getAgendaPage(DAY, BEFORE_FIRST_TYPE, 0, NEXT_DAY, 100)));
+    }
+
+    /**
+     * Reads the agenda a page at a time, starting each page after the last item of the one before,
+     * until a page is not full.
+     *
+     * @param limit The page size
+     * @return The items read, as "date type id"
+     */
+    private List<String> readInPages(int limit) {
+        List<String> read = new ArrayList<>();
+        List<AgendaItem> page = agendaDao.getAgendaPage(DAY, BEFORE_FIRST_TYPE, 0, UNTIL, limit);
+        while (true) {
+            read.addAll(describe(page));
+            if (page.size() < limit)
+                return read;
+
+            AgendaItem last = page.get(page.size() - 1);
+            page = agendaDao.getAgendaPage(last.getDate(), last.getType(), last.getId(), UNTIL, limit);
+        }
+    }
+
+    private static List<String> describe(List<AgendaItem> items) {
+        List<String> described = new ArrayList<>(items.size());
+        for (AgendaItem item : items)
+            described.add(item.getDate() + " " + item.getType() + " " + item.getId());
+        return described;
+    }
+}
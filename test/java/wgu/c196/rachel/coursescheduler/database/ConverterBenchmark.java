@@ -0,0 +1,282 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import androidx.annotation.NonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.model.Course;
+
+/**
+ * Compares the cost of decoding a row's converted columns before and after version 4.
+ *
+ * <p> Before version 4, date-times were stored as ISO strings and parsed with
+ * LocalDateTime.parse(), and a course's status and an assessment's type were stored as their enum
+ * names and looked up with valueOf(). They are now stored as epoch milliseconds and small integer
+ * codes. Each path decodes a batch of stored values the way Room passes them to the converters,
+ * boxed and sometimes null, and reports the time and the bytes allocated per row. The old
+ * converters are kept here, as they were, so the two can still be compared. </p>
+ *
+ * <p> It only needs a JVM. ConverterBenchmarkTest runs it with the unit tests. </p>
+ */
+public class ConverterBenchmark {
+
+    // The number of values decoded by each timed run
+    private static final int ROWS = 10_000;
+
+    // Runs before timing starts, so the JIT has compiled both paths
+    private static final int WARM_UP_RUNS = 50;
+
+    // One row in this many has a null in each column, like rows that were never given a value
+    private static final int NULL_EVERY = 20;
+
+    private final int iterations;
+    private final Random random;
+
+    // Keeps the decoded values alive, so the JIT cannot skip decoding them
+    private int sink;
+    // The sink once every path has run. Writing it to a volatile field means it has to be computed.
+    private volatile int publishedSink;
+
+    /**
+     * Constructor for ConverterBenchmark.
+     *
+     * @param iterations The number of times each path is timed
+     * @param seed The seed for the stored values
+     */
+    public ConverterBenchmark(int iterations, long seed) {
+        this.iterations = iterations;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Runs every path, the old encoding of each column then the new one.
+     *
+     * @return The times of each path, in the order they were run
+     */
+    public List<Result> run() {
+        LocalDateTime[] dateTimes = new LocalDateTime[ROWS];
+        Course.Status[] statuses = new Course.Status[ROWS];
+        Assessment.Type[] types = new Assessment.Type[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            boolean isNull = i % NULL_EVERY == 0;
+            dateTimes[i] = isNull ? null : LocalDateTime.of(2000, 1, 1, 0, 0)
+                    .plusSeconds(random.nextInt(Integer.MAX_VALUE))
+                    .plusNanos(random.nextInt(1000) * 1_000_000L);
+            statuses[i] = isNull ? null
+                    : Course.Status.statusList.get(random.nextInt(Course.Status.statusList.size()));
+            types[i] = isNull ? null
+                    : Assessment.Type.typeList.get(random.nextInt(Assessment.Type.typeList.size()));
+        }
+
+        // The values as they were stored before and after version 4
+        String[] isoDateTimes = encode(dateTimes, LegacyConverter::dateTimeToString, String[]::new);
+        Long[] epochMillis = encode(dateTimes, DatabaseConverter::dateTimeToTimestamp, Long[]::new);
+        String[] statusNames = encode(statuses, LegacyConverter::fromStatus, String[]::new);
+        Integer[] statusCodes = encode(statuses, DatabaseConverter::fromStatus, Integer[]::new);
+        String[] typeNames = encode(types, LegacyConverter::fromType, String[]::new);
+        Integer[] typeCodes = encode(types, DatabaseConverter::fromType, Integer[]::new);
+
+        List<Result> results = new ArrayList<>();
+        results.add(time("LocalDateTime from ISO string", () -> {
+            for (String value : isoDateTimes)
+                consume(LegacyConverter.stringToDateTime(value));
+        }));
+        results.add(time("LocalDateTime from epoch millis", () -> {
+            for (Long value : epochMillis)
+                consume(DatabaseConverter.timestampToDateTime(value));
+        }));
+        results.add(time("Course.Status from name", () -> {
+            for (String value : statusNames)
+                consume(LegacyConverter.toStatus(value));
+        }));
+        results.add(time("Course.Status from code", () -> {
+            for (Integer value : statusCodes)
+                consume(DatabaseConverter.toStatus(value));
+        }));
+        results.add(time("Assessment.Type from name", () -> {
+            for (String value : typeNames)
+                consume(LegacyConverter.toType(value));
+        }));
+        results.add(time("Assessment.Type from code", () -> {
+            for (Integer value : typeCodes)
+                consume(DatabaseConverter.toType(value));
+        }));
+
+        // The three converted columns together, as one row that had all of them
+        results.add(time("Row, version 3 encoding", () -> {
+            for (int i = 0; i < ROWS; i++) {
+                consume(LegacyConverter.stringToDateTime(isoDateTimes[i]));
+                consume(LegacyConverter.toStatus(statusNames[i]));
+                consume(LegacyConverter.toType(typeNames[i]));
+            }
+        }));
+        results.add(time("Row, version 4 encoding", () -> {
+            for (int i = 0; i < ROWS; i++) {
+                consume(DatabaseConverter.timestampToDateTime(epochMillis[i]));
+                consume(DatabaseConverter.toStatus(statusCodes[i]));
+                consume(DatabaseConverter.toType(typeCodes[i]));
+            }
+        }));
+
+        publishedSink = sink;
+        return results;
+    }
+
+    /**
+     * Formats a list of results as a table, one path per line.
+     *
+     * @param results The results of run()
+     * @return The table
+     */
+    public static String report(List<Result> results) {
+        StringBuilder report = new StringBuilder(String.format(Locale.US,
+                "%-36s %6s %12s %12s %14s%n", "path", "runs", "p50 ns/row", "p95 ns/row",
+                "bytes/row"));
+        for (Result result : results)
+            report.append(result).append('\n');
+        return report.toString();
+    }
+
+    /**
+     * Times a path, and measures what it allocates.
+     *
+     * @param name The name of the path
+     * @param path The path, which decodes ROWS values
+     * @return The times of the path
+     */
+    private Result time(String name, Runnable path) {
+        for (int i = 0; i < WARM_UP_RUNS; i++)
+            path.run();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long allocatedBefore = allocatedBytes(threads);
+
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            path.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+
+        long allocatedAfter = allocatedBytes(threads);
+        double bytesPerRow = allocatedBefore < 0 ? -1
+                : (double) (allocatedAfter - allocatedBefore) / iterations / ROWS;
+        return new Result(name, nanos, bytesPerRow);
+    }
+
+    /**
+     * Gets the bytes this thread has allocated, where the JVM can tell.
+     *
+     * @param threads The JVM's thread bean
+     * @return The bytes allocated so far, or a negative number if the JVM cannot tell
+     */
+    private static long allocatedBytes(ThreadMXBean threads) {
+        if (threads instanceof com.sun.management.ThreadMXBean)
+            return ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes();
+        return -1;
+    }
+
+    private void consume(Object value) {
+        sink += value == null ? 1 : value.hashCode();
+    }
+
+    private static <T, R> R[] encode(T[] values, Function<T, R> converter,
+                                     IntFunction<R[]> newArray) {
+        R[] encoded = newArray.apply(values.length);
+        for (int i = 0; i < values.length; i++)
+            encoded[i] = converter.apply(values[i]);
+        return encoded;
+    }
+
+    /**
+     * The converters as they were before version 4.
+     */
+    static final class LegacyConverter {
+
+        private LegacyConverter() {
+        }
+
+        static String dateTimeToString(LocalDateTime date) {
+            return date == null ? null : date.toString();
+        }
+
+        static LocalDateTime stringToDateTime(String dateString) {
+            return dateString == null ? null : LocalDateTime.parse(dateString);
+        }
+
+        static String fromStatus(Course.Status status) {
+            return status == null ? null : status.name();
+        }
+
+        static Course.Status toStatus(String name) {
+            return name == null ? null : Course.Status.valueOf(name);
+        }
+
+        static String fromType(Assessment.Type type) {
+            return type == null ? null : type.name();
+        }
+
+        static Assessment.Type toType(String name) {
+            return name == null ? null : Assessment.Type.valueOf(name);
+        }
+    }
+
+    /**
+     * The times of one path.
+     */
+    public static class Result {
+        private final String name;
+        private final long[] nanos;
+        private final double bytesPerRow;
+
+        Result(String name, long[] nanos, double bytesPerRow) {
+            this.name = name;
+            this.nanos = nanos.clone();
+            this.bytesPerRow = bytesPerRow;
+            Arrays.sort(this.nanos);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets a percentile of the time it took to decode one row.
+         *
+         * @param percentile The percentile, between 0 and 100
+         * @return The time in nanoseconds per row that the given percent of runs took at most
+         */
+        public double getPercentileNanosPerRow(double percentile) {
+            if (nanos.length == 0)
+                return 0;
+            int index = (int) Math.ceil(percentile / 100.0 * nanos.length) - 1;
+            return (double) nanos[Math.max(0, Math.min(index, nanos.length - 1))] / ROWS;
+        }
+
+        /**
+         * Gets the bytes allocated to decode one row.
+         *
+         * @return The bytes per row, or a negative number if the JVM cannot tell
+         */
+        public double getBytesPerRow() {
+            return bytesPerRow;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "%-36s %6d %12.1f %12.1f %14.1f", name, nanos.length,
+                    getPercentileNanosPerRow(50), getPercentileNanosPerRow(95), bytesPerRow);
+        }
+    }
+}
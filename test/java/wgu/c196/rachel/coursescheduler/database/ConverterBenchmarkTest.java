@@ -0,0 +1,81 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.model.Course;
+
+/**
+ * Runs ConverterBenchmark and reports the time and allocation of each converter path.
+ *
+ * <p> It is a plain JUnit test, with no Android classes: ./gradlew testDebugUnitTest --tests
+ * '*ConverterBenchmarkTest'. The report is written to
+ * build/reports/benchmarks/converters.txt, and BENCHMARK_ITERATIONS sets how many times each path
+ * is timed. The old and new converters are also checked to decode the same values, so the two
+ * encodings being compared hold the same data. </p>
+ */
+public class ConverterBenchmarkTest {
+    private static final long SEED = 196;
+    private static final int DEFAULT_ITERATIONS = 50;
+
+    @Test
+    public void reportConverterPercentiles() throws Exception {
+        String iterations = System.getenv("BENCHMARK_ITERATIONS");
+        List<ConverterBenchmark.Result> results = new ConverterBenchmark(
+                iterations == null ? DEFAULT_ITERATIONS : Integer.parseInt(iterations.trim()),
+                SEED).run();
+
+        DaoBenchmark.publish("converters", ConverterBenchmark.report(results));
+        assertEquals(8, results.size());
+        for (ConverterBenchmark.Result result : results)
+            assertTrue(result.getName(), result.getPercentileNanosPerRow(50) > 0);
+    }
+
+    @Test
+    public void bothEncodingsRoundTripEveryStatus() {
+        for (Course.Status status : Course.Status.statusList) {
+            assertEquals(status, ConverterBenchmark.LegacyConverter.toStatus(
+                    ConverterBenchmark.LegacyConverter.fromStatus(status)));
+            assertEquals(status, DatabaseConverter.toStatus(DatabaseConverter.fromStatus(status)));
+        }
+        assertNull(ConverterBenchmark.LegacyConverter.toStatus(null));
+        assertNull(DatabaseConverter.toStatus(null));
+    }
+
+    @Test
+    public void bothEncodingsRoundTripEveryType() {
+        for (Assessment.Type type : Assessment.Type.typeList) {
+            assertEquals(type, ConverterBenchmark.LegacyConverter.toType(
+                    ConverterBenchmark.LegacyConverter.fromType(type)));
+            assertEquals(type, DatabaseConverter.toType(DatabaseConverter.fromType(type)));
+        }
+        assertNull(ConverterBenchmark.LegacyConverter.toType(null));
+        assertNull(DatabaseConverter.toType(null));
+    }
+
+    @Test
+    public void bothEncodingsRoundTripDateTimesToTheMillisecond() {
+        LocalDateTime[] dateTimes = {
+                LocalDateTime.of(2000, 1, 1, 0, 0),
+                LocalDateTime.of(2021, 6, 30, 23, 59, 59, 999_000_000),
+                // Before the epoch, where the milliseconds are negative
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1_000_000),
+                LocalDateTime.of(2068, 2, 29, 12, 30, 15, 500_000_000),
+        };
+        for (LocalDateTime dateTime : dateTimes) {
+            assertEquals(dateTime, ConverterBenchmark.LegacyConverter.stringToDateTime(
+                    ConverterBenchmark.LegacyConverter.dateTimeToString(dateTime)));
+            assertEquals(dateTime, DatabaseConverter.timestampToDateTime(
+                    DatabaseConverter.dateTimeToTimestamp(dateTime)));
+        }
+        assertNull(ConverterBenchmark.LegacyConverter.stringToDateTime(null));
+        assertNull(DatabaseConverter.timestampToDateTime(null));
+    }
+}
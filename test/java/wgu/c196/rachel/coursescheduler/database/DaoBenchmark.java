@@ -0,0 +1,473 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import wgu.c196.rachel.coursescheduler.dao.AssessmentDao;
+import wgu.c196.rachel.coursescheduler.dao.CourseDao;
+import wgu.c196.rachel.coursescheduler.dao.CourseInstructorDao;
+import wgu.c196.rachel.coursescheduler.dao.TermDao;
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.Term;
+
+/**
+ * Times the DAO queries and writes.
+ *
+ * <p> This class runs every DAO read and write path a number of times against a database, usually
+ * one filled by SyntheticDataGenerator, and reports the 50th, 95th, and 99th percentile times of
+ * each. Every path calls the DAO method itself, so the times follow the queries the app runs.
+ * A LiveData query is timed from observing it until its first value arrives, and a paged query
+ * from creating its PagingSource until its first page is loaded, as a Pager does. Deleting every
+ * row of a table is the only path left out, since it would empty the database. </p>
+ *
+ * <p> Observing LiveData needs the main thread, while Room does not allow queries on it, so the
+ * database must be built with allowMainThreadQueries() and run with a TaskExecutor that treats
+ * every thread as the main thread, such as InstantTaskExecutorRule's. DaoBenchmarkTest runs it
+ * that way on the JVM under Robolectric. </p>
+ */
+public class DaoBenchmark {
+
+    // Benchmark rows are written with IDs from here, so they never collide with generated rows
+    private static final int FIRST_WRITE_ID = 1_000_000_000;
+
+    // The number of rows in each batch write, and the page size of the app's Pagers
+    private static final int BATCH_SIZE = 100;
+    private static final int PAGE_SIZE = 50;
+
+    // The longest a LiveData query is waited for
+    private static final long LIVE_DATA_TIMEOUT_SECONDS = 60;
+
+    private final ScheduleRoomDatabase database;
+    private final int iterations;
+    private final Random random;
+    private int nextWriteId = FIRST_WRITE_ID;
+
+    /**
+     * Constructor for DaoBenchmark.
+     *
+     * @param database The database to run against, which should already have rows in every table
+     * @param iterations The number of times each path is timed
+     * @param seed The seed used to pick the IDs that are queried
+     */
+    public DaoBenchmark(ScheduleRoomDatabase database, int iterations, long seed) {
+        this.database = database;
+        this.iterations = iterations;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Runs every path and returns their times.
+     *
+     * @return The times of each path, in the order they were run
+     */
+    public List<Result> run() {
+        TermDao termDao = database.termDao();
+        CourseDao courseDao = database.courseDao();
+        AssessmentDao assessmentDao = database.assessmentDao();
+        CourseInstructorDao instructorDao = database.courseInstructorDao();
+
+        int termCount = Math.max(1, termDao.getSize());
+        int courseCount = Math.max(1, courseDao.getSize());
+        int assessmentCount = Math.max(1, assessmentDao.getSize());
+        int instructorCount = Math.max(1, instructorDao.getSize());
+
+        List<Result> results = new ArrayList<>();
+
+        // Reads
+        results.add(time("TermDao.getSize", termDao::getSize));
+        results.add(time("TermDao.getTermFromId",
+                () -> termDao.getTermFromId(1 + random.nextInt(termCount))));
+        results.add(time("TermDao.getLiveTerm",
+                () -> await(termDao.getLiveTerm(1 + random.nextInt(termCount)))));
+        results.add(time("TermDao.getAllTermsNonLive", termDao::getAllTermsNonLive));
+        results.add(time("TermDao.getAllTerms", () -> await(termDao.getAllTerms())));
+        results.add(time("TermDao.getPagedTerms",
+                () -> PagingSources.loadFirstPage(termDao.getPagedTerms(), PAGE_SIZE)));
+        results.add(time("TermDao.getTermsWithCourses",
+                () -> termDao.getTermsWithCourses(randomIds(termCount, PAGE_SIZE))));
+
+        results.add(time("CourseDao.getSize", courseDao::getSize));
+        results.add(time("CourseDao.getCourseFromId",
+                () -> courseDao.getCourseFromId(1 + random.nextInt(courseCount))));
+        results.add(time("CourseDao.getLiveCourse",
+                () -> await(courseDao.getLiveCourse(1 + random.nextInt(courseCount)))));
+        results.add(time("CourseDao.getCoursesForTerm",
+                () -> await(courseDao.getCoursesForTerm(1 + random.nextInt(termCount)))));
+        results.add(time("CourseDao.getCoursesForTermNotLive",
+                () -> courseDao.getCoursesForTermNotLive(1 + random.nextInt(termCount))));
+        results.add(time("CourseDao.getCoursesForInstructor",
+                () -> await(courseDao.getCoursesForInstructor(1 + random.nextInt(instructorCount)))));
+        results.add(time("CourseDao.getAllCourses", () -> await(courseDao.getAllCourses())));
+        results.add(time("CourseDao.getAllCoursesNonLive", courseDao::getAllCoursesNonLive));
+        results.add(time("CourseDao.getPagedCourses",
+                () -> PagingSources.loadFirstPage(courseDao.getPagedCourses(), PAGE_SIZE)));
+        results.add(time("CourseDao.getPagedCoursesForTerm",
+                () -> PagingSources.loadFirstPage(
+                        courseDao.getPagedCoursesForTerm(1 + random.nextInt(termCount)), PAGE_SIZE)));
+
+        results.add(time("AssessmentDao.getSize", assessmentDao::getSize));
+        results.add(time("AssessmentDao.getAssessmentFromId",
+                () -> await(assessmentDao.getAssessmentFromId(1 + random.nextInt(assessmentCount)))));
+        results.add(time("AssessmentDao.getAssessmentsForCourse",
+                () -> await(assessmentDao.getAssessmentsForCourse(1 + random.nextInt(courseCount)))));
+        results.add(time("AssessmentDao.getAllAssessments",
+                () -> await(assessmentDao.getAllAssessments())));
+        results.add(time("AssessmentDao.getPagedAssessments",
+                () -> PagingSources.loadFirstPage(assessmentDao.getPagedAssessments(), PAGE_SIZE)));
+        results.add(time("AssessmentDao.getPagedAssessmentsForCourse",
+                () -> PagingSources.loadFirstPage(assessmentDao.getPagedAssessmentsForCourse(
+                        1 + random.nextInt(courseCount)), PAGE_SIZE)));
+
+        results.add(time("CourseInstructorDao.getSize", instructorDao::getSize));
+        results.add(time("CourseInstructorDao.getInstructorFromId",
+                () -> instructorDao.getInstructorFromId(1 + random.nextInt(instructorCount))));
+        results.add(time("CourseInstructorDao.getLiveInstructor",
+                () -> await(instructorDao.getLiveInstructor(1 + random.nextInt(instructorCount)))));
+        results.add(time("CourseInstructorDao.getAllInstructors",
+                () -> await(instructorDao.getAllInstructors())));
+        results.add(time("CourseInstructorDao.getAllInstructorsNonLive",
+                instructorDao::getAllInstructorsNonLive));
+        results.add(time("CourseInstructorDao.getPagedInstructors",
+                () -> PagingSources.loadFirstPage(instructorDao.getPagedInstructors(), PAGE_SIZE)));
+
+        results.add(time("SearchDao.search",
+                () -> database.searchDao().search(SearchQuery.create("java", 50))));
+
+        // Writes, on rows that are created for the benchmark and deleted again
+        results.add(time("TermDao.insert", () -> termDao.insert(newTerm())));
+        results.add(time("CourseInstructorDao.insert", () -> instructorDao.insert(newInstructor())));
+        results.add(time("CourseDao.insert", () -> courseDao.insert(newCourse())));
+        results.add(time("AssessmentDao.insert", () -> assessmentDao.insert(newAssessment())));
+
+        // Upserts of new rows insert them, the same as the add screens do
+        results.add(time("TermDao.upsert", () -> termDao.upsert(newTerm())));
+        results.add(time("CourseInstructorDao.upsert", () -> instructorDao.upsert(newInstructor())));
+        results.add(time("CourseDao.upsert", () -> courseDao.upsert(newCourse())));
+        results.add(time("AssessmentDao.upsert", () -> assessmentDao.upsert(newAssessment())));
+
+        List<Term> terms = new ArrayList<>();
+        List<CourseInstructor> instructors = new ArrayList<>();
+        List<Course> courses = new ArrayList<>();
+        List<Assessment> assessments = new ArrayList<>();
+        results.add(time("TermDao.insertAll", () -> termDao.insertAll(batch(terms, this::newTerm))));
+        results.add(time("CourseInstructorDao.insertAll",
+                () -> instructorDao.insertAll(batch(instructors, this::newInstructor))));
+        results.add(time("CourseDao.insertAll",
+                () -> courseDao.insertAll(batch(courses, this::newCourse))));
+        results.add(time("AssessmentDao.insertAll",
+                () -> assessmentDao.insertAll(batch(assessments, this::newAssessment))));
+
+        results.add(time("TermDao.update", () -> termDao.update(rename(terms.get(0)))));
+        results.add(time("CourseDao.update", () -> courseDao.update(rename(courses.get(0)))));
+        results.add(time("AssessmentDao.update",
+                () -> assessmentDao.update(rename(assessments.get(0)))));
+        results.add(time("CourseInstructorDao.update",
+                () -> instructorDao.update(rename(instructors.get(0)))));
+
+        results.add(time("TermDao.updateAll", () -> termDao.updateAll(lastBatch(terms))));
+        results.add(time("CourseDao.updateAll", () -> courseDao.updateAll(lastBatch(courses))));
+        results.add(time("AssessmentDao.updateAll",
+                () -> assessmentDao.updateAll(lastBatch(assessments))));
+        results.add(time("CourseInstructorDao.updateAll",
+                () -> instructorDao.updateAll(lastBatch(instructors))));
+
+        // Children are deleted before their parents, so no time is spent cascading
+        results.add(time("AssessmentDao.deleteAll",
+                () -> assessmentDao.deleteAll(takeIds(assessments))));
+        results.add(time("CourseDao.deleteAll", () -> courseDao.deleteAll(takeIds(courses))));
+        results.add(time("TermDao.deleteAll", () -> termDao.deleteAll(takeIds(terms))));
+        results.add(time("CourseInstructorDao.deleteAll",
+                () -> instructorDao.deleteAll(takeIds(instructors))));
+
+        // Single deletes remove rows inserted beforehand, one for each run and the warm up
+        Iterator<Assessment> assessmentsToDelete =
+                prefill(this::newAssessment, assessmentDao::insertAll).iterator();
+        results.add(time("AssessmentDao.delete",
+                () -> assessmentDao.delete(assessmentsToDelete.next())));
+        Iterator<Course> coursesToDelete = prefill(this::newCourse, courseDao::insertAll).iterator();
+        results.add(time("CourseDao.delete", () -> courseDao.delete(coursesToDelete.next())));
+        Iterator<Term> termsToDelete = prefill(this::newTerm, termDao::insertAll).iterator();
+        results.add(time("TermDao.delete", () -> termDao.delete(termsToDelete.next())));
+        Iterator<CourseInstructor> instructorsToDelete =
+                prefill(this::newInstructor, instructorDao::insertAll).iterator();
+        results.add(time("CourseInstructorDao.delete",
+                () -> instructorDao.delete(instructorsToDelete.next())));
+
+        // Remove any benchmark rows that are left
+        database.runInTransaction(() -> {
+            for (String table : new String[] {"assessment_table", "course_table", "term_table",
+                    "course_instructor_table"}) {
+                database.getOpenHelper().getWritableDatabase()
+                        .execSQL("DELETE FROM " + table + " WHERE id >= " + FIRST_WRITE_ID);
+            }
+        });
+
+        return results;
+    }
+
+    /**
+     * Formats a list of results as a table, one path per line.
+     *
+     * @param results The results of run()
+     * @return The table
+     */
+    public static String report(List<Result> results) {
+        StringBuilder report = new StringBuilder(String.format(Locale.US,
+                "%-44s %6s %10s %10s %10s %10s%n", "path", "runs", "p50 us", "p95 us", "p99 us", "max us"));
+        for (Result result : results)
+            report.append(result).append('\n');
+        return report.toString();
+    }
+
+    /**
+     * Writes a report to build/reports/benchmarks, so a headless run keeps it.
+     *
+     * @param name The name of the report file, without an extension
+     * @param report The report
+     * @throws IOException if the file cannot be written
+     */
+    public static void publish(String name, String report) throws IOException {
+        File directory = new File("build/reports/benchmarks");
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("Could not create " + directory);
+        try (Writer writer = new FileWriter(new File(directory, name + ".txt"))) {
+            writer.write(report);
+        }
+    }
+
+    /**
+     * Times a path.
+     *
+     * <p> The path is run once first so that its statement is compiled and the pages it reads
+     * are cached before timing starts. </p>
+     * @param name The name of the path
+     * @param path The path to time
+     * @return The times of the path
+     */
+    private Result time(String name, Runnable path) {
+        path.run();
+
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            path.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        return new Result(name, nanos);
+    }
+
+    /**
+     * Observes a LiveData query until it has a value.
+     *
+     * @param liveData The LiveData returned by a DAO
+     * @return The first value of the query
+     * @throws IllegalStateException if no value arrives in time
+     */
+    private static <T> T await(LiveData<T> liveData) {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<T> value = new AtomicReference<>();
+        Observer<T> observer = result -> {
+            value.set(result);
+            latch.countDown();
+        };
+
+        liveData.observeForever(observer);
+        try {
+            if (!latch.await(LIVE_DATA_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                throw new IllegalStateException("LiveData query did not return a value");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a LiveData query", e);
+        } finally {
+            liveData.removeObserver(observer);
+        }
+        return value.get();
+    }
+
+    /**
+     * Picks random IDs between 1 and max.
+     *
+     * @param max The largest ID
+     * @param count The number of IDs to pick
+     * @return The IDs
+     */
+    private List<Integer> randomIds(int max, int count) {
+        List<Integer> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            ids.add(1 + random.nextInt(max));
+        return ids;
+    }
+
+    private Term newTerm() {
+        return new Term(nextWriteId++, "Benchmark term", LocalDate.now(), LocalDate.now());
+    }
+
+    private CourseInstructor newInstructor() {
+        return new CourseInstructor(nextWriteId++, "Benchmark instructor", "000-0000", "bench@example.edu");
+    }
+
+    // The benchmark courses and assessments belong to the first generated term, instructor, and course
+    private Course newCourse() {
+        Course course = new Course();
+        course.setId(nextWriteId++);
+        course.setTitle("Benchmark course");
+        course.setTermId(1);
+        course.setCourseInstructorId(1);
+        course.setStatus(Course.Status.PLAN_TO_TAKE);
+        return course;
+    }
+
+    private Assessment newAssessment() {
+        return new Assessment(nextWriteId++, "Benchmark assessment", Assessment.Type.OBJECTIVE,
+                LocalDate.now(), LocalDate.now(), 1);
+    }
+
+    // Each update writes a new title, so SQLite cannot skip it as unchanged
+
+    private Term rename(Term term) {
+        term.setTitle("Benchmark term " + random.nextInt());
+        return term;
+    }
+
+    private Course rename(Course course) {
+        course.setTitle("Benchmark course " + random.nextInt());
+        return course;
+    }
+
+    private Assessment rename(Assessment assessment) {
+        assessment.setTitle("Benchmark assessment " + random.nextInt());
+        return assessment;
+    }
+
+    private CourseInstructor rename(CourseInstructor instructor) {
+        instructor.setName("Benchmark instructor " + random.nextInt());
+        return instructor;
+    }
+
+    /**
+     * Inserts one row for each run of a path, plus one for its warm up.
+     *
+     * @param create Creates a new row
+     * @param insertAll Inserts a list of rows
+     * @return The inserted rows
+     */
+    private <T> List<T> prefill(Supplier<T> create, Consumer<List<T>> insertAll) {
+        List<T> rows = new ArrayList<>(iterations + 1);
+        for (int i = 0; i <= iterations; i++)
+            rows.add(create.get());
+        insertAll.accept(rows);
+        return rows;
+    }
+
+    /**
+     * Creates a batch of rows and adds them to a list of all batches written so far.
+     *
+     * @param written The rows written so far
+     * @param create Creates a new row
+     * @return The new batch
+     */
+    private <T> List<T> batch(List<T> written, Supplier<T> create) {
+        List<T> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++)
+            batch.add(create.get());
+        written.addAll(batch);
+        return batch;
+    }
+
+    /**
+     * Gets the most recently written batch.
+     *
+     * @param written The rows written so far
+     * @return The last BATCH_SIZE rows
+     */
+    private static <T> List<T> lastBatch(List<T> written) {
+        return written.subList(Math.max(0, written.size() - BATCH_SIZE), written.size());
+    }
+
+    /**
+     * Removes the most recently written batch and returns its IDs.
+     *
+     * @param written The rows written so far, which must be Terms, Courses, Assessments, or
+     *                CourseInstructors
+     * @return The IDs of the removed rows
+     */
+    private static List<Integer> takeIds(List<?> written) {
+        List<?> batch = lastBatch(written);
+        List<Integer> ids = new ArrayList<>(batch.size());
+        for (Object row : batch) {
+            if (row instanceof Term)
+                ids.add(((Term) row).getId());
+            else if (row instanceof Course)
+                ids.add(((Course) row).getId());
+            else if (row instanceof Assessment)
+                ids.add(((Assessment) row).getId());
+            else if (row instanceof CourseInstructor)
+                ids.add(((CourseInstructor) row).getId());
+        }
+        batch.clear();
+        return ids;
+    }
+
+    /**
+     * The times of one path.
+     */
+    public static class Result {
+        private final String name;
+        private final long[] nanos;
+
+        Result(String name, long[] nanos) {
+            this.name = name;
+            this.nanos = nanos.clone();
+            Arrays.sort(this.nanos);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return nanos.length;
+        }
+
+        /**
+         * Gets a percentile of the times.
+         *
+         * @param percentile The percentile, between 0 and 100
+         * @return The time in nanoseconds that the given percent of runs took at most
+         */
+        public long getPercentileNanos(double percentile) {
+            if (nanos.length == 0)
+                return 0;
+            int index = (int) Math.ceil(percentile / 100.0 * nanos.length) - 1;
+            return nanos[Math.max(0, Math.min(index, nanos.length - 1))];
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "%-44s %6d %10.1f %10.1f %10.1f %10.1f", name,
+                    nanos.length, getPercentileNanos(50) / 1000.0, getPercentileNanos(95) / 1000.0,
+                    getPercentileNanos(99) / 1000.0, getPercentileNanos(100) / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import androidx.arch.core.executor.testing.InstantTaskExecutorRule;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs DaoBenchmark on the JVM and reports the percentile times of every DAO path.
+ *
+ * <p> It runs headless with the unit tests, on any machine with a JDK:
+ * ./gradlew testDebugUnitTest --tests '*DaoBenchmarkTest'. The report is written to
+ * build/reports/benchmarks/dao.txt. The database is filled with SyntheticDataGenerator's default
+ * volumes, which can be changed with the BENCHMARK_TERMS, BENCHMARK_COURSES,
+ * BENCHMARK_ASSESSMENTS, and BENCHMARK_INSTRUCTORS environment variables, and
+ * BENCHMARK_ITERATIONS sets how many times each path is timed. The test also checks that every
+ * path ran that many times and that the benchmark left the tables as it found them. </p>
+ */
+@RunWith(RobolectricTestRunner.class)
+// The real SQLite, with FTS4 and matchinfo(), instead of Robolectric's legacy emulation
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class DaoBenchmarkTest {
+    private static final String DATABASE = "dao-benchmark";
+    private static final long SEED = 196;
+    private static final int DEFAULT_ITERATIONS = 50;
+
+    // Lets the benchmark observe LiveData from the test's thread, see DaoBenchmark
+    @Rule
+    public InstantTaskExecutorRule instantTaskExecutorRule = new InstantTaskExecutorRule();
+
+    private Context context;
+    private ScheduleRoomDatabase database;
+
+    @Before
+    public void setUp() {
+        context = ApplicationProvider.getApplicationContext();
+        context.deleteDatabase(DATABASE);
+        database = ScheduleRoomDatabase.builder(context, DATABASE)
+                .allowMainThreadQueries()
+                .build();
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+        context.deleteDatabase(DATABASE);
+    }
+
+    @Test
+    public void reportDaoPercentiles() throws Exception {
+        SyntheticDataGenerator.fromEnvironment(SEED).populate(database);
+        int[] sizes = tableSizes();
+        for (int size : sizes)
+            assertTrue(size > 0);
+
+        String variable = System.getenv("BENCHMARK_ITERATIONS");
+        int iterations = variable == null ? DEFAULT_ITERATIONS : Integer.parseInt(variable.trim());
+        List<DaoBenchmark.Result> results = new DaoBenchmark(database, iterations, SEED).run();
+
+        DaoBenchmark.publish("dao", DaoBenchmark.report(results));
+        Set<String> names = new HashSet<>();
+        for (DaoBenchmark.Result result : results) {
+            assertEquals(result.getName(), iterations, result.getCount());
+            assertTrue("timed twice: " + result.getName(), names.add(result.getName()));
+        }
+        // Every row the benchmark wrote is deleted again, so later paths and runs see the same data
+        assertArrayEquals(sizes, tableSizes());
+    }
+
+    @Test
+    public void resultPercentiles() {
+        DaoBenchmark.Result result = new DaoBenchmark.Result("path", new long[] {5, 1, 4, 2, 3});
+        assertEquals(5, result.getCount());
+        assertEquals(1, result.getPercentileNanos(0));
+        assertEquals(3, result.getPercentileNanos(50));
+        assertEquals(5, result.getPercentileNanos(95));
+        assertEquals(5, result.getPercentileNanos(100));
+        assertEquals(0, new DaoBenchmark.Result("empty", new long[0]).getPercentileNanos(50));
+    }
+
+    /**
+     * Counts the rows of the tables the benchmark writes to.
+     *
+     * @return The number of terms, courses, assessments, and instructors
+     */
+    private int[] tableSizes() {
+        return new int[] {database.termDao().getSize(), database.courseDao().getSize(),
+                database.assessmentDao().getSize(), database.courseInstructorDao().getSize()};
+    }
+}
@@ -0,0 +1,129 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Checks that EntityCache keeps loaded rows until they are evicted, and that a load racing an
+ * eviction never caches the row it read.
+ *
+ * <p> The rows are plain strings standing in for a table, and each test counts the loads that reach
+ * it. It runs under Robolectric for android.util.LruCache. </p>
+ */
+@RunWith(RobolectricTestRunner.class)
+public class EntityCacheTest {
+    private final Map<Integer, String> table = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final EntityCache<String> cache = new EntityCache<>("test_table", 2);
+
+    private final IntFunction<String> load = id -> {
+        loads.incrementAndGet();
+        return table.get(id);
+    };
+
+    @Test
+    public void loadedRowIsCached() {
+        table.put(1, "one");
+
+        assertEquals("one", cache.get(1, load));
+        assertSame(cache.get(1, load), cache.get(1, load));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.missCount());
+        assertEquals(2, cache.hitCount());
+    }
+
+    @Test
+    public void missingRowIsNotCached() {
+        assertNull(cache.get(1, load));
+        table.put(1, "one");
+
+        assertEquals("one", cache.get(1, load));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void invalidateEvictsOnlyThatRow() {
+        table.put(1, "one");
+        table.put(2, "two");
+        cache.get(1, load);
+        cache.get(2, load);
+
+        table.put(1, "one, edited");
+        cache.invalidate(1);
+
+        assertEquals("one, edited", cache.get(1, load));
+        assertEquals("two", cache.get(2, load));
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.invalidationCount());
+    }
+
+    @Test
+    public void loadRacingInvalidateIsReturnedButNotCached() {
+        table.put(1, "old");
+        // The row is written, and evicted, after the load read it but before the load returns
+        String row = cache.get(1, id -> {
+            String read = load.apply(id);
+            table.put(id, "new");
+            cache.invalidate(id);
+            return read;
+        });
+
+        assertEquals("old", row);
+        assertEquals(0, cache.size());
+        assertEquals("new", cache.get(1, load));
+    }
+
+    @Test
+    public void loadRacingInvalidateAllIsReturnedButNotCached() {
+        table.put(1, "old");
+        String row = cache.get(1, id -> {
+            String read = load.apply(id);
+            table.put(id, "new");
+            cache.invalidateAll();
+            return read;
+        });
+
+        assertEquals("old", row);
+        assertEquals(0, cache.size());
+        assertEquals("new", cache.get(1, load));
+    }
+
+    @Test
+    public void loadAfterInvalidateIsCached() {
+        table.put(1, "one");
+        cache.invalidateAll();
+
+        // An eviction before the load started does not stop the row being cached
+        cache.get(1, load);
+        cache.get(1, load);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void leastRecentlyUsedRowIsDroppedWhenFull() {
+        table.put(1, "one");
+        table.put(2, "two");
+        table.put(3, "three");
+        cache.get(1, load);
+        cache.get(2, load);
+        cache.get(1, load);
+        cache.get(3, load);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        // Row 2 was used least recently, so it is the one loaded again
+        cache.get(1, load);
+        cache.get(2, load);
+        assertEquals(4, loads.get());
+    }
+}
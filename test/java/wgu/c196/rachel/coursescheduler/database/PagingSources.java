@@ -0,0 +1,50 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import androidx.paging.PagingSource;
+
+import java.util.List;
+
+import kotlin.coroutines.Continuation;
+import kotlin.coroutines.EmptyCoroutineContext;
+import kotlinx.coroutines.BuildersKt;
+import kotlinx.coroutines.CoroutineScope;
+
+/**
+ * Loads pages from the PagingSources the DAOs return, the way a Pager does.
+ */
+final class PagingSources {
+
+    // A Pager's first load is three pages, see PagingConfig.initialLoadSize
+    private static final int INITIAL_PAGES = 3;
+
+    private PagingSources() {
+    }
+
+    /**
+     * Loads the first page, as a Pager does when a list is first shown.
+     *
+     * <p> PagingSource.load() is a suspending function, so it is run in runBlocking(), which
+     * waits while Room runs the query on the database's query executor. </p>
+     * @param source A new PagingSource from a DAO
+     * @param pageSize The page size of the Pager
+     * @return The rows of the first page
+     * @throws IllegalStateException if the page could not be loaded
+     */
+    static <T> List<T> loadFirstPage(PagingSource<Integer, T> source, int pageSize) {
+        PagingSource.LoadParams<Integer> params =
+                new PagingSource.LoadParams.Refresh<>(null, INITIAL_PAGES * pageSize, false);
+        PagingSource.LoadResult<Integer, T> result;
+        try {
+            result = BuildersKt.runBlocking(EmptyCoroutineContext.INSTANCE,
+                    (CoroutineScope scope, Continuation<? super PagingSource.LoadResult<Integer, T>> continuation) ->
+                            source.load(params, continuation));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted loading a page", e);
+        }
+
+        if (result instanceof PagingSource.LoadResult.Page)
+            return ((PagingSource.LoadResult.Page<Integer, T>) result).getData();
+        throw new IllegalStateException("Could not load a page: " + result);
+    }
+}
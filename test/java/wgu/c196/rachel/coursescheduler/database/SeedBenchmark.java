@@ -0,0 +1,298 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import wgu.c196.rachel.coursescheduler.dao.AssessmentDao;
+import wgu.c196.rachel.coursescheduler.dao.CourseDao;
+import wgu.c196.rachel.coursescheduler.dao.CourseInstructorDao;
+import wgu.c196.rachel.coursescheduler.dao.TermDao;
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.Term;
+import wgu.c196.rachel.coursescheduler.util.StartupTrace;
+
+/**
+ * Times a first launch, from building the database to the first page of terms, for each way of
+ * seeding it.
+ *
+ * <p> Before DatabaseSeeder, the demo rows were written by an onCreate callback that posted one
+ * DAO insert per row to the write thread, with no transaction, so the first query raced the seed
+ * and could show some of the rows. That callback is kept here, as it was, so the two can still be
+ * compared. Each run deletes the database, so it is created and seeded again, and records the
+ * launch with StartupTrace: building the database, its onOpen, and the first query as a section
+ * that ends when the first page has been read. The time until every seeded row has been written
+ * is measured too, and so is how often the first page was missing rows. StartupTrace is reset
+ * before each run, and QueryMetrics is turned off so it does not mark the first query itself.
+ * SeedBenchmarkTest runs it on the JVM under Robolectric. It must not be run on the main
+ * thread. </p>
+ */
+public class SeedBenchmark {
+
+    /**
+     * The ways a new database is seeded.
+     */
+    public enum Seeding {
+        // The callback from before DatabaseSeeder
+        ROW_BY_ROW("row by row"),
+        // DatabaseSeeder with the demo seed
+        TRANSACTION("one transaction");
+
+        private final String label;
+
+        Seeding(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * The number of terms both ways seed.
+     */
+    public static final int SEEDED_TERMS = 6;
+
+    // The page size of the Pager that TermsFragment reads its terms from
+    private static final int PAGE_SIZE = 50;
+
+    private static final String[] STEPS = {"database open", "first query", "seed complete"};
+
+    // Marks when the database is opened, as getDatabase() does
+    private static final RoomDatabase.Callback OPEN_MARK = new RoomDatabase.Callback() {
+        @Override
+        public void onOpen(@NonNull SupportSQLiteDatabase db) {
+            super.onOpen(db);
+            StartupTrace.mark(StartupTrace.DATABASE_OPEN);
+        }
+    };
+
+    private final Context context;
+    private final String databaseName;
+    private final int iterations;
+    private final int[] incompleteFirstPages = new int[Seeding.values().length];
+
+    /**
+     * Constructor for SeedBenchmark.
+     *
+     * @param context The context the app would start in
+     * @param databaseName The name of the database file, which is deleted before every run
+     * @param iterations The number of times each way is timed
+     */
+    public SeedBenchmark(Context context, String databaseName, int iterations) {
+        this.context = context;
+        this.databaseName = databaseName;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Runs a first launch with each way of seeding, taking turns, and returns the times.
+     *
+     * <p> Each way is run once first so that the classes it uses are loaded before timing
+     * starts. </p>
+     * @return The times of each step for each way, in the order of Seeding and then STEPS
+     */
+    public List<DaoBenchmark.Result> run() {
+        Seeding[] seedings = Seeding.values();
+        long[][][] nanos = new long[seedings.length][STEPS.length][iterations];
+
+        boolean wasEnabled = QueryMetrics.isEnabled();
+        QueryMetrics.setEnabled(false);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            for (Seeding seeding : seedings)
+                runOnce(seeding, writer, new long[STEPS.length]);
+            Arrays.fill(incompleteFirstPages, 0);
+
+            for (int i = 0; i < iterations; i++) {
+                for (Seeding seeding : seedings) {
+                    long[] steps = new long[STEPS.length];
+                    runOnce(seeding, writer, steps);
+                    for (int step = 0; step < STEPS.length; step++)
+                        nanos[seeding.ordinal()][step][i] = steps[step];
+                }
+            }
+        } finally {
+            writer.shutdownNow();
+            QueryMetrics.setEnabled(wasEnabled);
+            StartupTrace.reset();
+            context.deleteDatabase(databaseName);
+        }
+
+        List<DaoBenchmark.Result> results = new ArrayList<>();
+        for (Seeding seeding : seedings) {
+            for (int step = 0; step < STEPS.length; step++)
+                results.add(new DaoBenchmark.Result(seeding.label + ": " + STEPS[step],
+                        nanos[seeding.ordinal()][step]));
+        }
+        return results;
+    }
+
+    /**
+     * Gets how many timed runs read a first page that was missing some of the seeded terms.
+     *
+     * @param seeding The way of seeding
+     * @return The number of runs, out of the iterations
+     */
+    public int getIncompleteFirstPages(Seeding seeding) {
+        return incompleteFirstPages[seeding.ordinal()];
+    }
+
+    /**
+     * Formats the results as a table, one step per line, followed by how often the first page
+     * was missing rows.
+     *
+     * @param results The results of run()
+     * @return The table
+     */
+    public String report(List<DaoBenchmark.Result> results) {
+        StringBuilder report = new StringBuilder(DaoBenchmark.report(results));
+        for (Seeding seeding : Seeding.values())
+            report.append(String.format(Locale.US,
+                    "%s: first page missing seeded terms in %d of %d runs%n", seeding.label,
+                    getIncompleteFirstPages(seeding), iterations));
+        return report.toString();
+    }
+
+    /**
+     * Runs one first launch.
+     *
+     * @param seeding The way of seeding
+     * @param writer The write thread the row by row seeding posts its inserts to
+     * @param steps Filled with the time from the start of the launch to the end of each step
+     */
+    private void runOnce(Seeding seeding, ExecutorService writer, long[] steps) {
+        context.deleteDatabase(databaseName);
+        StartupTrace.reset();
+        AtomicReference<ScheduleRoomDatabase> instance = new AtomicReference<>();
+
+        long start = System.nanoTime();
+        ScheduleRoomDatabase database = StartupTrace.section(StartupTrace.DATABASE_BUILD,
+                () -> seed(seeding, ScheduleRoomDatabase.builder(context, databaseName), writer,
+                        instance)
+                        .addCallback(OPEN_MARK)
+                        .build());
+        instance.set(database);
+
+        try {
+            // Room creates, seeds, and opens the database on the first query
+            int terms = StartupTrace.section(StartupTrace.FIRST_QUERY, () ->
+                    PagingSources.loadFirstPage(database.termDao().getPagedTerms(), PAGE_SIZE).size());
+            if (terms < SEEDED_TERMS)
+                incompleteFirstPages[seeding.ordinal()]++;
+
+            // The write thread runs one task at a time, so this waits for any seeding before it
+            writer.submit(() -> { }).get();
+            long seeded = System.nanoTime();
+
+            Map<String, StartupTrace.Phase> phases = new HashMap<>();
+            for (StartupTrace.Phase phase : StartupTrace.phases())
+                phases.put(phase.name, phase);
+            StartupTrace.Phase build = phases.get(StartupTrace.DATABASE_BUILD);
+            StartupTrace.Phase open = phases.get(StartupTrace.DATABASE_OPEN);
+            StartupTrace.Phase query = phases.get(StartupTrace.FIRST_QUERY);
+
+            steps[0] = (open.startMicros - build.startMicros) * 1000;
+            steps[1] = (query.startMicros + query.durationMicros - build.startMicros) * 1000;
+            steps[2] = seeded - start;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the seed", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The seed failed", e);
+        } finally {
+            database.close();
+        }
+    }
+
+    private RoomDatabase.Builder<ScheduleRoomDatabase> seed(
+            Seeding seeding, RoomDatabase.Builder<ScheduleRoomDatabase> builder,
+            ExecutorService writer, AtomicReference<ScheduleRoomDatabase> instance) {
+        if (seeding == Seeding.ROW_BY_ROW)
+            return builder.addCallback(new RowByRowSeeder(writer, instance));
+        return DatabaseSeeder.seed(builder, context, DatabaseSeeder.Mode.DEMO);
+    }
+
+    /**
+     * The onCreate callback that seeded the database before DatabaseSeeder, with the same rows.
+     */
+    static final class RowByRowSeeder extends RoomDatabase.Callback {
+        private final ExecutorService writer;
+        private final AtomicReference<ScheduleRoomDatabase> instance;
+
+        RowByRowSeeder(ExecutorService writer, AtomicReference<ScheduleRoomDatabase> instance) {
+            this.writer = writer;
+            this.instance = instance;
+        }
+
+        @Override
+        public void onCreate(@NonNull SupportSQLiteDatabase db) {
+            super.onCreate(db);
+
+            writer.execute(() -> {
+                TermDao termDao = instance.get().termDao();
+                termDao.insert(new Term("Term 1", LocalDate.now().plusDays(1), LocalDate.now().plusDays(2)));
+                termDao.insert(new Term("Term 2", LocalDate.now(), LocalDate.now()));
+                termDao.insert(new Term("Term 3", LocalDate.now(), LocalDate.now()));
+                termDao.insert(new Term("Term 4", LocalDate.now(), LocalDate.now()));
+                termDao.insert(new Term("Term 5", LocalDate.now(), LocalDate.now()));
+
+                Term term = new Term();
+                term.setTitle("Test6");
+                termDao.insert(term);
+
+                CourseInstructorDao courseInstructorDao = instance.get().courseInstructorDao();
+                courseInstructorDao.insert(new CourseInstructor("Wooyoung", "111-1111", "wy@ateez"));
+                courseInstructorDao.insert(new CourseInstructor("San", "222-1111", "san@ateez"));
+                courseInstructorDao.insert(new CourseInstructor("Hongjoong", "333-1111", "leader@ateez"));
+                courseInstructorDao.insert(new CourseInstructor("Seonghwa", "444-1111", "sh@ateez"));
+
+                CourseDao courseDao = instance.get().courseDao();
+                courseDao.insert(course("Dancing", 1, Course.Status.IN_PROGRESS, 0, 3, "A note"));
+                courseDao.insert(course("Singing", 2, Course.Status.IN_PROGRESS, 0, 5,
+                        "This is just a short note."));
+                courseDao.insert(course("Rap", 3, Course.Status.PLAN_TO_TAKE, null, null, null));
+                courseDao.insert(course("Cleaning", 4, Course.Status.COMPLETED, null, null, null));
+
+                AssessmentDao assessmentDao = instance.get().assessmentDao();
+                assessmentDao.insert(new Assessment("Test1", Assessment.Type.OBJECTIVE, LocalDate.now(), LocalDate.now(), 1));
+                assessmentDao.insert(new Assessment("Test2", Assessment.Type.PERFORMANCE, LocalDate.now(), LocalDate.now(), 1));
+                assessmentDao.insert(new Assessment("Test3", Assessment.Type.OBJECTIVE, LocalDate.now(), LocalDate.now(), 2));
+                assessmentDao.insert(new Assessment("Test4", Assessment.Type.PERFORMANCE, LocalDate.now(), LocalDate.now(), 2));
+                assessmentDao.insert(new Assessment("Test5", Assessment.Type.OBJECTIVE, LocalDate.now(), LocalDate.now(), 3));
+                assessmentDao.insert(new Assessment("Test6", Assessment.Type.PERFORMANCE, LocalDate.now(), LocalDate.now(), 3));
+                assessmentDao.insert(new Assessment("Test7", Assessment.Type.OBJECTIVE, LocalDate.now(), LocalDate.now(), 1));
+                assessmentDao.insert(new Assessment("Test8", Assessment.Type.PERFORMANCE, LocalDate.now(), LocalDate.now(), 1));
+                assessmentDao.insert(new Assessment("Test9", Assessment.Type.OBJECTIVE, LocalDate.now(), LocalDate.now(), 1));
+            });
+        }
+
+        private static Course course(String title, int instructorId, Course.Status status,
+                                     Integer startDays, Integer endDays, String note) {
+            Course course = new Course();
+            course.setTitle(title);
+            course.setCourseInstructorId(instructorId);
+            course.setTermId(1);
+            course.setStatus(status);
+            if (startDays != null)
+                course.setStartDate(LocalDate.now().plusDays(startDays));
+            if (endDays != null)
+                course.setEndDate(LocalDate.now().plusDays(endDays));
+            course.setNote(note);
+            return course;
+        }
+    }
+}
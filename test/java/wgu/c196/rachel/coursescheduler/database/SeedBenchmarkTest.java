@@ -0,0 +1,121 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import wgu.c196.rachel.coursescheduler.model.Term;
+
+/**
+ * Runs SeedBenchmark on the JVM and reports the first launch with each way of seeding.
+ *
+ * <p> It runs headless with the unit tests: ./gradlew testDebugUnitTest --tests
+ * '*SeedBenchmarkTest'. The report is written to build/reports/benchmarks/seed.txt.
+ * DatabaseSeeder reads its seed from the assets, so the unit tests need
+ * testOptions.unitTests.includeAndroidResources. As for StartupBenchmarkTest, the benchmark runs
+ * on a thread of its own. The two ways of seeding are also checked to write the same rows, so
+ * the benchmark compares the same work. </p>
+ */
+@RunWith(RobolectricTestRunner.class)
+// The real SQLite, with FTS4, instead of Robolectric's legacy emulation
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class SeedBenchmarkTest {
+    private static final String DATABASE = "seed-benchmark";
+    private static final int ITERATIONS = 20;
+
+    private Context context;
+    private ExecutorService thread;
+
+    @Before
+    public void setUp() {
+        context = ApplicationProvider.getApplicationContext();
+        thread = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        thread.shutdownNow();
+        context.deleteDatabase(DATABASE);
+    }
+
+    @Test
+    public void reportFirstLaunchBySeeding() throws Exception {
+        SeedBenchmark benchmark = new SeedBenchmark(context, DATABASE, ITERATIONS);
+        List<DaoBenchmark.Result> results = thread.submit(benchmark::run).get();
+
+        DaoBenchmark.publish("seed", benchmark.report(results));
+        assertEquals(6, results.size());
+        for (DaoBenchmark.Result result : results)
+            assertTrue(result.getName(), result.getPercentileNanos(50) > 0);
+        // The first query waits for the seed's transaction, so it always sees every row
+        assertEquals(0, benchmark.getIncompleteFirstPages(SeedBenchmark.Seeding.TRANSACTION));
+    }
+
+    @Test
+    public void bothSeedingsWriteTheSameRows() throws Exception {
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            AtomicReference<ScheduleRoomDatabase> instance = new AtomicReference<>();
+            ScheduleRoomDatabase rowByRow = ScheduleRoomDatabase.builder(context, DATABASE)
+                    .addCallback(new SeedBenchmark.RowByRowSeeder(writer, instance))
+                    .build();
+            instance.set(rowByRow);
+            List<String> expected;
+            try {
+                // Opens the database, which posts the inserts to the write thread, then waits for them
+                thread.submit(() -> rowByRow.termDao().getSize()).get();
+                writer.submit(() -> { }).get();
+                expected = thread.submit(() -> seededRows(rowByRow)).get();
+            } finally {
+                rowByRow.close();
+                context.deleteDatabase(DATABASE);
+            }
+
+            ScheduleRoomDatabase transaction = DatabaseSeeder.seed(
+                    ScheduleRoomDatabase.builder(context, DATABASE), context,
+                    DatabaseSeeder.Mode.DEMO).build();
+            try {
+                List<String> actual = thread.submit(() -> seededRows(transaction)).get();
+                assertEquals(expected, actual);
+                assertEquals("terms " + SeedBenchmark.SEEDED_TERMS, actual.get(0));
+            } finally {
+                transaction.close();
+            }
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads what a seeded database holds: the size of each table, then the title of each term.
+     *
+     * @param database The seeded database
+     * @return The sizes of the term, instructor, course, and assessment tables, then the titles
+     */
+    private static List<String> seededRows(ScheduleRoomDatabase database) {
+        List<String> rows = new ArrayList<>();
+        rows.add("terms " + database.termDao().getSize());
+        rows.add("instructors " + database.courseInstructorDao().getSize());
+        rows.add("courses " + database.courseDao().getSize());
+        rows.add("assessments " + database.assessmentDao().getSize());
+        for (Term term : database.termDao().getAllTermsNonLive())
+            rows.add(term.getTitle());
+        return rows;
+    }
+}
@@ -0,0 +1,115 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import wgu.c196.rachel.coursescheduler.util.AlertChannels;
+
+/**
+ * Times the steps the app takes from launch to the first page of terms.
+ *
+ * <p> Each run repeats the startup path the way a cold start runs it: the notification channels
+ * are created, a new database instance is built and opened, and the first page TermsFragment
+ * shows is read, after which the instance is closed again. The time of each step and of the
+ * whole path are reported like DaoBenchmark's, so a regression can be traced to the step that
+ * caused it. Binding the first row needs a window, so it is only measured in the app, by
+ * StartupTrace. StartupBenchmarkTest runs it on the JVM under Robolectric. It must not be run on
+ * the main thread. </p>
+ */
+public class StartupBenchmark {
+
+    // The page size of the Pager that TermsFragment reads its terms from
+    private static final int PAGE_SIZE = 50;
+
+    private static final String[] STEPS = {"AlertChannels.createChannels",
+            "ScheduleRoomDatabase.build", "ScheduleRoomDatabase.open", "TermDao.getPagedTerms",
+            "total"};
+
+    private final Context context;
+    private final String databaseName;
+    private final int iterations;
+
+    /**
+     * Constructor for StartupBenchmark.
+     *
+     * @param context The context the app would start in
+     * @param databaseName The name of the database file to open, usually a copy of one filled by
+     *                     SyntheticDataGenerator. It is migrated if it needs to be, but no
+     *                     rows are written.
+     * @param iterations The number of times the path is timed
+     */
+    public StartupBenchmark(Context context, String databaseName, int iterations) {
+        this.context = context;
+        this.databaseName = databaseName;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Runs the startup path and returns the times of each step.
+     *
+     * <p> The path is run once first so that the classes it uses are loaded before timing
+     * starts. The channels already exist after that run, as they do on every launch but the
+     * first. </p>
+     * @return The times of each step, in the order they run, and then of the whole path
+     */
+    public List<DaoBenchmark.Result> run() {
+        long[][] nanos = new long[STEPS.length][iterations];
+
+        runOnce(new long[STEPS.length]);
+        for (int i = 0; i < iterations; i++) {
+            long[] steps = new long[STEPS.length];
+            runOnce(steps);
+            for (int step = 0; step < STEPS.length; step++)
+                nanos[step][i] = steps[step];
+        }
+
+        List<DaoBenchmark.Result> results = new ArrayList<>(STEPS.length);
+        for (int step = 0; step < STEPS.length; step++)
+            results.add(new DaoBenchmark.Result(STEPS[step], nanos[step]));
+        return results;
+    }
+
+    /**
+     * Formats a list of results as a table, one step per line.
+     *
+     * @param results The results of run()
+     * @return The table
+     */
+    public static String report(List<DaoBenchmark.Result> results) {
+        return DaoBenchmark.report(results);
+    }
+
+    /**
+     * Runs the startup path once.
+     *
+     * @param steps Filled with the time of each step, in nanoseconds, and of the whole path
+     */
+    private void runOnce(long[] steps) {
+        long start = System.nanoTime();
+
+        AlertChannels.createChannels(context);
+        long channels = System.nanoTime();
+
+        ScheduleRoomDatabase database = ScheduleRoomDatabase.builder(context, databaseName).build();
+        long built = System.nanoTime();
+
+        try {
+            // Room opens the database on the first query, which runs any migrations
+            database.getOpenHelper().getWritableDatabase();
+            long opened = System.nanoTime();
+
+            PagingSources.loadFirstPage(database.termDao().getPagedTerms(), PAGE_SIZE);
+            long end = System.nanoTime();
+
+            steps[0] = channels - start;
+            steps[1] = built - channels;
+            steps[2] = opened - built;
+            steps[3] = end - opened;
+            steps[4] = end - start;
+        } finally {
+            database.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs StartupBenchmark on the JVM and prints the time of each startup phase.
+ *
+ * <p> It runs headless with the unit tests: ./gradlew testDebugUnitTest --tests
+ * '*StartupBenchmarkTest'. The database is filled by SyntheticDataGenerator first, then every
+ * iteration opens it again from the file, as a cold start does. Room does not allow queries on
+ * the main thread, which is the test's thread under Robolectric, so the benchmark runs on a
+ * thread of its own. The volumes of data are set as for DaoBenchmarkTest. </p>
+ */
+@RunWith(RobolectricTestRunner.class)
+// The real SQLite, with FTS4, instead of Robolectric's legacy emulation
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class StartupBenchmarkTest {
+    private static final String DATABASE = "startup-benchmark";
+    private static final long SEED = 196;
+    private static final int ITERATIONS = 20;
+
+    private Context context;
+    private ExecutorService thread;
+
+    @Before
+    public void setUp() {
+        context = ApplicationProvider.getApplicationContext();
+        thread = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        thread.shutdownNow();
+        context.deleteDatabase(DATABASE);
+    }
+
+    @Test
+    public void reportStartupPhases() throws Exception {
+        List<DaoBenchmark.Result> results = thread.submit(() -> {
+            ScheduleRoomDatabase database = ScheduleRoomDatabase.builder(context, DATABASE).build();
+            try {
+                SyntheticDataGenerator.fromEnvironment(SEED).populate(database);
+            } finally {
+                database.close();
+            }
+            return new StartupBenchmark(context, DATABASE, ITERATIONS).run();
+        }).get();
+
+        DaoBenchmark.publish("startup", StartupBenchmark.report(results));
+        assertEquals(5, results.size());
+        for (DaoBenchmark.Result result : results)
+            assertTrue(result.getName(), result.getPercentileNanos(50) > 0);
+    }
+}
@@ -0,0 +1,256 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import wgu.c196.rachel.coursescheduler.model.Assessment;
+import wgu.c196.rachel.coursescheduler.model.Course;
+import wgu.c196.rachel.coursescheduler.model.CourseInstructor;
+import wgu.c196.rachel.coursescheduler.model.Term;
+
+/**
+ * Fills the database with a large amount of made-up data.
+ *
+ * <p> This class is used to see how the queries behave with far more rows than the few in
+ * the demo seed. The data only depends on the seed and the volumes, so the same seed always
+ * gives the same rows, with the same IDs, and the results of two runs can be compared. Rows are
+ * inserted in batches, all in one transaction. </p>
+ */
+public class SyntheticDataGenerator {
+
+    // The default volumes, close to what a large school would have
+    public static final int DEFAULT_TERMS = 1_000;
+    public static final int DEFAULT_COURSES = 50_000;
+    public static final int DEFAULT_ASSESSMENTS = 500_000;
+    public static final int DEFAULT_INSTRUCTORS = 5_000;
+
+    // The number of rows inserted by each insertAll() call
+    private static final int BATCH_SIZE = 1_000;
+
+    // The first day of the first term; terms follow each other from here
+    private static final LocalDate FIRST_TERM_START = LocalDate.of(2000, 1, 1);
+    private static final int TERM_LENGTH_DAYS = 180;
+
+    private static final String[] SUBJECTS = {"Algebra", "Biology", "Chemistry", "Databases",
+            "Economics", "French", "Geology", "History", "Java", "Literature", "Marketing",
+            "Networking", "Physics", "Statistics", "Writing"};
+    private static final String[] LEVELS = {"I", "II", "III", "Intro to", "Advanced", "Applied"};
+    private static final String[] WORDS = {"read", "chapter", "project", "lab", "exam", "review",
+            "notes", "essay", "group", "quiz", "deadline", "outline", "draft", "final"};
+    private static final String[] NAMES = {"Ada", "Alan", "Barbara", "Claude", "Donald", "Edsger",
+            "Frances", "Grace", "John", "Ken", "Linus", "Margaret", "Niklaus", "Radia", "Tim"};
+
+    private final int terms;
+    private final int courses;
+    private final int assessments;
+    private final int instructors;
+    private final long seed;
+
+    /**
+     * Constructor for SyntheticDataGenerator with the default volumes.
+     *
+     * @param seed The seed for the random data
+     */
+    public SyntheticDataGenerator(long seed) {
+        this(seed, DEFAULT_TERMS, DEFAULT_COURSES, DEFAULT_ASSESSMENTS, DEFAULT_INSTRUCTORS);
+    }
+
+    /**
+     * Creates a generator with the volumes set by the environment.
+     *
+     * <p> The volumes are read from BENCHMARK_TERMS, BENCHMARK_COURSES, BENCHMARK_ASSESSMENTS,
+     * and BENCHMARK_INSTRUCTORS, and any that are not set are the defaults. Environment variables
+     * reach the test JVM without any build setup, so a headless run can be scaled from the
+     * command line. </p>
+     * @param seed The seed for the random data
+     * @return The generator
+     * @throws IllegalArgumentException if a volume is not a number, or is not valid
+     */
+    public static SyntheticDataGenerator fromEnvironment(long seed) {
+        return new SyntheticDataGenerator(seed, getVolume("BENCHMARK_TERMS", DEFAULT_TERMS),
+                getVolume("BENCHMARK_COURSES", DEFAULT_COURSES),
+                getVolume("BENCHMARK_ASSESSMENTS", DEFAULT_ASSESSMENTS),
+                getVolume("BENCHMARK_INSTRUCTORS", DEFAULT_INSTRUCTORS));
+    }
+
+    private static int getVolume(String name, int defaultVolume) {
+        String value = System.getenv(name);
+        return value == null || value.isEmpty() ? defaultVolume : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Constructor for SyntheticDataGenerator.
+     *
+     * @param seed The seed for the random data
+     * @param terms The number of terms to create
+     * @param courses The number of courses to create, spread over the terms
+     * @param assessments The number of assessments to create, spread over the courses
+     * @param instructors The number of course instructors to create
+     * @throws IllegalArgumentException if a volume is negative, or there are courses without terms
+     *                                  or instructors, or assessments without courses
+     */
+    public SyntheticDataGenerator(long seed, int terms, int courses, int assessments, int instructors) {
+        if (terms < 0 || courses < 0 || assessments < 0 || instructors < 0)
+            throw new IllegalArgumentException("Volumes cannot be negative");
+        if (courses > 0 && (terms == 0 || instructors == 0))
+            throw new IllegalArgumentException("Courses need at least one term and one instructor");
+        if (assessments > 0 && courses == 0)
+            throw new IllegalArgumentException("Assessments need at least one course");
+
+        this.seed = seed;
+        this.terms = terms;
+        this.courses = courses;
+        this.assessments = assessments;
+        this.instructors = instructors;
+    }
+
+    /**
+     * Inserts the generated rows into the database.
+     *
+     * <p> This should be called on a background thread, on an empty database. Generated IDs start
+     * at 1 in each table, so inserting into a database that already has rows will skip the rows
+     * whose IDs are taken. </p>
+     * @param database The database to fill
+     */
+    public void populate(ScheduleRoomDatabase database) {
+        Random random = new Random(seed);
+
+        database.runInTransaction(() -> {
+            List<Term> termBatch = new ArrayList<>(BATCH_SIZE);
+            for (int id = 1; id <= terms; id++) {
+                termBatch.add(createTerm(id));
+                if (termBatch.size() == BATCH_SIZE) {
+                    database.termDao().insertAll(termBatch);
+                    termBatch.clear();
+                }
+            }
+            database.termDao().insertAll(termBatch);
+
+            List<CourseInstructor> instructorBatch = new ArrayList<>(BATCH_SIZE);
+            for (int id = 1; id <= instructors; id++) {
+                instructorBatch.add(createInstructor(id, random));
+                if (instructorBatch.size() == BATCH_SIZE) {
+                    database.courseInstructorDao().insertAll(instructorBatch);
+                    instructorBatch.clear();
+                }
+            }
+            database.courseInstructorDao().insertAll(instructorBatch);
+
+            List<Course> courseBatch = new ArrayList<>(BATCH_SIZE);
+            for (int id = 1; id <= courses; id++) {
+                courseBatch.add(createCourse(id, random));
+                if (courseBatch.size() == BATCH_SIZE) {
+                    database.courseDao().insertAll(courseBatch);
+                    courseBatch.clear();
+                }
+            }
+            database.courseDao().insertAll(courseBatch);
+
+            List<Assessment> assessmentBatch = new ArrayList<>(BATCH_SIZE);
+            for (int id = 1; id <= assessments; id++) {
+                assessmentBatch.add(createAssessment(id, random));
+                if (assessmentBatch.size() == BATCH_SIZE) {
+                    database.assessmentDao().insertAll(assessmentBatch);
+                    assessmentBatch.clear();
+                }
+            }
+            database.assessmentDao().insertAll(assessmentBatch);
+        });
+    }
+
+    /**
+     * Creates a term. Terms follow each other without gaps, so the data covers a long range of dates.
+     *
+     * @param id The ID of the term
+     * @return The term
+     */
+    private Term createTerm(int id) {
+        LocalDate start = FIRST_TERM_START.plusDays((long) (id - 1) * TERM_LENGTH_DAYS);
+        return new Term(id, "Term " + id, start, start.plusDays(TERM_LENGTH_DAYS - 1));
+    }
+
+    /**
+     * Creates a course instructor with a made-up name, phone number, and email address.
+     *
+     * @param id The ID of the course instructor
+     * @param random The source of random data
+     * @return The course instructor
+     */
+    private CourseInstructor createInstructor(int id, Random random) {
+        String name = pick(NAMES, random) + " " + pick(NAMES, random) + " " + id;
+        String phone = String.format("%03d-%04d", random.nextInt(1000), random.nextInt(10000));
+        return new CourseInstructor(id, name, phone, "instructor" + id + "@example.edu");
+    }
+
+    /**
+     * Creates a course in a random term, with a random instructor, status, and note.
+     *
+     * @param id The ID of the course
+     * @param random The source of random data
+     * @return The course
+     */
+    private Course createCourse(int id, Random random) {
+        int termId = 1 + random.nextInt(terms);
+        LocalDate termStart = FIRST_TERM_START.plusDays((long) (termId - 1) * TERM_LENGTH_DAYS);
+        LocalDate start = termStart.plusDays(random.nextInt(TERM_LENGTH_DAYS / 2));
+
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle(pick(LEVELS, random) + " " + pick(SUBJECTS, random) + " " + id);
+        course.setTermId(termId);
+        course.setCourseInstructorId(1 + random.nextInt(instructors));
+        course.setStatus(Course.Status.statusList.get(random.nextInt(Course.Status.statusList.size())));
+        course.setStartDate(start);
+        course.setEndDate(start.plusDays(30 + random.nextInt(TERM_LENGTH_DAYS / 2 - 30)));
+        course.setNote(createNote(random));
+        return course;
+    }
+
+    /**
+     * Creates an assessment for a random course.
+     *
+     * @param id The ID of the assessment
+     * @param random The source of random data
+     * @return The assessment
+     */
+    private Assessment createAssessment(int id, Random random) {
+        int courseId = 1 + random.nextInt(courses);
+        Assessment.Type type = Assessment.Type.typeList.get(random.nextInt(Assessment.Type.typeList.size()));
+        LocalDate start = FIRST_TERM_START.plusDays(random.nextInt(terms * TERM_LENGTH_DAYS));
+        return new Assessment(id, pick(SUBJECTS, random) + " " + type + " " + id, type,
+                start, start.plusDays(random.nextInt(14)), courseId);
+    }
+
+    /**
+     * Creates a note of a few random words, or no note for some courses.
+     *
+     * @param random The source of random data
+     * @return The note, or null
+     */
+    private static String createNote(Random random) {
+        int length = random.nextInt(12);
+        if (length == 0)
+            return null;
+
+        StringBuilder note = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0)
+                note.append(' ');
+            note.append(pick(WORDS, random));
+        }
+        return note.toString();
+    }
+
+    /**
+     * Picks a random element of an array.
+     *
+     * @param values The array to pick from
+     * @param random The source of random data
+     * @return The element
+     */
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,166 @@
+package wgu.c196.rachel.coursescheduler.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.content.Context;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import wgu.c196.rachel.coursescheduler.model.Term;
+
+/**
+ * Checks that WriteQueue batches the writes waiting for the write thread into one transaction,
+ * and that a failed write in a batch only fails itself.
+ *
+ * <p> The write thread is a queue of tasks that each test runs by hand, so the writes submitted
+ * before it runs are known to be in the same batch. </p>
+ */
+@RunWith(RobolectricTestRunner.class)
+// The real SQLite instead of Robolectric's legacy emulation
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class WriteQueueTest {
+    private static final String DATABASE = "write-queue-test";
+
+    private Context context;
+    private ScheduleRoomDatabase database;
+    private final ArrayDeque<Runnable> writeThread = new ArrayDeque<>();
+    private WriteQueue queue;
+
+    @Before
+    public void setUp() {
+        context = ApplicationProvider.getApplicationContext();
+        context.deleteDatabase(DATABASE);
+        database = ScheduleRoomDatabase.builder(context, DATABASE)
+                .allowMainThreadQueries()
+                .build();
+        queue = new WriteQueue(database, writeThread::add);
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+        context.deleteDatabase(DATABASE);
+    }
+
+    @Test
+    public void waitingWritesRunInOneTransaction() throws Exception {
+        List<String> events = new ArrayList<>();
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            String name = "Term " + i;
+            futures.add(queue.submit("insert", () -> {
+                assertTrue(database.inTransaction());
+                events.add("write " + name);
+                return database.termDao().insert(newTerm(name));
+            }, () -> events.add("commit " + name)));
+        }
+
+        // Only one drain is scheduled for the whole batch
+        assertEquals(1, writeThread.size());
+        runWriteThread();
+
+        // Every write runs before the first one is committed, so they share a transaction
+        assertEquals(Arrays.asList("write Term 1", "write Term 2", "write Term 3",
+                "commit Term 1", "commit Term 2", "commit Term 3"), events);
+        // And they run in the order they were submitted
+        for (int i = 0; i < futures.size(); i++)
+            assertEquals(i + 1, (long) futures.get(i).get());
+        assertEquals(3, database.termDao().getSize());
+    }
+
+    @Test
+    public void failedWriteIsRetriedAloneAndOnlyItFails() throws Exception {
+        IllegalStateException failure = new IllegalStateException("write failed");
+        List<String> commits = new ArrayList<>();
+
+        CompletableFuture<Long> first = queue.submit("insert",
+                () -> database.termDao().insert(newTerm("First")), () -> commits.add("First"));
+        CompletableFuture<Void> failed = queue.run("fail", () -> {
+            database.termDao().insert(newTerm("Failed"));
+            throw failure;
+        }, () -> commits.add("Failed"));
+        CompletableFuture<Long> last = queue.submit("insert",
+                () -> database.termDao().insert(newTerm("Last")), () -> commits.add("Last"));
+        runWriteThread();
+
+        assertTrue(first.isDone());
+        assertTrue(last.isDone());
+        assertFalse(first.isCompletedExceptionally());
+        assertFalse(last.isCompletedExceptionally());
+        try {
+            failed.get();
+            fail("The failed write completed normally");
+        } catch (ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+
+        // The batch was rolled back before its writes were run again, so nothing was written twice,
+        // and the failed write's own transaction was rolled back too
+        List<String> titles = new ArrayList<>();
+        for (Term term : database.termDao().getAllTermsNonLive())
+            titles.add(term.getTitle());
+        assertEquals(Arrays.asList("First", "Last"), titles);
+        // A write that failed does not run its afterCommit action
+        assertEquals(Arrays.asList("First", "Last"), commits);
+    }
+
+    @Test
+    public void largeBurstIsSplitIntoBatches() {
+        int writes = 300;
+        List<CompletableFuture<Long>> futures = new ArrayList<>(writes);
+        for (int i = 0; i < writes; i++) {
+            String title = "Term " + i;
+            futures.add(queue.submit("insert", () -> database.termDao().insert(newTerm(title)), null));
+        }
+
+        // The first batch is full, and it schedules the next batch for the rest
+        writeThread.poll().run();
+        assertEquals(1, writeThread.size());
+        assertEquals(256, countDone(futures));
+
+        runWriteThread();
+        assertEquals(writes, countDone(futures));
+        assertEquals(writes, database.termDao().getSize());
+    }
+
+    /**
+     * Runs the tasks on the write thread, including any they schedule, until none are left.
+     */
+    private void runWriteThread() {
+        Runnable task;
+        while ((task = writeThread.poll()) != null)
+            task.run();
+    }
+
+    private static int countDone(List<? extends CompletableFuture<?>> futures) {
+        int done = 0;
+        for (CompletableFuture<?> future : futures) {
+            if (future.isDone())
+                done++;
+        }
+        return done;
+    }
+
+    private static Term newTerm(String title) {
+        return new Term(title, LocalDate.of(2021, 1, 1), LocalDate.of(2021, 6, 30));
+    }
+}
@@ -0,0 +1,167 @@
+package wgu.c196.rachel.coursescheduler.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks that ICalendarWriter escapes text and folds long lines as RFC 5545 requires.
+ *
+ * <p> It is a plain JUnit test. Lines are folded at 75 octets of UTF-8, not 75 characters, so the
+ * folding is checked with text of one, two, three, and four octets a character. </p>
+ */
+public class ICalendarWriterTest {
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final LocalDate START = LocalDate.of(2021, 1, 4);
+    private static final LocalDate END = LocalDate.of(2021, 6, 30);
+
+    // Text of two, three, and four octets a character. The last is a surrogate pair in Java.
+    private static final String E_ACUTE = "\u00e9";
+    private static final String JAPANESE = "\u65e5\u672c\u8a9e";
+    private static final String BOOKS = "\ud83d\udcda";
+
+    @Test
+    public void escapeEscapesTextSpecials() {
+        assertEquals("a\\\\b\\;c\\,d\\ne", ICalendarWriter.escape("a\\b;c,d\r\ne"));
+        assertEquals("Biology: cells & DNA", ICalendarWriter.escape("Biology: cells & DNA"));
+        assertEquals("", ICalendarWriter.escape(""));
+    }
+
+    @Test
+    public void calendarIsFramedAndEveryLineEndsWithCrlf() throws IOException {
+        String calendar = write("Biology");
+
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(calendar.endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n"));
+        assertFalse(calendar.replace("\r\n", "").contains("\n"));
+        assertFalse(calendar.replace("\r\n", "").contains("\r"));
+    }
+
+    @Test
+    public void eventEndsTheDayAfterItsLastDay() throws IOException {
+        List<String> lines = lines(write("Biology"));
+        assertTrue(lines.contains("DTSTART;VALUE=DATE:20210104"));
+        assertTrue(lines.contains("DTEND;VALUE=DATE:20210701"));
+
+        // With no end, or an end before the start, the event is the start date alone
+        StringWriter out = new StringWriter();
+        ICalendarWriter calendar = new ICalendarWriter(out);
+        calendar.writeEvent("a", "Course", "A", START, null);
+        calendar.writeEvent("b", "Course", "B", START, START.minusDays(1));
+        calendar.finish();
+        lines = lines(out.toString());
+        assertEquals(2, lines.stream().filter("DTEND;VALUE=DATE:20210105"::equals).count());
+    }
+
+    @Test
+    public void lineOfExactly75OctetsIsNotFolded() throws IOException {
+        // "SUMMARY:" is 8 octets
+        String summary = repeat("a", MAX_LINE_OCTETS - 8);
+        assertEquals(Arrays.asList("SUMMARY:" + summary), summaryLines(write(summary)));
+    }
+
+    @Test
+    public void longAsciiLineIsFoldedAt75Octets() throws IOException {
+        String summary = repeat("a", MAX_LINE_OCTETS - 8 + 1);
+        assertEquals(Arrays.asList("SUMMARY:" + repeat("a", MAX_LINE_OCTETS - 8), " a"),
+                summaryLines(write(summary)));
+    }
+
+    @Test
+    public void multibyteCharacterIsMovedWholeToTheNextLine() throws IOException {
+        // 74 octets, then a two-octet character that would make 76
+        String summary = repeat("a", MAX_LINE_OCTETS - 9) + E_ACUTE;
+        assertEquals(Arrays.asList("SUMMARY:" + repeat("a", MAX_LINE_OCTETS - 9), " " + E_ACUTE),
+                summaryLines(write(summary)));
+    }
+
+    @Test
+    public void multibyteTextIsFoldedWithinTheLimitAndUnfoldsUnchanged() throws IOException {
+        String[] texts = {repeat(E_ACUTE, 100), repeat(JAPANESE, 40), repeat(BOOKS, 50),
+                repeat("a" + E_ACUTE + JAPANESE + BOOKS, 30)};
+        for (String text : texts) {
+            List<String> lines = summaryLines(write(text));
+            assertTrue(lines.size() > 1);
+            for (String line : lines) {
+                assertTrue(line, line.getBytes(StandardCharsets.UTF_8).length <= MAX_LINE_OCTETS);
+                // A surrogate pair is never split between lines
+                assertFalse(line, Character.isLowSurrogate(line.charAt(line.startsWith(" ") ? 1 : 0)));
+                assertFalse(line, Character.isHighSurrogate(line.charAt(line.length() - 1)));
+            }
+            assertEquals("SUMMARY:" + text, unfold(lines));
+        }
+    }
+
+    @Test
+    public void escapedTextIsFoldedAfterEscaping() throws IOException {
+        String summary = repeat("Labs, quizzes; and notes\\", 5);
+        List<String> lines = summaryLines(write(summary));
+
+        for (String line : lines)
+            assertTrue(line, line.getBytes(StandardCharsets.UTF_8).length <= MAX_LINE_OCTETS);
+        assertEquals("SUMMARY:" + ICalendarWriter.escape(summary), unfold(lines));
+    }
+
+    /**
+     * Writes a calendar with one course event.
+     *
+     * @param summary The title of the event
+     * @return The calendar
+     */
+    private static String write(String summary) throws IOException {
+        StringWriter out = new StringWriter();
+        ICalendarWriter calendar = new ICalendarWriter(out);
+        calendar.writeEvent("course-1@coursescheduler", "Course", summary, START, END);
+        calendar.finish();
+        return out.toString();
+    }
+
+    private static List<String> lines(String calendar) {
+        return Arrays.asList(calendar.split("\r\n"));
+    }
+
+    /**
+     * Gets the physical lines of the SUMMARY property: its first line and the continuation lines
+     * after it.
+     *
+     * @param calendar The calendar
+     * @return The lines, without their line endings
+     */
+    private static List<String> summaryLines(String calendar) {
+        List<String> summary = new ArrayList<>();
+        for (String line : lines(calendar)) {
+            if (line.startsWith("SUMMARY:"))
+                summary.add(line);
+            else if (!summary.isEmpty() && line.startsWith(" "))
+                summary.add(line);
+            else if (!summary.isEmpty())
+                break;
+        }
+        return summary;
+    }
+
+    // Joins folded lines back into one, dropping the space that starts each continuation line
+    private static String unfold(List<String> lines) {
+        StringBuilder unfolded = new StringBuilder(lines.get(0));
+        for (String line : lines.subList(1, lines.size()))
+            unfolded.append(line.substring(1));
+        return unfolded.toString();
+    }
+
+    private static String repeat(String text, int times) {
+        StringBuilder repeated = new StringBuilder(text.length() * times);
+        for (int i = 0; i < times; i++)
+            repeated.append(text);
+        return repeated.toString();
+    }
+}